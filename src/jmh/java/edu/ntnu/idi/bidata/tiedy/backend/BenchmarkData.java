@@ -0,0 +1,94 @@
+package edu.ntnu.idi.bidata.tiedy.backend;
+
+import edu.ntnu.idi.bidata.tiedy.backend.io.json.JsonDAO;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.TaskBuilder;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Generates the data sets the benchmarks run against and writes them to the test data files, where
+ * the repositories created with {@code isTest} set load them from.
+ *
+ * <p>The data sets are generated from a fixed seed, so every run of a benchmark sees the same
+ * distribution of deadlines, statuses and assignees.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public final class BenchmarkData {
+
+  /** The password of every generated user. */
+  public static final String PASSWORD = "benchmarkPassword";
+
+  /** The Monday of the first week the deadlines of the generated tasks fall in. */
+  public static final LocalDate FIRST_WEEK = LocalDate.of(2025, 1, 6);
+
+  /** The number of weeks the deadlines of the generated tasks are spread over. */
+  public static final int WEEKS = 52;
+
+  private static final long SEED = 42;
+
+  private BenchmarkData() {}
+
+  /**
+   * Generates users named {@code user0}, {@code user1} and so on. Hashing the passwords dominates,
+   * so keep the count small.
+   *
+   * @param count the number of users
+   * @return the users
+   */
+  public static List<User> users(int count) {
+    List<User> users = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      users.add(new User("user" + i, PASSWORD));
+    }
+    return users;
+  }
+
+  /**
+   * Generates tasks assigned to one of the given users each, in turn, so every user gets the same
+   * number of tasks give or take one. The deadlines are spread evenly over {@value #WEEKS} weeks
+   * from {@link #FIRST_WEEK}.
+   *
+   * @param count the number of tasks
+   * @param userIds the ids of the users to assign the tasks to
+   * @return the tasks
+   */
+  public static List<Task> tasks(int count, List<UUID> userIds) {
+    Random random = new Random(SEED);
+    List<Task> tasks = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Task task =
+          new TaskBuilder()
+              .title("Task " + i)
+              .description("Generated for benchmarking")
+              .deadline(FIRST_WEEK.plusDays(random.nextInt(WEEKS * 7)))
+              .priority(Priority.values()[random.nextInt(Priority.values().length)])
+              .status(Status.values()[random.nextInt(Status.values().length)])
+              .build();
+      task.assignUser(userIds.get(i % userIds.size()));
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
+  /**
+   * Replaces the test data files of the given type with a snapshot of the given entities and an
+   * empty journal.
+   *
+   * @param entityClass the class of the entities
+   * @param entities the entities to write
+   * @param <T> the type of the entities
+   */
+  public static <T> void write(Class<T> entityClass, Collection<T> entities) {
+    new JsonDAO<>(entityClass, true, true).checkpoint(entities);
+  }
+}
@@ -0,0 +1,101 @@
+package edu.ntnu.idi.bidata.tiedy.backend;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonGroupRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonTaskRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonUserRepository;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the calls of the {@link DataAccessFacade} behind the main views against data sets of
+ * increasing size: the tasks of a week, the statistics of a user and logging in. The facade copies
+ * every entity it hands out, which these benchmarks include.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataAccessFacadeBenchmark {
+
+  private static final int USER_COUNT = 20;
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  private int taskCount;
+
+  private DataAccessFacade facade;
+  private List<User> users;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    users = BenchmarkData.users(USER_COUNT);
+    BenchmarkData.write(User.class, users);
+    BenchmarkData.write(
+        Task.class, BenchmarkData.tasks(taskCount, users.stream().map(User::getId).toList()));
+    BenchmarkData.write(Group.class, List.of());
+    facade =
+        new DataAccessFacade(
+            new JsonUserRepository(true),
+            new JsonTaskRepository(true),
+            new JsonGroupRepository(true));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    facade.close();
+  }
+
+  @Benchmark
+  public Map<LocalDate, List<Task>> getActiveTasksByUserIdAndWeek() {
+    LocalDate startOfWeek = BenchmarkData.FIRST_WEEK.plusWeeks(next % BenchmarkData.WEEKS);
+    return facade.getActiveTasksByUserIdAndWeek(nextUser().getId(), startOfWeek);
+  }
+
+  @Benchmark
+  public void countActiveTasks(Blackhole blackhole) {
+    UUID userId = nextUser().getId();
+    EnumMap<Status, Integer> byStatus = facade.countActiveTasksByStatus(userId);
+    EnumMap<Priority, Integer> byPriority = facade.countActiveTasksByPriority(userId);
+    blackhole.consume(byStatus);
+    blackhole.consume(byPriority);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Optional<User> authenticate() {
+    return facade.authenticate(nextUser().getUsername(), BenchmarkData.PASSWORD);
+  }
+
+  private User nextUser() {
+    return users.get(next++ % USER_COUNT);
+  }
+}
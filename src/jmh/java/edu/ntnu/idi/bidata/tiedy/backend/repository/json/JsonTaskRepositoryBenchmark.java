@@ -0,0 +1,117 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import edu.ntnu.idi.bidata.tiedy.backend.BenchmarkData;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link JsonTaskRepository} against data sets of increasing size: loading and saving
+ * the files, updating a single task, and the queries by user, by week and for statistics.
+ *
+ * <p>The tasks are spread evenly over the users, so the queries by user return {@code taskCount /
+ * userCount} tasks each. The case of 10 000 users with 50 tasks each is run with {@code -p
+ * userCount=10000 -p taskCount=500000}.
+ *
+ * <p>Only the ids of the generated tasks are kept, so the heap holds nothing but the repository,
+ * and a run with a bounded heap, e.g. {@code -jvmArgsAppend -Xmx1g -prof gc}, shows the peak heap a
+ * refresh needs.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonTaskRepositoryBenchmark {
+
+  @Param({"1000", "10000", "100000", "1000000"})
+  private int taskCount;
+
+  @Param({"100", "10000"})
+  private int userCount;
+
+  private JsonTaskRepository repository;
+  private List<UUID> userIds;
+  private List<UUID> taskIds;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    userIds = Stream.generate(UUID::randomUUID).limit(userCount).toList();
+    taskIds = writeTasks();
+    repository = new JsonTaskRepository(true);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    repository.close();
+  }
+
+  @Benchmark
+  public void load() {
+    repository.refresh();
+  }
+
+  @Benchmark
+  public void save() {
+    repository.saveChanges();
+  }
+
+  @Benchmark
+  public Task update() {
+    Task task = new Task(repository.getById(taskIds.get(next++ % taskCount)).orElseThrow());
+    task.setPriority(Priority.values()[next % Priority.values().length]);
+    return repository.update(task);
+  }
+
+  @Benchmark
+  public List<Task> getTasksByUserId() {
+    return repository.getTasksByUserId(nextUserId()).toList();
+  }
+
+  @Benchmark
+  public List<Task> getTasksByUserIdAndWeek() {
+    LocalDate startOfWeek = BenchmarkData.FIRST_WEEK.plusWeeks(next % BenchmarkData.WEEKS);
+    return repository
+        .getTasksByUserIdAndDeadlineBetween(nextUserId(), startOfWeek, startOfWeek.plusDays(6))
+        .toList();
+  }
+
+  @Benchmark
+  public EnumMap<Status, Integer> countActiveTasksByStatus() {
+    return repository.countActiveTasksByStatus(nextUserId());
+  }
+
+  private List<UUID> writeTasks() {
+    List<Task> tasks = BenchmarkData.tasks(taskCount, userIds);
+    BenchmarkData.write(Task.class, tasks);
+    return tasks.stream().map(Task::getId).toList();
+  }
+
+  private UUID nextUserId() {
+    return userIds.get(next++ % userCount);
+  }
+}
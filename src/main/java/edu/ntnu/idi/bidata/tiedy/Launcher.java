@@ -1,6 +1,10 @@
 package edu.ntnu.idi.bidata.tiedy;
 
+import edu.ntnu.idi.bidata.tiedy.backend.DataAccessFacade;
+import edu.ntnu.idi.bidata.tiedy.backend.server.TiedyServer;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
  *
@@ -9,6 +13,12 @@ import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
  *
  * <p>This application uses JDK 21.
  *
+ * <p>Passing {@code --server} starts the headless {@link TiedyServer} instead of the desktop
+ * application, optionally on another port with {@code --port=<port>}. It only listens on the
+ * loopback address, unless another one is given with {@code --bind=<address>}. Passing {@code
+ * --connect=<address>} makes the desktop application use the data of such a server, e.g. {@code
+ * --connect=http://localhost:8080}.
+ *
  * <p>When using Java Development Kits (JDKs) that does not include the built-in JavaFX library,
  * you'll see an {@code Unsupported JavaFX configuration} warning if you run this application
  * through the IntelliJ IDEA interface.
@@ -21,7 +31,7 @@ import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
  *     javafx:run}
  *
  * @author Nick Heggø
- * @version 2025.04.03
+ * @version 2025.05.24
  */
 public class Launcher {
 
@@ -29,8 +39,18 @@ public class Launcher {
    * The entry point of the application.
    *
    * @param args the command-line arguments passed to the application
+   * @throws IOException if the server cannot be started
    */
-  public static void main(String[] args) {
+  public static void main(String[] args) throws IOException {
+    if (Arrays.asList(args).contains("--server")) {
+      TiedyServer.main(args);
+      return;
+    }
+    for (String arg : args) {
+      if (arg.startsWith("--connect=")) {
+        System.setProperty(DataAccessFacade.SERVER_PROPERTY, arg.substring("--connect=".length()));
+      }
+    }
     TiedyApp.main(args);
   }
 }
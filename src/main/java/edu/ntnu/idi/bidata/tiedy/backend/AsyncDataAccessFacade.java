@@ -0,0 +1,332 @@
+package edu.ntnu.idi.bidata.tiedy.backend;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Runs the operations of the {@link DataAccessFacade} off the calling thread, so the JavaFX
+ * application thread never blocks on disk I/O or password hashing.
+ *
+ * <p>Every operation is submitted to an executor starting a virtual thread per call and returns a
+ * {@link CompletableFuture}. The futures complete on that virtual thread, so user interface code
+ * must hand the result back to the JavaFX application thread, e.g. through {@link
+ * edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest}. The facade itself is thread-safe, and the
+ * change events it raises are delivered on the JavaFX application thread regardless.
+ *
+ * <p>Hashing and verifying passwords is CPU bound and deliberately slow, so these operations run on
+ * a separate, bounded pool of platform threads instead. A burst of logins or registrations then
+ * queues up rather than competing with every other operation for the carrier threads of the virtual
+ * threads.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class AsyncDataAccessFacade {
+
+  private static AsyncDataAccessFacade instance;
+
+  private final DataAccessFacade facade;
+  private final Executor executor;
+  private final Executor hashingExecutor;
+
+  AsyncDataAccessFacade(DataAccessFacade facade, Executor executor, Executor hashingExecutor) {
+    this.facade = Objects.requireNonNull(facade);
+    this.executor = Objects.requireNonNull(executor);
+    this.hashingExecutor = Objects.requireNonNull(hashingExecutor);
+  }
+
+  /**
+   * Retrieves the singleton instance of the AsyncDataAccessFacade class, wrapping the singleton
+   * instance of the {@link DataAccessFacade}.
+   *
+   * @return the singleton instance of AsyncDataAccessFacade
+   */
+  public static synchronized AsyncDataAccessFacade getInstance() {
+    if (instance == null) {
+      int hashingThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+      instance =
+          new AsyncDataAccessFacade(
+              DataAccessFacade.getInstance(),
+              Executors.newVirtualThreadPerTaskExecutor(),
+              Executors.newFixedThreadPool(
+                  hashingThreads,
+                  Thread.ofPlatform().name("password-hashing-", 0).daemon().factory()));
+    }
+    return instance;
+  }
+
+  /**
+   * Runs any operation of the facade asynchronously, e.g. several calls that belong together.
+   *
+   * @param operation the operation to run
+   * @param <T> the type of the result
+   * @return a future completed with the result of the operation, or exceptionally if it threw
+   */
+  public <T> CompletableFuture<T> supply(Function<DataAccessFacade, T> operation) {
+    Objects.requireNonNull(operation);
+    return CompletableFuture.supplyAsync(() -> operation.apply(facade), executor);
+  }
+
+  // ------------------------  Synchronization  ------------------------
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#reconcile()}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Boolean> reconcile() {
+    return supply(facade -> facade.reconcile());
+  }
+
+  // ------------------------  User Repository Methods  ------------------------
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#registerUser(User)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<User> registerUser(User user) {
+    return supply(facade -> facade.registerUser(user));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#updateUser(User)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<User> updateUser(User user) {
+    return supply(facade -> facade.updateUser(user));
+  }
+
+  /**
+   * Creates a new user with the given credentials and registers it, hashing the password on the
+   * password hashing pool.
+   *
+   * @param username the username of the new user
+   * @param plainTextPassword the password of the new user
+   * @return a future completed with the registered user, or null if the username is already taken;
+   *     completed exceptionally if the credentials are invalid
+   * @see DataAccessFacade#registerUser(User)
+   */
+  public CompletableFuture<User> registerUser(String username, String plainTextPassword) {
+    return CompletableFuture.supplyAsync(
+        () -> facade.registerUser(new User(username, plainTextPassword)), hashingExecutor);
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#authenticate(String, String)}, verifying the
+   * password on the password hashing pool.
+   *
+   * @return a future completed with the result on a password hashing thread
+   */
+  public CompletableFuture<Optional<User>> authenticate(String username, String plainTextPassword) {
+    return CompletableFuture.supplyAsync(
+        () -> facade.authenticate(username, plainTextPassword), hashingExecutor);
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#filterUsers(Predicate)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<User>> filterUsers(Predicate<User> filterCondition) {
+    return supply(facade -> facade.filterUsers(filterCondition));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getUsersByIds(Collection)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<User>> getUsersByIds(Collection<UUID> userIds) {
+    return supply(facade -> facade.getUsersByIds(userIds));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getUserNamesByIds(Collection)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<String>> getUserNamesByIds(Collection<UUID> userIds) {
+    return supply(facade -> facade.getUserNamesByIds(userIds));
+  }
+
+  // ------------------------  Task Repository Methods  ------------------------
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#updateTask(Task)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Task> updateTask(Task task) {
+    return supply(facade -> facade.updateTask(task));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#removeTask(UUID)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Boolean> removeTask(UUID taskId) {
+    return supply(facade -> facade.removeTask(taskId));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#addTask(Task)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Task> addTask(Task task) {
+    return supply(facade -> facade.addTask(task));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getTasksByUserId(UUID)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<Task>> getTasksByUserId(UUID userId) {
+    return supply(facade -> facade.getTasksByUserId(userId));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getActiveTasksByUserId(UUID)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<Task>> getActiveTasksByUserId(UUID userId) {
+    return supply(facade -> facade.getActiveTasksByUserId(userId));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getActiveTasksByUserIdAndStatus(UUID, Status)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<Task>> getActiveTasksByUserIdAndStatus(UUID userId, Status status) {
+    return supply(facade -> facade.getActiveTasksByUserIdAndStatus(userId, status));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getActiveTasksByUserIdAndPriority(UUID,
+   * Priority)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<Task>> getActiveTasksByUserIdAndPriority(
+      UUID userId, Priority priority) {
+    return supply(facade -> facade.getActiveTasksByUserIdAndPriority(userId, priority));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#countActiveTasksByStatus(UUID)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<EnumMap<Status, Integer>> countActiveTasksByStatus(UUID userId) {
+    return supply(facade -> facade.countActiveTasksByStatus(userId));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#countActiveTasksByPriority(UUID)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<EnumMap<Priority, Integer>> countActiveTasksByPriority(UUID userId) {
+    return supply(facade -> facade.countActiveTasksByPriority(userId));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#assignTaskToUser(UUID, UUID)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Boolean> assignTaskToUser(UUID taskId, UUID userId) {
+    return supply(facade -> facade.assignTaskToUser(taskId, userId));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getTasksByUserAndStatus(UUID, Status)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<Task>> getTasksByUserAndStatus(UUID userId, Status status) {
+    return supply(facade -> facade.getTasksByUserAndStatus(userId, status));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getActiveTasksByUserIdAndWeek(UUID,
+   * LocalDate)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Map<LocalDate, List<Task>>> getActiveTasksByUserIdAndWeek(
+      UUID userId, LocalDate startOfWeek) {
+    return supply(facade -> facade.getActiveTasksByUserIdAndWeek(userId, startOfWeek));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getTasksByUserIdAndWeekAndStatus(UUID,
+   * LocalDate, Status)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Map<LocalDate, List<Task>>> getTasksByUserIdAndWeekAndStatus(
+      UUID userId, LocalDate startOfWeek, Status status) {
+    return supply(facade -> facade.getTasksByUserIdAndWeekAndStatus(userId, startOfWeek, status));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getActiveTasksByGroupId(UUID)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<Task>> getActiveTasksByGroupId(UUID groupId) {
+    return supply(facade -> facade.getActiveTasksByGroupId(groupId));
+  }
+
+  // ------------------------  Group Repository Methods  ------------------------
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#updateGroup(Group)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Group> updateGroup(Group group) {
+    return supply(facade -> facade.updateGroup(group));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#getGroupsByUserId(UUID)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<List<Group>> getGroupsByUserId(UUID userId) {
+    return supply(facade -> facade.getGroupsByUserId(userId));
+  }
+
+  /**
+   * Asynchronous variant of {@link DataAccessFacade#addGroup(Group)}.
+   *
+   * @return a future completed with the result on a virtual thread
+   */
+  public CompletableFuture<Group> addGroup(Group group) {
+    return supply(facade -> facade.addGroup(group));
+  }
+}
@@ -1,5 +1,9 @@
 package edu.ntnu.idi.bidata.tiedy.backend;
 
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent;
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent.EntityType;
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent.Kind;
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeListener;
 import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
@@ -8,40 +12,123 @@ import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.GroupRepository;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.TaskRepository;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.UserRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.http.HttpGroupRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.http.HttpRepositoryException;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.http.HttpTaskRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.http.HttpUserRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.http.ServerConnection;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonGroupRepository;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonTaskRepository;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonUserRepository;
-import edu.ntnu.idi.bidata.tiedy.frontend.util.DataChangeNotifier;
+import java.io.Serial;
+import java.net.URI;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Intended to be the only class that the frontend package interacts with, it would provide all the
  * necessary public interface.
  *
+ * <p>The data is kept in the local JSON files, unless the system property {@value #SERVER_PROPERTY}
+ * holds the address of a shared {@link edu.ntnu.idi.bidata.tiedy.backend.server.TiedyServer}, e.g.
+ * {@code http://localhost:8080}, in which case the data of that server is used instead. The server
+ * is only contacted once the facade is {@linkplain #connect() connected}.
+ *
+ * <p>Every change made through the facade is reported to its {@link DataChangeListener}, which the
+ * frontend sets to pass the changes on to its controllers.
+ *
  * @author Nick Heggø
- * @version 2025.04.29
+ * @version 2025.05.24
  */
 public class DataAccessFacade {
 
+  /** The system property holding the address of the shared server to use, if any. */
+  public static final String SERVER_PROPERTY = "tiedy.server";
+
+  private static final int USERNAME_CACHE_SIZE = 1024;
+
   private static DataAccessFacade instance;
 
-  private final DataChangeNotifier notifier;
+  private volatile DataChangeListener listener = event -> {};
   private final UserRepository userRepository;
   private final TaskRepository taskRepository;
   private final GroupRepository groupRepository;
+  private final ServerConnection connection;
+  private boolean isConnected;
+  private final Map<UUID, String> usernameCache = new UsernameCache(); // guarded by itself
 
   private DataAccessFacade() {
-    notifier = DataChangeNotifier.getInstance();
-    userRepository = JsonUserRepository.getInstance();
-    taskRepository = JsonTaskRepository.getInstance();
-    groupRepository = JsonGroupRepository.getInstance();
+    String serverAddress = System.getProperty(SERVER_PROPERTY, "");
+    if (serverAddress.isBlank()) {
+      userRepository = JsonUserRepository.getInstance();
+      taskRepository = JsonTaskRepository.getInstance();
+      groupRepository = JsonGroupRepository.getInstance();
+      connection = null;
+    } else {
+      connection = new ServerConnection(URI.create(serverAddress));
+      userRepository = new HttpUserRepository(connection);
+      taskRepository = new HttpTaskRepository(connection);
+      groupRepository = new HttpGroupRepository(connection);
+    }
+  }
+
+  /**
+   * Creates a facade over the given repositories instead of the singleton, e.g. for benchmarks.
+   *
+   * @param userRepository the repository of the users
+   * @param taskRepository the repository of the tasks
+   * @param groupRepository the repository of the groups
+   */
+  DataAccessFacade(
+      UserRepository userRepository,
+      TaskRepository taskRepository,
+      GroupRepository groupRepository) {
+    this.userRepository = Objects.requireNonNull(userRepository);
+    this.taskRepository = Objects.requireNonNull(taskRepository);
+    this.groupRepository = Objects.requireNonNull(groupRepository);
+    this.connection = null;
+  }
+
+  /**
+   * Connects to the shared server and loads its data, if the data of a server is used. Blocks until
+   * the data is loaded, so it must be called before anything else, but not while the class of the
+   * application is being initialized. Does nothing when the local data files are used, or when the
+   * facade is already connected.
+   *
+   * <p>Once connected, the changes made by other clients are reported to the listener as they
+   * arrive, through {@link #reconcile()}.
+   *
+   * @throws HttpRepositoryException if the server cannot be reached
+   */
+  public synchronized void connect() {
+    if (connection != null && !isConnected) {
+      connection.setChangeListener(this::reconcile);
+      connection.connect();
+      isConnected = true;
+    }
+  }
+
+  /**
+   * Sets the listener that every change made through this facade is reported to, replacing the
+   * previous one. Until it is set, changes are not reported.
+   *
+   * @param listener the listener to report changes to
+   */
+  public void setDataChangeListener(DataChangeListener listener) {
+    this.listener = Objects.requireNonNull(listener);
   }
 
   /**
@@ -60,6 +147,10 @@ public class DataAccessFacade {
 
   // ------------------------  Defensive Copying  ------------------------
 
+  // The repositories hand out the instances they store, so every entity crossing the facade is
+  // copied. The collections inside the entities are copy-on-write and shared between copies, so a
+  // copy costs a single small object no matter how many members or assignees it has.
+
   private Task createDetachedCopy(Task original) {
     return new Task(original);
   }
@@ -72,6 +163,79 @@ public class DataAccessFacade {
     return new User(original);
   }
 
+  // ------------------------  Change Events  ------------------------
+
+  // Tasks are assigned to groups the same way as to users, so the assignees are split into the
+  // ids of groups and the ids of users.
+  private DataChangeEvent createTaskEvent(Kind kind, Task previous, Task current) {
+    Set<UUID> assignees = new HashSet<>();
+    Task task = current != null ? current : previous;
+    if (previous != null) {
+      assignees.addAll(previous.getAssignedUsers());
+    }
+    if (current != null) {
+      assignees.addAll(current.getAssignedUsers());
+    }
+    Set<UUID> groupIds = groupRepository.getByIds(assignees).keySet();
+    assignees.removeAll(groupIds);
+    return new DataChangeEvent(EntityType.TASK, task.getId(), kind, assignees, groupIds);
+  }
+
+  private DataChangeEvent createGroupEvent(Kind kind, Group previous, Group current) {
+    Set<UUID> members = new HashSet<>(current.getMembers().keySet());
+    if (previous != null) {
+      members.addAll(previous.getMembers().keySet());
+    }
+    return new DataChangeEvent(
+        EntityType.GROUP, current.getId(), kind, members, Set.of(current.getId()));
+  }
+
+  // ------------------------  Synchronization  ------------------------
+
+  /**
+   * Reloads the repositories whose files have been modified by another process since they were last
+   * read or written, and notifies observers if anything was reloaded. Repositories whose files are
+   * unchanged are left untouched, so this is cheap when nothing happened. The repositories of a
+   * server are already up to date, so observers are only notified if other clients changed them.
+   *
+   * @return true if at least one repository was reloaded, false otherwise
+   */
+  public boolean reconcile() {
+    boolean isReloaded = userRepository.reconcile();
+    isReloaded |= taskRepository.reconcile();
+    isReloaded |= groupRepository.reconcile();
+    if (isReloaded) {
+      synchronized (usernameCache) {
+        usernameCache.clear();
+      }
+      listener.onDataChange(DataChangeEvent.reload());
+    }
+    return isReloaded;
+  }
+
+  /**
+   * Blocks until every change made through this facade has been written to disk. Changes are
+   * persisted in the background, so this must be called before the application exits.
+   */
+  public void flush() {
+    userRepository.flush();
+    taskRepository.flush();
+    groupRepository.flush();
+  }
+
+  /**
+   * Writes every change to disk, like {@link #flush()}, then closes the repositories and the
+   * connection to the server, if any. Called when the application exits.
+   */
+  public void close() {
+    userRepository.close();
+    taskRepository.close();
+    groupRepository.close();
+    if (connection != null) {
+      connection.close();
+    }
+  }
+
   // ------------------------  User Repository Methods  ------------------------
 
   /**
@@ -87,9 +251,30 @@ public class DataAccessFacade {
     if (userRepository.getUserByUsername(user.getUsername()).isPresent()) {
       return null;
     }
-    User u = userRepository.add(user);
-    notifier.notifyObservers();
-    return u;
+    User u = userRepository.add(createDetachedCopy(user));
+    evictUsername(u.getId());
+    listener.onDataChange(
+        new DataChangeEvent(EntityType.USER, u.getId(), Kind.ADDED, Set.of(u.getId()), Set.of()));
+    return createDetachedCopy(u);
+  }
+
+  /**
+   * Updates an existing user in the repository, e.g. to save the experience gained by completing a
+   * task.
+   *
+   * @param user the User object to be updated
+   * @return the updated User object as a detached copy, or null if the user does not exist
+   */
+  public User updateUser(User user) {
+    Objects.requireNonNull(user);
+    User u = userRepository.update(createDetachedCopy(user));
+    if (u == null) {
+      return null;
+    }
+    evictUsername(u.getId());
+    listener.onDataChange(
+        new DataChangeEvent(EntityType.USER, u.getId(), Kind.UPDATED, Set.of(u.getId()), Set.of()));
+    return createDetachedCopy(u);
   }
 
   /**
@@ -107,6 +292,19 @@ public class DataAccessFacade {
     return userRepository.authenticate(username, plainTextPassword);
   }
 
+  /**
+   * Retrieves the user with the given id, e.g. to resume the session of a user who is remembered on
+   * this device. Like {@link #authenticate(String, String)}, the user is returned as stored, so it
+   * can back the session the same way.
+   *
+   * @param userId the unique identifier of the user
+   * @return an {@code Optional} containing the user if found; otherwise, an empty {@code Optional}
+   */
+  public Optional<User> getUserById(UUID userId) {
+    Objects.requireNonNull(userId);
+    return userRepository.getById(userId);
+  }
+
   /**
    * Filters the list of users based on the provided filter condition and returns a list of detached
    * user copies.
@@ -120,29 +318,45 @@ public class DataAccessFacade {
   }
 
   /**
-   * Retrieves a list of users based on the provided list of user IDs.
+   * Retrieves the users with the provided user IDs.
    *
-   * @param userIds a list of user IDs to find matching users
-   * @return a list of User objects whose IDs match the provided user IDs
+   * @param userIds the user IDs to find matching users for
+   * @return a list of User objects whose IDs match the provided user IDs, each as a detached copy
    */
-  public List<User> getUsersByIds(List<UUID> userIds) {
-    return userRepository.getAll().filter(user -> userIds.contains(user.getId())).toList();
+  public List<User> getUsersByIds(Collection<UUID> userIds) {
+    return userRepository.getByIds(userIds).values().stream()
+        .map(this::createDetachedCopy)
+        .toList();
   }
 
   /**
-   * Retrieves the usernames of the users corresponding to the provided list of unique user IDs.
+   * Retrieves the usernames of the users corresponding to the provided unique user IDs. Usernames
+   * are cached, as this is called for every row of the task tables.
    *
-   * @param userIds a list of UUIDs representing the unique identifiers of the users, whose
-   *     usernames need to be retrieved; must not be null
+   * @param userIds the UUIDs representing the unique identifiers of the users, whose usernames need
+   *     to be retrieved; must not be null
    * @return a list of strings containing the usernames of the users whose IDs match the provided
-   *     list; if no matches are found, returns an empty list
+   *     IDs; if no matches are found, returns an empty list
    */
-  public List<String> getUserNamesByIds(List<UUID> userIds) {
-    return userRepository
-        .getAll()
-        .filter(user -> userIds.contains(user.getId()))
-        .map(User::getUsername)
-        .toList();
+  public List<String> getUserNamesByIds(Collection<UUID> userIds) {
+    List<String> usernames = new ArrayList<>(userIds.size());
+    synchronized (usernameCache) {
+      for (UUID userId : userIds) {
+        String username =
+            usernameCache.computeIfAbsent(
+                userId, id -> userRepository.getById(id).map(User::getUsername).orElse(null));
+        if (username != null) {
+          usernames.add(username);
+        }
+      }
+    }
+    return usernames;
+  }
+
+  private void evictUsername(UUID userId) {
+    synchronized (usernameCache) {
+      usernameCache.remove(userId);
+    }
   }
 
   // ------------------------  Task Repository Methods  ------------------------
@@ -155,9 +369,12 @@ public class DataAccessFacade {
    */
   public Task updateTask(Task task) {
     Objects.requireNonNull(task);
-    Task t = taskRepository.update(task);
-    notifier.notifyObservers();
-    return t;
+    Task previous = taskRepository.getById(task.getId()).orElse(null);
+    Task t = taskRepository.update(createDetachedCopy(task));
+    if (t != null) {
+      listener.onDataChange(createTaskEvent(Kind.UPDATED, previous, t));
+    }
+    return t == null ? null : createDetachedCopy(t);
   }
 
   /**
@@ -167,8 +384,11 @@ public class DataAccessFacade {
    */
   public boolean removeTask(UUID taskId) {
     Objects.requireNonNull(taskId);
+    Task previous = taskRepository.getById(taskId).orElse(null);
     boolean status = taskRepository.remove(taskId);
-    notifier.notifyObservers();
+    if (status) {
+      listener.onDataChange(createTaskEvent(Kind.REMOVED, previous, null));
+    }
     return status;
   }
 
@@ -180,9 +400,9 @@ public class DataAccessFacade {
    */
   public Task addTask(Task task) {
     Objects.requireNonNull(task);
-    Task t = taskRepository.add(task);
-    notifier.notifyObservers();
-    return t;
+    Task t = taskRepository.add(createDetachedCopy(task));
+    listener.onDataChange(createTaskEvent(Kind.ADDED, null, t));
+    return createDetachedCopy(t);
   }
 
   /**
@@ -256,6 +476,34 @@ public class DataAccessFacade {
         .toList();
   }
 
+  /**
+   * Counts the active tasks assigned to a specific user per status. Active tasks are tasks that are
+   * not in the CLOSED status. The counts are maintained as tasks change, so this does not depend on
+   * the number of tasks.
+   *
+   * @param userId the unique identifier (UUID) of the user whose tasks are to be counted; must not
+   *     be null
+   * @return the number of active tasks for every status, zero where the user has none
+   */
+  public EnumMap<Status, Integer> countActiveTasksByStatus(UUID userId) {
+    Objects.requireNonNull(userId);
+    return taskRepository.countActiveTasksByStatus(userId);
+  }
+
+  /**
+   * Counts the active tasks assigned to a specific user per priority. Active tasks are tasks that
+   * are not in the CLOSED status. The counts are maintained as tasks change, so this does not
+   * depend on the number of tasks.
+   *
+   * @param userId the unique identifier (UUID) of the user whose tasks are to be counted; must not
+   *     be null
+   * @return the number of active tasks for every priority, zero where the user has none
+   */
+  public EnumMap<Priority, Integer> countActiveTasksByPriority(UUID userId) {
+    Objects.requireNonNull(userId);
+    return taskRepository.countActiveTasksByPriority(userId);
+  }
+
   /**
    * Assigns a task to a user.
    *
@@ -267,7 +515,10 @@ public class DataAccessFacade {
     Objects.requireNonNull(taskId);
     Objects.requireNonNull(userId);
     boolean isAssigned = taskRepository.assignTaskToUser(taskId, userId);
-    notifier.notifyObservers();
+    if (isAssigned) {
+      listener.onDataChange(
+          createTaskEvent(Kind.UPDATED, null, taskRepository.getById(taskId).orElseThrow()));
+    }
     return isAssigned;
   }
 
@@ -306,9 +557,8 @@ public class DataAccessFacade {
       UUID userId, LocalDate startOfWeek) {
     Objects.requireNonNull(userId);
     Objects.requireNonNull(startOfWeek);
-    return taskRepository
-        .getActiveTasksByUserId(userId)
-        .filter(filterTasksForCurrentWeek(startOfWeek))
+    return getTasksByUserIdAndWeek(userId, startOfWeek)
+        .filter(task -> task.getStatus() != Status.CLOSED)
         .map(this::createDetachedCopy)
         .collect(Collectors.groupingBy(Task::getDeadline));
   }
@@ -332,9 +582,7 @@ public class DataAccessFacade {
     Objects.requireNonNull(userId);
     Objects.requireNonNull(startOfWeek);
     Objects.requireNonNull(status);
-    return taskRepository
-        .getTasksByUserId(userId)
-        .filter(filterTasksForCurrentWeek(startOfWeek))
+    return getTasksByUserIdAndWeek(userId, startOfWeek)
         .filter(task -> task.getStatus() == status)
         .map(this::createDetachedCopy)
         .collect(Collectors.groupingBy(Task::getDeadline));
@@ -358,11 +606,9 @@ public class DataAccessFacade {
     return taskRepository.getActiveTasksByUserId(groupId).map(this::createDetachedCopy).toList();
   }
 
-  private Predicate<Task> filterTasksForCurrentWeek(LocalDate startOfWeek) {
-    Objects.requireNonNull(startOfWeek);
-    Predicate<Task> beforeThisWeek = task -> task.getDeadline().isBefore(startOfWeek);
-    Predicate<Task> afterThisWeek = task -> task.getDeadline().isAfter(startOfWeek.plusDays(6));
-    return Predicate.not(beforeThisWeek).and(Predicate.not(afterThisWeek));
+  private Stream<Task> getTasksByUserIdAndWeek(UUID userId, LocalDate startOfWeek) {
+    return taskRepository.getTasksByUserIdAndDeadlineBetween(
+        userId, startOfWeek, startOfWeek.plusDays(6));
   }
 
   // ------------------------  Group Repository  ------------------------
@@ -375,9 +621,12 @@ public class DataAccessFacade {
    */
   public Group updateGroup(Group group) {
     Objects.requireNonNull(group);
-    Group g = groupRepository.update(group);
-    notifier.notifyObservers();
-    return g;
+    Group previous = groupRepository.getById(group.getId()).orElse(null);
+    Group g = groupRepository.update(createDetachedCopy(group));
+    if (g != null) {
+      listener.onDataChange(createGroupEvent(Kind.UPDATED, previous, g));
+    }
+    return g == null ? null : createDetachedCopy(g);
   }
 
   /**
@@ -399,8 +648,27 @@ public class DataAccessFacade {
    * @return the added Group object
    */
   public Group addGroup(Group group) {
-    Group g = groupRepository.add(group);
-    notifier.notifyObservers();
-    return g;
+    Group g = groupRepository.add(createDetachedCopy(group));
+    listener.onDataChange(createGroupEvent(Kind.ADDED, null, g));
+    return createDetachedCopy(g);
+  }
+
+  /**
+   * The usernames looked up most recently, evicting the least recently used one once there are more
+   * than {@value #USERNAME_CACHE_SIZE}. Entries are evicted whenever their user changes, and the
+   * whole cache is cleared whenever the repositories are reloaded or changed by other clients.
+   */
+  private static final class UsernameCache extends LinkedHashMap<UUID, String> {
+
+    @Serial private static final long serialVersionUID = 1L;
+
+    UsernameCache() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+      return size() > USERNAME_CACHE_SIZE;
+    }
   }
 }
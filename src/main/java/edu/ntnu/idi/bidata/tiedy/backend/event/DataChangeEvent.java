@@ -0,0 +1,97 @@
+package edu.ntnu.idi.bidata.tiedy.backend.event;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Describes a single change to the data of the application, so that a {@link DataChangeListener}
+ * can tell whether it is affected before refreshing anything.
+ *
+ * <p>Besides the changed entity itself, an event lists the users and groups whose data changed
+ * along with it, e.g. both the previous and the new assignees of an updated task. A {@link
+ * Kind#RELOADED} event means that anything may have changed.
+ *
+ * @param entityType the type of the changed entity, or null for a reload
+ * @param entityId the id of the changed entity, or null for a reload
+ * @param kind the kind of change
+ * @param affectedUserIds the ids of the users whose data changed
+ * @param affectedGroupIds the ids of the groups whose data changed
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public record DataChangeEvent(
+    EntityType entityType,
+    UUID entityId,
+    Kind kind,
+    Set<UUID> affectedUserIds,
+    Set<UUID> affectedGroupIds) {
+
+  /** The type of entity that changed. */
+  public enum EntityType {
+    USER,
+    TASK,
+    GROUP
+  }
+
+  /** What happened to the entity. */
+  public enum Kind {
+    ADDED,
+    UPDATED,
+    REMOVED,
+    RELOADED
+  }
+
+  private static final DataChangeEvent RELOAD =
+      new DataChangeEvent(null, null, Kind.RELOADED, Set.of(), Set.of());
+
+  /**
+   * Constructs a new event.
+   *
+   * @throws NullPointerException if the kind or any of the sets is null
+   */
+  public DataChangeEvent {
+    Objects.requireNonNull(kind);
+    affectedUserIds = Set.copyOf(affectedUserIds);
+    affectedGroupIds = Set.copyOf(affectedGroupIds);
+  }
+
+  /**
+   * Returns the event telling observers that anything may have changed, e.g. after the data files
+   * were reloaded.
+   *
+   * @return the reload event
+   */
+  public static DataChangeEvent reload() {
+    return RELOAD;
+  }
+
+  /**
+   * Checks whether this event tells observers that anything may have changed.
+   *
+   * @return true if this is a reload event, false otherwise
+   */
+  public boolean isReload() {
+    return kind == Kind.RELOADED;
+  }
+
+  /**
+   * Checks whether the data of the given user may have changed.
+   *
+   * @param userId the unique identifier of the user
+   * @return true if this is a reload event or the user is affected, false otherwise
+   */
+  public boolean affectsUser(UUID userId) {
+    return isReload() || affectedUserIds.contains(userId);
+  }
+
+  /**
+   * Checks whether the data of the given group may have changed.
+   *
+   * @param groupId the unique identifier of the group
+   * @return true if this is a reload event or the group is affected, false otherwise
+   */
+  public boolean affectsGroup(UUID groupId) {
+    return isReload() || affectedGroupIds.contains(groupId);
+  }
+}
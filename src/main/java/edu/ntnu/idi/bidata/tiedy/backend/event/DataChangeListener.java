@@ -0,0 +1,19 @@
+package edu.ntnu.idi.bidata.tiedy.backend.event;
+
+/**
+ * Receives the changes made through the {@link edu.ntnu.idi.bidata.tiedy.backend.DataAccessFacade},
+ * e.g. to pass them on to the user interface. Called on the thread that made the change.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+@FunctionalInterface
+public interface DataChangeListener {
+
+  /**
+   * Handles a change to the data of the application.
+   *
+   * @param event the change that occurred
+   */
+  void onDataChange(DataChangeEvent event);
+}
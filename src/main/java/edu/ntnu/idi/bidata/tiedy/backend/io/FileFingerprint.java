@@ -0,0 +1,97 @@
+package edu.ntnu.idi.bidata.tiedy.backend.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+/**
+ * Identifies the content of a file at a point in time, used to detect whether a file has been
+ * modified by someone else since the application last read or wrote it.
+ *
+ * <p>The size and modification time are cheap to obtain and are compared first. The CRC32 checksum
+ * requires reading the whole file, so it is only computed when it is asked for and only compared
+ * when the size is unchanged but the modification time differs, e.g. after a {@code touch}.
+ *
+ * @param size the size of the file in bytes, or {@code -1} if the file does not exist
+ * @param lastModified the modification time of the file in milliseconds, or {@code -1} if the file
+ *     does not exist
+ * @param checksum the CRC32 checksum of the file, or {@link #UNKNOWN_CHECKSUM} if not computed
+ * @author Nick Heggø
+ * @version 2025.05.03
+ */
+public record FileFingerprint(long size, long lastModified, long checksum) {
+
+  /** Marker for a fingerprint whose checksum has not been computed. */
+  public static final long UNKNOWN_CHECKSUM = -1;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Takes a full fingerprint of the file, including its checksum.
+   *
+   * @param path the file to fingerprint
+   * @return the fingerprint of the file
+   */
+  public static FileFingerprint of(Path path) {
+    FileFingerprint metadata = ofMetadata(path);
+    if (metadata.size < 0) {
+      return metadata;
+    }
+    return new FileFingerprint(metadata.size, metadata.lastModified, checksumOf(path));
+  }
+
+  /**
+   * Takes a cheap fingerprint of the file consisting only of its size and modification time.
+   *
+   * @param path the file to fingerprint
+   * @return the fingerprint of the file, without checksum
+   */
+  public static FileFingerprint ofMetadata(Path path) {
+    try {
+      if (!Files.exists(path)) {
+        return new FileFingerprint(-1, -1, UNKNOWN_CHECKSUM);
+      }
+      return new FileFingerprint(
+          Files.size(path), Files.getLastModifiedTime(path).toMillis(), UNKNOWN_CHECKSUM);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read metadata of file: " + path, e);
+    }
+  }
+
+  /**
+   * Checks whether the file still has the content described by this fingerprint. A file of a
+   * different size is always considered modified. A file of the same size and modification time is
+   * always considered unmodified. Otherwise, the checksums decide, and a fingerprint without
+   * checksum is treated as modified.
+   *
+   * @param path the file to check
+   * @return true if the file is unchanged, false if it has been modified
+   */
+  public boolean matches(Path path) {
+    FileFingerprint current = ofMetadata(path);
+    if (current.size != size) {
+      return false;
+    }
+    if (current.lastModified == lastModified) {
+      return true;
+    }
+    return checksum != UNKNOWN_CHECKSUM && checksumOf(path) == checksum;
+  }
+
+  private static long checksumOf(Path path) {
+    CRC32 crc = new CRC32();
+    byte[] buffer = new byte[BUFFER_SIZE];
+    try (InputStream in = Files.newInputStream(path)) {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        crc.update(buffer, 0, read);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot compute checksum of file: " + path, e);
+    }
+    return crc.getValue();
+  }
+}
@@ -11,12 +11,12 @@ import java.util.logging.Logger;
  * specified file and its parent directories exist, creating them if necessary.
  *
  * @author Nick Heggø
- * @version 2025.04.03
+ * @version 2025.05.24
  */
 public class FileUtil {
 
-  private static final String FILE_PATH_TEMPLATE = "data/%s/%s.%s";
-  private static final String TEST_FILE_PATH_TEMPLATE = "src/test/resources/%s/%s.%s";
+  private static final Path DATA_DIRECTORY = Path.of("data");
+  private static final Path TEST_DATA_DIRECTORY = Path.of("src/test/resources");
   private static final Set<String> FILE_EXTENSIONS = Set.of("json", "csv");
 
   private static final Logger LOGGER = Logger.getLogger(FileUtil.class.getName());
@@ -36,15 +36,42 @@ public class FileUtil {
    * @throws UnsupportedOperationException if the provided {@code fileExtension} is not supported
    */
   public static Path generateFilePath(Class<?> targetClass, String fileExtension, boolean isTest) {
+    return generateFilePath(targetClass, fileExtension, getDataDirectory(isTest));
+  }
+
+  /**
+   * Generates a file path for a specified class and file extension below the given data directory.
+   * The file is placed in a subdirectory named after the file extension.
+   *
+   * @param targetClass the class for which the file path is being generated; must not be null
+   * @param fileExtension the file extension to use (e.g., "json", "csv"); must be a supported
+   *     extension
+   * @param dataDirectory the root directory of the data files; must not be null
+   * @return the generated file path as a {@code Path} instance
+   * @throws UnsupportedOperationException if the provided {@code fileExtension} is not supported
+   */
+  public static Path generateFilePath(
+      Class<?> targetClass, String fileExtension, Path dataDirectory) {
 
     if (!FILE_EXTENSIONS.contains(fileExtension)) {
       throw new UnsupportedOperationException(
           ">" + fileExtension + "< is not a supported file extension");
     }
 
-    return Path.of(
-        (isTest ? TEST_FILE_PATH_TEMPLATE : FILE_PATH_TEMPLATE)
-            .formatted(fileExtension, targetClass.getSimpleName(), fileExtension));
+    return dataDirectory
+        .resolve(fileExtension)
+        .resolve(targetClass.getSimpleName() + "." + fileExtension);
+  }
+
+  /**
+   * Returns the root directory of the data files of either the test or the production environment.
+   *
+   * @param isTest a boolean flag indicating whether the test environment (true) or the production
+   *     environment (false) should be used
+   * @return the root directory of the data files
+   */
+  public static Path getDataDirectory(boolean isTest) {
+    return isTest ? TEST_DATA_DIRECTORY : DATA_DIRECTORY;
   }
 
   /**
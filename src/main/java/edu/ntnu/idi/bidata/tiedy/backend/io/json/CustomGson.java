@@ -23,12 +23,17 @@ import java.time.format.DateTimeFormatter;
  * Singleton utility class that provides a single instance of {@link Gson}. This class ensures that
  * the same instance of the custom gson is used throughout the application.
  *
+ * <p>Two variants share the same configuration: the default one pretty prints its output for human
+ * readers, while the compact one writes no whitespace at all, for files where size and write
+ * throughput matter more than readability.
+ *
  * @author Nick Heggø
- * @version 2025.03.28
+ * @version 2025.05.05
  */
 public class CustomGson {
 
   private static Gson gson;
+  private static Gson compactGson;
 
   private CustomGson() {}
 
@@ -40,16 +45,30 @@ public class CustomGson {
    */
   public static synchronized Gson getInstance() {
     if (gson == null) {
-      gson =
-          new GsonBuilder()
-              .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
-              .registerTypeAdapter(LocalDate.class, new LocalDateAdapter())
-              .setPrettyPrinting()
-              .create();
+      gson = createBuilder().setPrettyPrinting().create();
     }
     return gson;
   }
 
+  /**
+   * Provides a singleton instance of {@link Gson} with the same config as {@link #getInstance()},
+   * but without pretty printing.
+   *
+   * @return a shared instance of {@link Gson} that writes compact JSON
+   */
+  public static synchronized Gson getCompactInstance() {
+    if (compactGson == null) {
+      compactGson = createBuilder().create();
+    }
+    return compactGson;
+  }
+
+  private static GsonBuilder createBuilder() {
+    return new GsonBuilder()
+        .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeAdapter())
+        .registerTypeAdapter(LocalDate.class, new LocalDateAdapter());
+  }
+
   /**
    * Adapter for {@link LocalDateTime} type, which is used as the time stamp for all instances that
    * will be stored in the JSON file in this application.
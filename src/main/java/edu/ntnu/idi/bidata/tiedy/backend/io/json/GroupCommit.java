@@ -0,0 +1,120 @@
+package edu.ntnu.idi.bidata.tiedy.backend.io.json;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Coalesces many requests for durability into a single sync of the underlying file.
+ *
+ * <p>The first request after a sync schedules the next sync to run once the commit window has
+ * passed. Every request arriving within that window joins the same commit and receives the same
+ * future, which completes when the data written before the request has reached the disk. A burst of
+ * mutations therefore costs one {@code fsync} instead of one per mutation, while no write stays
+ * unsynced for longer than the commit window.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.06
+ */
+public class GroupCommit {
+
+  /** The default time a commit waits for further requests to join it before syncing. */
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(20);
+
+  private static final Logger LOGGER = Logger.getLogger(GroupCommit.class.getName());
+
+  private static final ScheduledExecutorService SCHEDULER =
+      Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("tiedy-group-commit").daemon().factory());
+
+  private final SyncAction syncAction;
+  private final Duration window;
+
+  private CompletableFuture<Void> pendingCommit;
+
+  /** The operation making previously written data durable, typically {@code FileChannel.force}. */
+  @FunctionalInterface
+  public interface SyncAction {
+    /**
+     * Forces previously written data to the storage device.
+     *
+     * @throws IOException if the data could not be synced
+     */
+    void sync() throws IOException;
+  }
+
+  /**
+   * Constructs a new group commit around the given sync action.
+   *
+   * @param syncAction the operation that makes previously written data durable; must not be null
+   * @param window the time to wait for further requests before syncing; must not be null
+   * @throws IllegalArgumentException if any parameter is null
+   */
+  public GroupCommit(SyncAction syncAction, Duration window) {
+    if (syncAction == null || window == null) {
+      throw new IllegalArgumentException("Sync action and window must not be null");
+    }
+    this.syncAction = syncAction;
+    this.window = window;
+  }
+
+  /**
+   * Requests that everything written so far is made durable. The request joins the pending commit
+   * if there is one, or schedules a new commit at the end of the commit window otherwise.
+   *
+   * @return a future that completes once the data is durable, or completes exceptionally if the
+   *     sync failed
+   */
+  public synchronized CompletableFuture<Void> request() {
+    if (pendingCommit == null) {
+      pendingCommit = new CompletableFuture<>();
+      SCHEDULER.schedule(this::commit, window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    return pendingCommit;
+  }
+
+  /**
+   * Syncs immediately instead of waiting for the commit window to pass, completing the pending
+   * commit if there is one. Used when the application shuts down.
+   *
+   * @throws JsonException if the data could not be synced
+   */
+  public void commitNow() {
+    CompletableFuture<Void> commit = takePendingCommit();
+    try {
+      syncAction.sync();
+    } catch (IOException e) {
+      if (commit != null) {
+        commit.completeExceptionally(e);
+      }
+      throw new JsonException("Could not sync data to disk\n" + e.getMessage());
+    }
+    if (commit != null) {
+      commit.complete(null);
+    }
+  }
+
+  private void commit() {
+    CompletableFuture<Void> commit = takePendingCommit();
+    if (commit == null) {
+      return;
+    }
+    try {
+      syncAction.sync();
+      commit.complete(null);
+    } catch (IOException e) {
+      LOGGER.severe(() -> "Group commit failed: " + e.getMessage());
+      commit.completeExceptionally(e);
+    }
+  }
+
+  private synchronized CompletableFuture<Void> takePendingCommit() {
+    CompletableFuture<Void> commit = pendingCommit;
+    pendingCommit = null;
+    return commit;
+  }
+}
@@ -1,7 +1,12 @@
 package edu.ntnu.idi.bidata.tiedy.backend.io.json;
 
+import edu.ntnu.idi.bidata.tiedy.backend.io.FileFingerprint;
 import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
-import java.util.Set;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 /**
@@ -12,13 +17,23 @@ import java.util.stream.Stream;
  * <p>The behavior of the JSON operations is determined by the associated class type and an optional
  * flag for distinguishing between test and production environments.
  *
+ * <p>Besides the full snapshot, every type has a {@link JsonJournal} where single mutations can be
+ * appended cheaply. The journal is merged into the snapshot by {@link #checkpoint(Collection)}.
+ *
+ * <p>The DAO remembers a {@link FileFingerprint} of the files as it last read or wrote them, so
+ * that {@link #isModifiedExternally()} can tell whether another process has changed them since.
+ *
  * @author Nick Heggø
- * @version 2025.03.28
+ * @version 2025.05.24
  */
 public class JsonDAO<T> {
 
   private final JsonReader<T> jsonReader;
   private final JsonWriter<T> jsonWriter;
+  private final JsonJournal<T> jsonJournal;
+  private final Path snapshotPath;
+
+  private FileFingerprint snapshotFingerprint;
 
   /**
    * Constructs a new instance of the JsonService class for reading from and writing to JSON files.
@@ -46,36 +61,155 @@ public class JsonDAO<T> {
    * @throws IllegalArgumentException if the targetClass parameter is null
    */
   public JsonDAO(Class<T> targetClass, boolean isTest) {
+    this(targetClass, isTest, false);
+  }
+
+  /**
+   * Constructs a new instance of the JsonService class for reading from and writing to JSON files,
+   * with the choice between pretty printed and compact snapshot files.
+   *
+   * @param isTest a boolean flag indicating whether the operations should be performed in the test
+   *     environment (true) or the production environment (false)
+   * @param isCompact a boolean flag indicating whether snapshot files should be written without
+   *     whitespace (true) or pretty printed (false)
+   * @throws UnsupportedOperationException if the {@link JsonType} does not contain the necessary
+   *     type for serialization
+   * @throws IllegalArgumentException if the targetClass parameter is null
+   */
+  public JsonDAO(Class<T> targetClass, boolean isTest, boolean isCompact) {
+    this(targetClass, FileUtil.getDataDirectory(isTest), isCompact);
+  }
+
+  /**
+   * Constructs a new instance of the JsonService class that keeps its snapshot and journal files
+   * below the given data directory.
+   *
+   * @param dataDirectory the root directory of the data files; must not be null
+   * @param isCompact a boolean flag indicating whether snapshot files should be written without
+   *     whitespace (true) or pretty printed (false)
+   * @throws UnsupportedOperationException if the {@link JsonType} does not contain the necessary
+   *     type for serialization
+   * @throws IllegalArgumentException if the targetClass or dataDirectory parameter is null
+   */
+  public JsonDAO(Class<T> targetClass, Path dataDirectory, boolean isCompact) {
     if (JsonType.getType(targetClass) == null) {
       throw new UnsupportedOperationException("Unsupported target class type: " + targetClass);
     }
-    jsonReader = new JsonReader<>(targetClass, isTest);
-    jsonWriter = new JsonWriter<>(targetClass, isTest);
+    jsonReader = new JsonReader<>(targetClass, dataDirectory);
+    jsonWriter = new JsonWriter<>(targetClass, dataDirectory, isCompact);
+    jsonJournal = new JsonJournal<>(targetClass, dataDirectory);
+    snapshotPath = FileUtil.generateFilePath(targetClass, "json", dataDirectory);
+    snapshotFingerprint = FileFingerprint.ofMetadata(snapshotPath);
   }
 
   /**
    * Loads a collection of objects from a JSON file. The JSON file is dynamically located based on
    * the target class type and whether the operation is performed in a test or production
-   * environment. If the file does not exist, it is created and an empty list is returned. If the
-   * file exists, the data in the file is deserialized into a list.
+   * environment. If the file does not exist, it is created and an empty stream is returned. If the
+   * file exists, the data in the file is deserialized into a stream.
+   *
+   * <p>The stream is lazy and holds the file open until it is consumed or closed.
    *
-   * @see FileUtil
    * @return a stream of objects deserialized from the JSON file, or an empty stream if the file is
    *     newly created
+   * @throws JsonException if the file cannot be opened or does not hold a JSON array
+   * @see FileUtil
    */
   public Stream<T> loadJsonAsStream() {
+    // taken before reading, so a change made while the lazy stream is read still shows up as an
+    // external modification rather than being taken for the state that was read
+    snapshotFingerprint = FileFingerprint.of(snapshotPath);
     return jsonReader.parseJsonStream();
   }
 
   /**
-   * Serializes and writes the provided set of objects into a JSON file. The JSON file is
+   * Serializes and writes the provided collection of objects into a JSON file. The JSON file is
    * dynamically located based on the class type and whether the operation is performed in a test or
    * production environment.
    *
    * @see FileUtil
-   * @param set the set of objects to be serialized and written into the JSON file
+   * @param collection the objects to be serialized and written into the JSON file
+   */
+  public void writeCollection(Collection<T> collection) {
+    jsonWriter.writeJsonFile(collection);
+    snapshotFingerprint = FileFingerprint.of(snapshotPath);
+  }
+
+  /**
+   * Appends the new state of a single entity to the journal, without touching the snapshot.
+   *
+   * @param id the unique identifier of the entity
+   * @param entity the new state of the entity
+   * @return a future that completes once the record is durable on disk
+   */
+  public CompletableFuture<Void> appendEntity(UUID id, T entity) {
+    return jsonJournal.appendPut(id, entity);
+  }
+
+  /**
+   * Appends the removal of a single entity to the journal, without touching the snapshot.
+   *
+   * @param id the unique identifier of the removed entity
+   * @return a future that completes once the record is durable on disk
+   */
+  public CompletableFuture<Void> appendRemoval(UUID id) {
+    return jsonJournal.appendRemove(id);
+  }
+
+  /**
+   * Makes every journal record appended so far durable right away, instead of waiting for the group
+   * commit to do so.
+   */
+  public void flush() {
+    jsonJournal.sync();
+  }
+
+  /**
+   * Replays the journal on top of the given snapshot state.
+   *
+   * @param entities the entities loaded from the snapshot, keyed by id; modified in place
+   * @return the number of journal records applied
+   */
+  public int replayJournal(Map<UUID, T> entities) {
+    return jsonJournal.replay(entities);
+  }
+
+  /**
+   * Checks whether there are journal records that have not been merged into the snapshot yet.
+   *
+   * @return true if the journal holds any data, false otherwise
+   */
+  public boolean hasPendingJournal() {
+    return !jsonJournal.isEmpty();
+  }
+
+  /**
+   * Returns the number of records appended to the journal since the last checkpoint.
+   *
+   * @return the journal length in records
+   */
+  public int getJournalLength() {
+    return jsonJournal.getRecordCount();
+  }
+
+  /**
+   * Writes the complete state into the snapshot file and then discards the journal, whose records
+   * are now part of the snapshot.
+   *
+   * @param collection the complete collection of entities to persist
+   */
+  public void checkpoint(Collection<T> collection) {
+    writeCollection(collection);
+    jsonJournal.truncate();
+  }
+
+  /**
+   * Checks whether the snapshot or the journal has been changed by another process since this DAO
+   * last read or wrote them. Only file metadata is inspected unless it is inconclusive.
+   *
+   * @return true if the files were modified externally and should be reloaded, false otherwise
    */
-  public void writeCollection(Set<T> set) {
-    jsonWriter.writeJsonFile(set);
+  public boolean isModifiedExternally() {
+    return !snapshotFingerprint.matches(snapshotPath) || jsonJournal.isModifiedExternally();
   }
 }
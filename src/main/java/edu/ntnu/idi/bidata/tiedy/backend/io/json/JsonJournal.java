@@ -0,0 +1,276 @@
+package edu.ntnu.idi.bidata.tiedy.backend.io.json;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import edu.ntnu.idi.bidata.tiedy.backend.io.FileFingerprint;
+import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+/**
+ * Append-only write-ahead log for a single entity type. Every mutation is stored as one compact
+ * JSON record per line in a {@code .journal} file located next to the JSON snapshot of the same
+ * type, e.g. {@code data/json/Task.journal} next to {@code data/json/Task.json}.
+ *
+ * <p>A record is either a {@code PUT}, which carries the full serialized entity, or a {@code
+ * REMOVE}, which only carries the id. Replaying the journal in order on top of the last snapshot
+ * reconstructs the latest state. Both operations are idempotent, so replaying a journal that was
+ * already partially merged into the snapshot is harmless.
+ *
+ * <p>If the application crashes in the middle of an append, the last line may be incomplete. Such a
+ * torn record is skipped with a warning during replay.
+ *
+ * <p>Appends are not synced to disk one by one. Each append joins a {@link GroupCommit}, so all
+ * records appended within the commit window are made durable by a single {@code fsync}.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ * @param <T> the type of entity recorded in the journal
+ */
+public class JsonJournal<T> {
+
+  private static final Logger LOGGER = Logger.getLogger(JsonJournal.class.getName());
+
+  private static final String OPERATION = "op";
+  private static final String ID = "id";
+  private static final String ENTITY = "entity";
+  private static final String PUT = "PUT";
+  private static final String REMOVE = "REMOVE";
+
+  private final Gson gson = CustomGson.getInstance();
+  private final Class<T> targetClass;
+  private final Path path;
+
+  private final GroupCommit groupCommit;
+
+  private volatile FileChannel channel;
+  private int recordCount;
+  private FileFingerprint fingerprint;
+
+  /**
+   * Constructs a new journal for the given entity type. The journal file is placed in the same
+   * directory as the JSON snapshot of the type.
+   *
+   * @param targetClass the class of the entities recorded in the journal; must not be null
+   * @param isTest a boolean flag indicating whether the journal should be located in the test
+   *     environment (true) or the production environment (false)
+   * @throws IllegalArgumentException if the targetClass parameter is null
+   */
+  public JsonJournal(Class<T> targetClass, boolean isTest) {
+    this(targetClass, FileUtil.getDataDirectory(isTest));
+  }
+
+  /**
+   * Constructs a new journal for the given entity type below the given data directory.
+   *
+   * @param targetClass the class of the entities recorded in the journal; must not be null
+   * @param dataDirectory the root directory of the data files; must not be null
+   * @throws IllegalArgumentException if the targetClass or dataDirectory parameter is null
+   */
+  public JsonJournal(Class<T> targetClass, Path dataDirectory) {
+    if (targetClass == null) {
+      throw new IllegalArgumentException("Target class must not be null");
+    }
+    if (dataDirectory == null) {
+      throw new IllegalArgumentException("Data directory must not be null");
+    }
+    this.targetClass = targetClass;
+    this.path =
+        FileUtil.generateFilePath(targetClass, "json", dataDirectory)
+            .resolveSibling(targetClass.getSimpleName() + ".journal");
+    this.fingerprint = FileFingerprint.ofMetadata(path);
+    this.groupCommit = new GroupCommit(this::force, GroupCommit.DEFAULT_WINDOW);
+  }
+
+  /**
+   * Appends a record stating that the entity with the given id now has the given state.
+   *
+   * @param id the unique identifier of the entity
+   * @param entity the new state of the entity
+   * @return a future that completes once the record is durable on disk
+   */
+  public synchronized CompletableFuture<Void> appendPut(UUID id, T entity) {
+    JsonObject record = new JsonObject();
+    record.addProperty(OPERATION, PUT);
+    record.addProperty(ID, id.toString());
+    record.add(ENTITY, gson.toJsonTree(entity, targetClass));
+    return append(record);
+  }
+
+  /**
+   * Appends a record stating that the entity with the given id has been removed.
+   *
+   * @param id the unique identifier of the removed entity
+   * @return a future that completes once the record is durable on disk
+   */
+  public synchronized CompletableFuture<Void> appendRemove(UUID id) {
+    JsonObject record = new JsonObject();
+    record.addProperty(OPERATION, REMOVE);
+    record.addProperty(ID, id.toString());
+    return append(record);
+  }
+
+  /**
+   * Makes every record appended so far durable right away, without waiting for the commit window to
+   * pass.
+   */
+  public void sync() {
+    groupCommit.commitNow();
+  }
+
+  /**
+   * Replays every record in the journal, in order, on top of the given entity map.
+   *
+   * @param entities the map holding the snapshot state; it is modified in place
+   * @return the number of records that were applied
+   */
+  public synchronized int replay(Map<UUID, T> entities) {
+    if (!Files.exists(path)) {
+      recordCount = 0;
+      return 0;
+    }
+
+    int applied = 0;
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        if (!apply(line, entities)) {
+          LOGGER.warning(() -> "Skipping torn record at the end of " + path);
+          break;
+        }
+        applied++;
+      }
+    } catch (IOException e) {
+      throw new JsonException("Could not replay journal: " + path + "\n" + e.getMessage());
+    }
+    recordCount = applied;
+    fingerprint = FileFingerprint.ofMetadata(path);
+    return applied;
+  }
+
+  /**
+   * Discards every record in the journal. Must only be called once the state they describe has been
+   * written to the snapshot.
+   */
+  public synchronized void truncate() {
+    try {
+      openChannel().truncate(0);
+      recordCount = 0;
+      fingerprint = FileFingerprint.ofMetadata(path);
+    } catch (IOException e) {
+      throw new JsonException("Could not truncate journal: " + path + "\n" + e.getMessage());
+    }
+  }
+
+  /**
+   * Checks whether the journal file holds any data at all, including torn records that could not be
+   * replayed.
+   *
+   * @return true if the journal file is missing or empty, false otherwise
+   */
+  public synchronized boolean isEmpty() {
+    try {
+      return !Files.exists(path) || Files.size(path) == 0;
+    } catch (IOException e) {
+      throw new JsonException("Could not read journal: " + path + "\n" + e.getMessage());
+    }
+  }
+
+  /**
+   * Checks whether the journal file has been changed by anyone else since this journal last read or
+   * wrote it.
+   *
+   * @return true if the journal file was modified externally, false otherwise
+   */
+  public synchronized boolean isModifiedExternally() {
+    return !fingerprint.matches(path);
+  }
+
+  /**
+   * Returns the number of records written to the journal since it was last truncated.
+   *
+   * @return the number of records in the journal
+   */
+  public synchronized int getRecordCount() {
+    return recordCount;
+  }
+
+  private boolean apply(String line, Map<UUID, T> entities) {
+    try {
+      JsonElement element = JsonParser.parseString(line);
+      if (!element.isJsonObject()) {
+        return false;
+      }
+      JsonObject record = element.getAsJsonObject();
+      if (!record.has(OPERATION) || !record.has(ID)) {
+        return false;
+      }
+      UUID id = UUID.fromString(record.get(ID).getAsString());
+      switch (record.get(OPERATION).getAsString()) {
+        case PUT -> {
+          if (!record.has(ENTITY)) {
+            return false;
+          }
+          entities.put(id, gson.fromJson(record.get(ENTITY), targetClass));
+        }
+        case REMOVE -> entities.remove(id);
+        default -> {
+          return false;
+        }
+      }
+      return true;
+    } catch (JsonParseException
+        | IllegalArgumentException
+        | IllegalStateException
+        | UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  private CompletableFuture<Void> append(JsonElement record) {
+    byte[] bytes = (record + "\n").getBytes(StandardCharsets.UTF_8);
+    try {
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      FileChannel fileChannel = openChannel();
+      while (buffer.hasRemaining()) {
+        fileChannel.write(buffer);
+      }
+      recordCount++;
+      fingerprint = FileFingerprint.ofMetadata(path);
+    } catch (IOException e) {
+      throw new JsonException("Could not append to journal: " + path + "\n" + e.getMessage());
+    }
+    return groupCommit.request();
+  }
+
+  private void force() throws IOException {
+    FileChannel fileChannel = channel;
+    if (fileChannel != null && fileChannel.isOpen()) {
+      fileChannel.force(false);
+    }
+  }
+
+  private FileChannel openChannel() throws IOException {
+    if (channel == null || !channel.isOpen()) {
+      FileUtil.ensureFileAndDirectoryExists(path.toFile());
+      channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+    return channel;
+  }
+}
@@ -1,12 +1,22 @@
 package edu.ntnu.idi.bidata.tiedy.backend.io.json;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonToken;
 import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
+import java.io.Closeable;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for reading JSON files and deserializing their content into objects of a specified
@@ -16,17 +26,24 @@ import java.util.stream.Stream;
  * <p>The class ensures that the directory structure for the JSON file is created if it does not
  * already exist. If the specified JSON file does not exist, an empty list is returned.
  *
+ * <p>The file is read token by token with a {@link com.google.gson.stream.JsonReader} on top of a
+ * buffered NIO reader, and each element of the top-level array is deserialized only when the
+ * returned stream asks for it. No intermediate collection of all the entities is built, so the
+ * memory needed to load a file is bounded by what the caller keeps.
+ *
  * <p>This class leverages a shared instance of {@link Gson} provided by the {@link CustomGson}
  * class for efficient JSON operations.
  *
  * @author Nick Heggø
- * @version 2025.03.28
+ * @version 2025.05.24
  */
 public class JsonReader<T> {
 
+  private static final Logger LOGGER = Logger.getLogger(JsonReader.class.getName());
+
   private final Gson gson = CustomGson.getInstance();
   private final Class<T> targetClass;
-  private final boolean isTest;
+  private final Path dataDirectory;
 
   /**
    * Constructs a new instance of the JsonReader class for reading JSON files and deserializing
@@ -40,11 +57,26 @@ public class JsonReader<T> {
    * @throws IllegalArgumentException if the targetClass parameter is null
    */
   public JsonReader(Class<T> targetClass, boolean isTest) {
+    this(targetClass, FileUtil.getDataDirectory(isTest));
+  }
+
+  /**
+   * Constructs a new instance of the JsonReader class that reads the JSON file of the target class
+   * from the given data directory.
+   *
+   * @param targetClass the class of object that will be used to serialize
+   * @param dataDirectory the root directory of the data files; must not be null
+   * @throws IllegalArgumentException if the targetClass or dataDirectory parameter is null
+   */
+  public JsonReader(Class<T> targetClass, Path dataDirectory) {
     if (targetClass == null) {
       throw new IllegalArgumentException("Target class must not be null");
     }
+    if (dataDirectory == null) {
+      throw new IllegalArgumentException("Data directory must not be null");
+    }
     this.targetClass = targetClass;
-    this.isTest = isTest;
+    this.dataDirectory = dataDirectory;
   }
 
   /**
@@ -54,22 +86,79 @@ public class JsonReader<T> {
    * file does not exist, it will be created as an empty file and an empty stream is returned.
    * Otherwise, the JSON content will be deserialized into objects of the target class.
    *
+   * <p>The stream is lazy and keeps the file open until it has been fully consumed or closed, so it
+   * should be used in a try-with-resources statement.
+   *
    * @return a stream of objects deserialized from the JSON file; an empty stream if the file is
    *     newly created
+   * @throws JsonException if the file cannot be opened or its content is not a valid JSON array
    */
   public Stream<T> parseJsonStream() {
-    File file = FileUtil.generateFilePath(targetClass, "json", isTest).toFile();
+    File file = FileUtil.generateFilePath(targetClass, "json", dataDirectory).toFile();
     FileUtil.ensureFileAndDirectoryExists(file);
 
     if (file.length() == 0) {
       return Stream.empty();
     }
 
-    try (FileReader reader = new FileReader(file)) {
-      Set<T> set = gson.fromJson(reader, JsonType.getType(targetClass));
-      return set.stream();
+    com.google.gson.stream.JsonReader jsonReader;
+    try {
+      jsonReader =
+          gson.newJsonReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8));
     } catch (IOException e) {
+      throw new JsonException("Could not open JSON file: " + file + "\n" + e.getMessage());
+    }
+    try {
+      if (jsonReader.peek() == JsonToken.NULL) {
+        closeQuietly(jsonReader, file);
+        return Stream.empty();
+      }
+      // throws IllegalStateException if the file holds anything but an array
+      jsonReader.beginArray();
+    } catch (IOException | IllegalStateException e) {
+      closeQuietly(jsonReader, file);
       throw new JsonException("Could not parse JSON file: " + file + "\n" + e.getMessage());
     }
+    return StreamSupport.stream(new EntitySpliterator(jsonReader, file), false)
+        .onClose(() -> closeQuietly(jsonReader, file));
+  }
+
+  /** Closes the file, only logging a failure, as nothing was written that could be lost. */
+  private static void closeQuietly(Closeable closeable, File file) {
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      LOGGER.warning(() -> "Could not close JSON file: " + file + "\n" + e.getMessage());
+    }
+  }
+
+  /** Deserializes one element of the top-level JSON array per call to {@link #tryAdvance}. */
+  private class EntitySpliterator extends Spliterators.AbstractSpliterator<T> {
+
+    private final TypeAdapter<T> adapter = gson.getAdapter(targetClass);
+    private final com.google.gson.stream.JsonReader jsonReader;
+    private final File file;
+
+    private EntitySpliterator(com.google.gson.stream.JsonReader jsonReader, File file) {
+      super(Long.MAX_VALUE, Spliterator.NONNULL);
+      this.jsonReader = jsonReader;
+      this.file = file;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      try {
+        if (!jsonReader.hasNext()) {
+          jsonReader.endArray();
+          jsonReader.close();
+          return false;
+        }
+        action.accept(adapter.read(jsonReader));
+        return true;
+      } catch (IOException | JsonParseException | IllegalStateException e) {
+        closeQuietly(jsonReader, file);
+        throw new JsonException("Could not parse JSON file: " + file + "\n" + e.getMessage());
+      }
+    }
   }
 }
@@ -1,11 +1,22 @@
 package edu.ntnu.idi.bidata.tiedy.backend.io.json;
 
 import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
 import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.Set;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.logging.Logger;
 
 /**
  * Utility class for writing collections of objects to JSON files. The JSON files are created
@@ -16,22 +27,34 @@ import java.util.Set;
  * efficient serialization operations. It creates the necessary directory structure before writing
  * the data if it does not already exist.
  *
+ * <p>Objects are serialized one at a time through a {@link com.google.gson.stream.JsonWriter} into
+ * a buffered writer on top of a {@link FileChannel}, so the JSON document is never held in memory
+ * as a whole and the memory needed to write a file does not grow with the number of objects.
+ *
+ * <p>A file is never overwritten in place. The new content is written to a temporary file in the
+ * same directory, synced to disk and then atomically moved over the old file, so a crash in the
+ * middle of a write leaves either the old or the new file behind, never a truncated one.
+ *
  * <p>This class is designed for use with collections of objects and does not support writing
  * individual objects directly.
  *
  * @author Nick Heggø
- * @version 2025.03.28
+ * @version 2025.05.24
  */
 public class JsonWriter<T> {
 
-  private final Gson gson = CustomGson.getInstance();
+  private static final Logger LOGGER = Logger.getLogger(JsonWriter.class.getName());
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Gson gson;
+  private final TypeAdapter<T> adapter;
   private final Class<T> targetClass;
-  private final boolean isTest;
+  private final Path dataDirectory;
 
   /**
    * Constructs a new instance of the JsonWriter class for serializing collections of objects to a
    * JSON file. The file location is determined dynamically based on the provided target class type
-   * and whether the operation is in a test or production environment.
+   * and whether the operation is in a test or production environment. The output is pretty printed.
    *
    * @param targetClass the class type of the objects to be serialized; must not be null
    * @param isTest a boolean flag indicating whether the JSON file should be created in the test
@@ -39,31 +62,104 @@ public class JsonWriter<T> {
    * @throws IllegalArgumentException if the targetClass parameter is null
    */
   public JsonWriter(Class<T> targetClass, boolean isTest) {
+    this(targetClass, isTest, false);
+  }
+
+  /**
+   * Constructs a new instance of the JsonWriter class for serializing collections of objects to a
+   * JSON file, with the choice between pretty printed and compact output.
+   *
+   * @param targetClass the class type of the objects to be serialized; must not be null
+   * @param isTest a boolean flag indicating whether the JSON file should be created in the test
+   *     environment (true) or the production environment (false)
+   * @param isCompact a boolean flag indicating whether the JSON should be written without any
+   *     whitespace (true) or pretty printed (false)
+   * @throws IllegalArgumentException if the targetClass parameter is null
+   */
+  public JsonWriter(Class<T> targetClass, boolean isTest, boolean isCompact) {
+    this(targetClass, FileUtil.getDataDirectory(isTest), isCompact);
+  }
+
+  /**
+   * Constructs a new instance of the JsonWriter class that writes the JSON file of the target class
+   * to the given data directory.
+   *
+   * @param targetClass the class type of the objects to be serialized; must not be null
+   * @param dataDirectory the root directory of the data files; must not be null
+   * @param isCompact a boolean flag indicating whether the JSON should be written without any
+   *     whitespace (true) or pretty printed (false)
+   * @throws IllegalArgumentException if the targetClass or dataDirectory parameter is null
+   */
+  public JsonWriter(Class<T> targetClass, Path dataDirectory, boolean isCompact) {
     if (targetClass == null) {
       throw new IllegalArgumentException("Target class must not be null");
     }
+    if (dataDirectory == null) {
+      throw new IllegalArgumentException("Data directory must not be null");
+    }
+    this.gson = isCompact ? CustomGson.getCompactInstance() : CustomGson.getInstance();
+    this.adapter = gson.getAdapter(targetClass);
     this.targetClass = targetClass;
-    this.isTest = isTest;
+    this.dataDirectory = dataDirectory;
   }
 
   /**
-   * Serializes the provided set of objects into a JSON file. The JSON file is created at a location
-   * determined based on the target class type and whether the operation is performed in a test or
-   * production environment. The method ensures that the necessary directory structure exists before
-   * writing the file.
+   * Serializes the provided collection of objects into a JSON file as a JSON array. The JSON file
+   * is created at a location determined based on the target class type and whether the operation is
+   * performed in a test or production environment. The method ensures that the necessary directory
+   * structure exists before writing the file.
    *
-   * @param set the set of objects to serialize and write into the JSON file
+   * @param collection the objects to serialize and write into the JSON file
    */
-  public void writeJsonFile(Set<T> set) {
-    File file = FileUtil.generateFilePath(targetClass, "json", isTest).toFile();
+  public void writeJsonFile(Collection<T> collection) {
+    File file = FileUtil.generateFilePath(targetClass, "json", dataDirectory).toFile();
     FileUtil.ensureFileAndDirectoryExists(file);
+    Path target = file.toPath();
+    Path temporary = target.resolveSibling(file.getName() + ".tmp");
 
-    String json = gson.toJson(set, JsonType.getType(targetClass));
-
-    try (FileWriter writer = new FileWriter(file)) {
-      writer.write(json);
+    try (FileChannel channel =
+            FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        Writer writer =
+            new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+        com.google.gson.stream.JsonWriter jsonWriter = gson.newJsonWriter(writer)) {
+      jsonWriter.beginArray();
+      for (T entity : collection) {
+        adapter.write(jsonWriter, entity);
+      }
+      jsonWriter.endArray();
+      jsonWriter.flush();
+      channel.force(true);
     } catch (IOException e) {
       throw new JsonException("Could not write JSON file: " + file + "\n" + e.getMessage());
     }
+
+    replace(temporary, target);
+  }
+
+  private static void replace(Path source, Path target) {
+    try {
+      try {
+        Files.move(
+            source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      syncDirectory(target.toAbsolutePath().getParent());
+    } catch (IOException e) {
+      throw new JsonException("Could not replace JSON file: " + target + "\n" + e.getMessage());
+    }
+  }
+
+  /** Makes the rename durable. Not every platform allows opening a directory, hence best effort. */
+  private static void syncDirectory(Path directory) {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      LOGGER.fine(() -> "Could not sync directory " + directory + ": " + e.getMessage());
+    }
   }
 }
@@ -0,0 +1,30 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model;
+
+/**
+ * An entity carrying the version it was last changed in, so copies of the entity held by different
+ * processes can be compared and synchronized.
+ *
+ * <p>Versions are handed out by the {@link edu.ntnu.idi.bidata.tiedy.backend.server.TiedyServer}
+ * from a single increasing sequence shared by every type of entity. A higher version therefore
+ * always means a later change. Entities that never went through a server have version 0.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.23
+ */
+public interface Versioned {
+
+  /**
+   * Retrieves the version the entity was last changed in.
+   *
+   * @return the version, 0 if it has never been assigned one
+   */
+  long getVersion();
+
+  /**
+   * Sets the version the entity was last changed in.
+   *
+   * @param version the version
+   * @throws IllegalArgumentException if the version is negative
+   */
+  void setVersion(long version);
+}
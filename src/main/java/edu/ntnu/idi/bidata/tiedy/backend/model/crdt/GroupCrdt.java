@@ -0,0 +1,178 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * The state of a single {@link Group} on one {@link Replica}, which can be changed offline and
+ * merged with the state of other replicas of the same group.
+ *
+ * <p>The name and description are last-writer-wins registers, and the members an {@link OrSet}.
+ * Whether a member is an admin is a last-writer-wins register per member, kept apart from the
+ * membership itself, so promoting a member on one replica does not undo removing them on another.
+ *
+ * <p>The group itself is edited as usual, through the methods of {@link Group}. {@link
+ * #update(Group)} then records what differs as changes of this replica, and {@link #toGroup(Group)}
+ * turns the merged state back into a group.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class GroupCrdt {
+
+  private final UUID groupId;
+  private final Replica replica;
+
+  private final LwwRegister<String> name;
+  private final LwwRegister<String> description;
+  private final OrSet<UUID> members;
+  private final Map<UUID, LwwRegister<Boolean>> permissions = new HashMap<>();
+
+  /**
+   * Creates the state of the given group. Replicas created from the same group start out in the
+   * same state, as every field is timed at {@link Timestamp#INITIAL}.
+   *
+   * @param group the group as last synchronized
+   * @param replica the replica making the changes
+   */
+  public GroupCrdt(Group group, Replica replica) {
+    this.groupId = group.getId();
+    this.replica = Objects.requireNonNull(replica);
+    this.name = new LwwRegister<>(group.getName(), Timestamp.INITIAL);
+    this.description = new LwwRegister<>(group.getDescription(), Timestamp.INITIAL);
+    this.members = new OrSet<>();
+    group
+        .getMembers()
+        .forEach(
+            (userId, isAdmin) -> {
+              members.add(userId, Timestamp.INITIAL);
+              permissions.put(userId, new LwwRegister<>(isAdmin, Timestamp.INITIAL));
+            });
+  }
+
+  /**
+   * Creates a copy of the given state for another replica, e.g. a device receiving the state.
+   *
+   * @param other the state to copy
+   * @param replica the replica making the changes to the copy
+   */
+  public GroupCrdt(GroupCrdt other, Replica replica) {
+    this.groupId = other.groupId;
+    this.replica = Objects.requireNonNull(replica);
+    this.name = new LwwRegister<>(other.name);
+    this.description = new LwwRegister<>(other.description);
+    this.members = new OrSet<>(other.members);
+    other.permissions.forEach(
+        (userId, isAdmin) -> permissions.put(userId, new LwwRegister<>(isAdmin)));
+    observeRegisters();
+  }
+
+  /**
+   * Records everything of the edited group that differs from this state as a change of this
+   * replica.
+   *
+   * @param edited the group after editing
+   * @throws IllegalArgumentException if the edited group is another group
+   */
+  public void update(Group edited) {
+    requireSameGroup(edited.getId());
+    if (!Objects.equals(name.get(), edited.getName())) {
+      name.set(edited.getName(), replica.tick());
+    }
+    if (!Objects.equals(description.get(), edited.getDescription())) {
+      description.set(edited.getDescription(), replica.tick());
+    }
+
+    Map<UUID, Boolean> edits = edited.getMembers();
+    for (UUID userId : new HashSet<>(members.elements())) {
+      if (!edits.containsKey(userId)) {
+        members.remove(userId);
+      }
+    }
+    edits.forEach(
+        (userId, isAdmin) -> {
+          if (!members.contains(userId)) {
+            members.add(userId, replica.tick());
+          }
+          LwwRegister<Boolean> permission = permissions.get(userId);
+          if (permission == null) {
+            permissions.put(userId, new LwwRegister<>(isAdmin, replica.tick()));
+          } else if (!Objects.equals(permission.get(), isAdmin)) {
+            permission.set(isAdmin, replica.tick());
+          }
+        });
+  }
+
+  /**
+   * Merges the state of another replica of the group into this one.
+   *
+   * @param other the state of the other replica
+   * @throws IllegalArgumentException if the other state is of another group
+   */
+  public void merge(GroupCrdt other) {
+    requireSameGroup(other.groupId);
+    name.merge(other.name);
+    description.merge(other.description);
+    members.merge(other.members);
+    other.permissions.forEach(
+        (userId, isAdmin) -> {
+          LwwRegister<Boolean> permission = permissions.get(userId);
+          if (permission == null) {
+            permissions.put(userId, new LwwRegister<>(isAdmin));
+          } else {
+            permission.merge(isAdmin);
+          }
+        });
+    observeRegisters();
+  }
+
+  /**
+   * Turns this state into a group.
+   *
+   * @param base the group this state was created from, providing the fields that are not merged
+   * @return a copy of the base group with the fields of this state
+   * @throws IllegalArgumentException if the base group is another group
+   */
+  public Group toGroup(Group base) {
+    requireSameGroup(base.getId());
+    Group group = new Group(base);
+    if (name.get() != null) {
+      group.setName(name.get());
+    }
+    group.setDescription(description.get());
+    for (UUID userId : base.getMembers().keySet()) {
+      if (!members.contains(userId)) {
+        group.removeMember(userId);
+      }
+    }
+    for (UUID userId : members.elements()) {
+      boolean isAdmin = permissions.get(userId).get();
+      if (!group.addMember(userId, isAdmin)) {
+        group.updateMemberPermission(userId, isAdmin);
+      }
+    }
+    return group;
+  }
+
+  public UUID getGroupId() {
+    return groupId;
+  }
+
+  private void observeRegisters() {
+    replica.observe(name.getTimestamp());
+    replica.observe(description.getTimestamp());
+    permissions.values().forEach(permission -> replica.observe(permission.getTimestamp()));
+  }
+
+  private void requireSameGroup(UUID id) {
+    if (!groupId.equals(id)) {
+      throw new IllegalArgumentException("The state belongs to another group!");
+    }
+  }
+}
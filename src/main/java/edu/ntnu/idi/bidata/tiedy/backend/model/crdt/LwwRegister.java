@@ -0,0 +1,72 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import java.util.Objects;
+
+/**
+ * A last-writer-wins register, holding a single value along with the {@link Timestamp} it was
+ * written at. Of two concurrent writes, the one with the later timestamp wins on every replica.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @param <T> the type of the value, which must be immutable
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class LwwRegister<T> {
+
+  private T value;
+  private Timestamp timestamp;
+
+  /**
+   * Creates a register holding the given value.
+   *
+   * @param value the value, may be null
+   * @param timestamp the timestamp the value was written at
+   */
+  public LwwRegister(T value, Timestamp timestamp) {
+    this.value = value;
+    this.timestamp = Objects.requireNonNull(timestamp);
+  }
+
+  /**
+   * Creates a copy of the given register.
+   *
+   * @param other the register to copy
+   */
+  public LwwRegister(LwwRegister<T> other) {
+    this(other.value, other.timestamp);
+  }
+
+  /**
+   * Writes the given value, unless the register already holds a value written later.
+   *
+   * @param value the value, may be null
+   * @param timestamp the timestamp of the write
+   * @return true if the value was written, false if it was outdated
+   */
+  public boolean set(T value, Timestamp timestamp) {
+    if (timestamp.compareTo(this.timestamp) <= 0) {
+      return false;
+    }
+    this.value = value;
+    this.timestamp = timestamp;
+    return true;
+  }
+
+  /**
+   * Merges the state of another replica of this register into this one.
+   *
+   * @param other the register of the other replica
+   */
+  public void merge(LwwRegister<T> other) {
+    set(other.value, other.timestamp);
+  }
+
+  public T get() {
+    return value;
+  }
+
+  public Timestamp getTimestamp() {
+    return timestamp;
+  }
+}
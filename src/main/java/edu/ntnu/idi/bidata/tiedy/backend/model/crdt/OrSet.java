@@ -0,0 +1,107 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An observed-remove set, where an element added on one replica and concurrently removed on another
+ * stays in the set after merging (add wins).
+ *
+ * <p>Every addition tags the element with a unique {@link Timestamp}, and a removal only removes
+ * the tags its replica has observed. The removed tags are kept as tombstones, so a replica that has
+ * not seen the removal yet cannot bring the element back when merging. Merging visits every tag of
+ * the other replica once and needs no coordination between the replicas.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @param <E> the type of the elements, which must be immutable
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class OrSet<E> {
+
+  private final Map<E, Set<Timestamp>> added = new HashMap<>();
+  private final Map<E, Set<Timestamp>> removed = new HashMap<>();
+
+  /** Creates an empty set. */
+  public OrSet() {}
+
+  /**
+   * Creates a copy of the given set.
+   *
+   * @param other the set to copy
+   */
+  public OrSet(OrSet<E> other) {
+    other.added.forEach((element, tags) -> added.put(element, new HashSet<>(tags)));
+    other.removed.forEach((element, tags) -> removed.put(element, new HashSet<>(tags)));
+  }
+
+  /**
+   * Adds the given element, tagged with the given timestamp.
+   *
+   * @param element the element to add
+   * @param tag a timestamp not used to tag any element before
+   */
+  public void add(E element, Timestamp tag) {
+    Objects.requireNonNull(element);
+    Objects.requireNonNull(tag);
+    if (!removed.getOrDefault(element, Set.of()).contains(tag)) {
+      added.computeIfAbsent(element, unused -> new HashSet<>()).add(tag);
+    }
+  }
+
+  /**
+   * Removes the given element, as far as it has been added on the replicas merged so far.
+   *
+   * @param element the element to remove
+   * @return true if the element was in the set, false otherwise
+   */
+  public boolean remove(E element) {
+    Set<Timestamp> tags = added.remove(element);
+    if (tags == null) {
+      return false;
+    }
+    removed.computeIfAbsent(element, unused -> new HashSet<>()).addAll(tags);
+    return true;
+  }
+
+  /**
+   * Merges the state of another replica of this set into this one.
+   *
+   * @param other the set of the other replica
+   */
+  public void merge(OrSet<E> other) {
+    other.removed.forEach(
+        (element, tags) -> {
+          removed.computeIfAbsent(element, unused -> new HashSet<>()).addAll(tags);
+          Set<Timestamp> live = added.get(element);
+          if (live != null && live.removeAll(tags) && live.isEmpty()) {
+            added.remove(element);
+          }
+        });
+    other.added.forEach((element, tags) -> tags.forEach(tag -> add(element, tag)));
+  }
+
+  /**
+   * Checks whether the given element is in the set.
+   *
+   * @param element the element
+   * @return true if the element is in the set, false otherwise
+   */
+  public boolean contains(E element) {
+    return added.containsKey(element);
+  }
+
+  /**
+   * Retrieves the elements in the set.
+   *
+   * @return an unmodifiable view of the elements
+   */
+  public Set<E> elements() {
+    return Collections.unmodifiableSet(added.keySet());
+  }
+}
@@ -0,0 +1,56 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A device holding its own copy of the data, which it may change while offline and later merge with
+ * the copies of other devices.
+ *
+ * <p>Every replica keeps a Lamport clock. The clock is advanced past every timestamp seen in a
+ * merge, so a change made after merging is always later than the changes merged in.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class Replica {
+
+  private final UUID id;
+  private long counter;
+
+  /** Creates a replica with a random id. */
+  public Replica() {
+    this(UUID.randomUUID());
+  }
+
+  /**
+   * Creates a replica with the given id, e.g. the id a device was given when first started.
+   *
+   * @param id the unique identifier of the replica
+   */
+  public Replica(UUID id) {
+    this.id = Objects.requireNonNull(id);
+  }
+
+  /**
+   * Advances the clock to time a new change.
+   *
+   * @return a timestamp later than every timestamp handed out or observed by this replica
+   */
+  public synchronized Timestamp tick() {
+    return new Timestamp(++counter, id);
+  }
+
+  /**
+   * Advances the clock past the given timestamp, if it is not already.
+   *
+   * @param timestamp a timestamp seen in the state of another replica
+   */
+  public synchronized void observe(Timestamp timestamp) {
+    counter = Math.max(counter, timestamp.counter());
+  }
+
+  public UUID getId() {
+    return id;
+  }
+}
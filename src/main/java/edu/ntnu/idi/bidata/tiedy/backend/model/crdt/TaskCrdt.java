@@ -0,0 +1,174 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The state of a single {@link Task} on one {@link Replica}, which can be changed offline and
+ * merged with the state of other replicas of the same task.
+ *
+ * <p>The title, description, deadline, status and priority are last-writer-wins registers, and the
+ * assigned users an {@link OrSet}. Merging is commutative, associative and idempotent, so replicas
+ * exchanging their states in any order end up with the same task.
+ *
+ * <p>The task itself is edited as usual, through the setters of {@link Task}, which validate the
+ * values. {@link #update(Task)} then records the fields that differ as changes of this replica, and
+ * {@link #toTask(Task)} turns the merged state back into a task.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class TaskCrdt {
+
+  private final UUID taskId;
+  private final Replica replica;
+
+  private final LwwRegister<String> title;
+  private final LwwRegister<String> description;
+  private final LwwRegister<LocalDate> deadline;
+  private final LwwRegister<Status> status;
+  private final LwwRegister<Priority> priority;
+  private final OrSet<UUID> assignedUsers;
+
+  /**
+   * Creates the state of the given task. Replicas created from the same task start out in the same
+   * state, as every field is timed at {@link Timestamp#INITIAL}.
+   *
+   * @param task the task as last synchronized
+   * @param replica the replica making the changes
+   */
+  public TaskCrdt(Task task, Replica replica) {
+    this.taskId = task.getId();
+    this.replica = Objects.requireNonNull(replica);
+    this.title = new LwwRegister<>(task.getTitle(), Timestamp.INITIAL);
+    this.description = new LwwRegister<>(task.getDescription(), Timestamp.INITIAL);
+    this.deadline = new LwwRegister<>(task.getDeadline(), Timestamp.INITIAL);
+    this.status = new LwwRegister<>(task.getStatus(), Timestamp.INITIAL);
+    this.priority = new LwwRegister<>(task.getPriority(), Timestamp.INITIAL);
+    this.assignedUsers = new OrSet<>();
+    task.getAssignedUsers().forEach(userId -> assignedUsers.add(userId, Timestamp.INITIAL));
+  }
+
+  /**
+   * Creates a copy of the given state for another replica, e.g. a device receiving the state.
+   *
+   * @param other the state to copy
+   * @param replica the replica making the changes to the copy
+   */
+  public TaskCrdt(TaskCrdt other, Replica replica) {
+    this.taskId = other.taskId;
+    this.replica = Objects.requireNonNull(replica);
+    this.title = new LwwRegister<>(other.title);
+    this.description = new LwwRegister<>(other.description);
+    this.deadline = new LwwRegister<>(other.deadline);
+    this.status = new LwwRegister<>(other.status);
+    this.priority = new LwwRegister<>(other.priority);
+    this.assignedUsers = new OrSet<>(other.assignedUsers);
+    observeRegisters();
+  }
+
+  /**
+   * Records every field of the edited task that differs from this state as a change of this
+   * replica.
+   *
+   * @param edited the task after editing
+   * @throws IllegalArgumentException if the edited task is another task
+   */
+  public void update(Task edited) {
+    requireSameTask(edited.getId());
+    setIfChanged(title, edited.getTitle());
+    setIfChanged(description, edited.getDescription());
+    setIfChanged(deadline, edited.getDeadline());
+    setIfChanged(status, edited.getStatus());
+    setIfChanged(priority, edited.getPriority());
+
+    Set<UUID> assigned = edited.getAssignedUsers();
+    for (UUID userId : new HashSet<>(assignedUsers.elements())) {
+      if (!assigned.contains(userId)) {
+        assignedUsers.remove(userId);
+      }
+    }
+    for (UUID userId : assigned) {
+      if (!assignedUsers.contains(userId)) {
+        assignedUsers.add(userId, replica.tick());
+      }
+    }
+  }
+
+  /**
+   * Merges the state of another replica of the task into this one.
+   *
+   * @param other the state of the other replica
+   * @throws IllegalArgumentException if the other state is of another task
+   */
+  public void merge(TaskCrdt other) {
+    requireSameTask(other.taskId);
+    title.merge(other.title);
+    description.merge(other.description);
+    deadline.merge(other.deadline);
+    status.merge(other.status);
+    priority.merge(other.priority);
+    assignedUsers.merge(other.assignedUsers);
+    observeRegisters();
+  }
+
+  /**
+   * Turns this state into a task.
+   *
+   * @param base the task this state was created from, providing the fields that are not merged
+   * @return a copy of the base task with the fields of this state
+   * @throws IllegalArgumentException if the base task is another task
+   */
+  public Task toTask(Task base) {
+    requireSameTask(base.getId());
+    Task task = new Task(base);
+    if (title.get() != null) {
+      task.setTitle(title.get());
+    }
+    task.setDescription(description.get());
+    if (deadline.get() != null) {
+      task.setDeadline(deadline.get());
+    }
+    task.setStatus(status.get());
+    task.setPriority(priority.get());
+    for (UUID userId : base.getAssignedUsers()) {
+      if (!assignedUsers.contains(userId)) {
+        task.unassignUser(userId);
+      }
+    }
+    assignedUsers.elements().forEach(task::assignUser);
+    return task;
+  }
+
+  public UUID getTaskId() {
+    return taskId;
+  }
+
+  private <T> void setIfChanged(LwwRegister<T> register, T value) {
+    if (!Objects.equals(register.get(), value)) {
+      register.set(value, replica.tick());
+    }
+  }
+
+  private void observeRegisters() {
+    replica.observe(title.getTimestamp());
+    replica.observe(description.getTimestamp());
+    replica.observe(deadline.getTimestamp());
+    replica.observe(status.getTimestamp());
+    replica.observe(priority.getTimestamp());
+  }
+
+  private void requireSameTask(UUID id) {
+    if (!taskId.equals(id)) {
+      throw new IllegalArgumentException("The state belongs to another task!");
+    }
+  }
+}
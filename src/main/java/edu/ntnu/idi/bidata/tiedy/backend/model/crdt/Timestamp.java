@@ -0,0 +1,45 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A logical point in time at which a {@link Replica} made a change.
+ *
+ * <p>Timestamps are ordered by their counter first and by the id of the replica second, so any two
+ * timestamps can be compared, even those of concurrent changes on different replicas. Every
+ * timestamp handed out by a replica is unique, which also makes it usable as the tag of an element
+ * added to an {@link OrSet}.
+ *
+ * @param counter the value of the logical clock of the replica
+ * @param replicaId the unique identifier of the replica
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public record Timestamp(long counter, UUID replicaId) implements Comparable<Timestamp> {
+
+  /** The timestamp of the state every replica starts from, older than any change. */
+  public static final Timestamp INITIAL = new Timestamp(0, new UUID(0, 0));
+
+  private static final Comparator<Timestamp> ORDER =
+      Comparator.comparingLong(Timestamp::counter).thenComparing(Timestamp::replicaId);
+
+  /**
+   * Constructs a new timestamp.
+   *
+   * @throws IllegalArgumentException if the counter is negative
+   * @throws NullPointerException if the id of the replica is null
+   */
+  public Timestamp {
+    if (counter < 0) {
+      throw new IllegalArgumentException("Counter cannot be negative!");
+    }
+    Objects.requireNonNull(replicaId);
+  }
+
+  @Override
+  public int compareTo(Timestamp other) {
+    return ORDER.compare(this, other);
+  }
+}
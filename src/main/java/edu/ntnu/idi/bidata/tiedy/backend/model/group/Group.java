@@ -1,6 +1,8 @@
 package edu.ntnu.idi.bidata.tiedy.backend.model.group;
 
+import edu.ntnu.idi.bidata.tiedy.backend.model.Versioned;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -10,14 +12,19 @@ import java.util.UUID;
  * Represents a group of users, specifically family members. Provides functionality to manage the
  * family members within the group.
  *
+ * <p>The member map is copy-on-write: it is never modified in place, but replaced by a new map
+ * whenever a member is added, removed or given a new role. Copies of a group can therefore share
+ * the map, which makes copying a group cheap regardless of the number of members.
+ *
  * @author Nick Heggø
- * @version 2025.04.12
+ * @version 2025.05.23
  */
-public class Group {
+public class Group implements Versioned {
 
   private final UUID id; // groupID
   private final LocalDateTime createdAt;
-  private final Map<UUID, Boolean> members; // K: userID, V: flag for permission
+  private long version;
+  private Map<UUID, Boolean> members; // K: userID, V: flag for permission
 
   private String name;
   private String description;
@@ -25,7 +32,7 @@ public class Group {
   private Group() {
     this.id = UUID.randomUUID();
     this.createdAt = LocalDateTime.now();
-    this.members = new HashMap<>();
+    this.members = Map.of();
   }
 
   /**
@@ -48,7 +55,8 @@ public class Group {
   }
 
   /**
-   * Creates a new Group instance by copying the data from an existing Group object.
+   * Creates a new Group instance by copying the data from an existing Group object. The member map
+   * is shared, which is safe because it is copy-on-write.
    *
    * @param other the Group instance to copy; must not be null and should contain valid values for
    *     all fields
@@ -57,7 +65,8 @@ public class Group {
     Objects.requireNonNull(other, "Group cannot be null!");
     this.id = other.id;
     this.createdAt = other.createdAt;
-    this.members = new HashMap<>(other.members);
+    this.version = other.version;
+    this.members = other.members; // copy-on-write, so it is safe to share
     this.name = other.name;
     this.description = other.description;
   }
@@ -100,7 +109,10 @@ public class Group {
     if (members.containsKey(userId)) {
       return false;
     }
-    return members.put(userId, isAdmin) == null;
+    Map<UUID, Boolean> updated = new HashMap<>(members);
+    updated.put(userId, isAdmin);
+    members = Map.copyOf(updated);
+    return true;
   }
 
   /**
@@ -110,7 +122,12 @@ public class Group {
    * @param userId the UUID of the member to be removed from the group; must not be null
    */
   public void removeMember(UUID userId) {
-    members.remove(userId);
+    if (!members.containsKey(userId)) {
+      return;
+    }
+    Map<UUID, Boolean> updated = new HashMap<>(members);
+    updated.remove(userId);
+    members = Map.copyOf(updated);
   }
 
   /**
@@ -129,11 +146,14 @@ public class Group {
       return false;
     }
 
-    return members.replace(userId, isAdmin) != null;
+    Map<UUID, Boolean> updated = new HashMap<>(members);
+    updated.put(userId, isAdmin);
+    members = Map.copyOf(updated);
+    return true;
   }
 
   public boolean isAdmin(UUID userId) {
-    return getMembers().getOrDefault(userId, false);
+    return members.getOrDefault(userId, false);
   }
 
   // ------------------------   Getters and Setters ------------------------
@@ -142,12 +162,25 @@ public class Group {
     return id;
   }
 
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public void setVersion(long version) {
+    if (version < 0) {
+      throw new IllegalArgumentException("Version cannot be negative!");
+    }
+    this.version = version;
+  }
+
   public LocalDateTime getCreatedAt() {
     return createdAt;
   }
 
   public Map<UUID, Boolean> getMembers() {
-    return Map.copyOf(members);
+    return Collections.unmodifiableMap(members);
   }
 
   public String getName() {
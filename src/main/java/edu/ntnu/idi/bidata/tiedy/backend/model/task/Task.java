@@ -1,8 +1,10 @@
 package edu.ntnu.idi.bidata.tiedy.backend.model.task;
 
+import edu.ntnu.idi.bidata.tiedy.backend.model.Versioned;
 import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -12,14 +14,19 @@ import java.util.UUID;
  * The Task class represents a task with values like id, title, description, status, who it's
  * assigned to, deadline and priority. It provides methods to retrieve and update the task's values.
  *
+ * <p>The set of assigned users is copy-on-write: it is never modified in place, but replaced by a
+ * new set whenever a user is assigned or unassigned. Copies of a task can therefore share the set,
+ * which makes copying a task cheap regardless of the number of assigned users.
+ *
  * @author Nick Heggø and Ida Løvås
- * @version 2025.04.12
+ * @version 2025.05.23
  */
-public class Task {
+public class Task implements Versioned {
 
   private final UUID id;
   private final LocalDateTime createdAt;
-  private final Set<UUID> assignedUsers;
+  private long version;
+  private Set<UUID> assignedUsers;
 
   private String title;
   private String description;
@@ -39,15 +46,15 @@ public class Task {
   public Task() {
     this.id = UUID.randomUUID();
     this.createdAt = LocalDateTime.now();
-    this.assignedUsers = new HashSet<>();
+    this.assignedUsers = Set.of();
     this.status = Status.OPEN;
     this.priority = Priority.NONE;
   }
 
   /**
    * Constructs a new Task object by copying the properties of the given Task instance. This
-   * performs a shallow copy of the provided Task's attributes, except {@code assignedUsers}, which
-   * is created as a new HashSet instance containing the same UUIDs, ensuring immutability.
+   * performs a shallow copy of the provided Task's attributes. The set of assigned users is shared,
+   * which is safe because it is copy-on-write, so changes to either task never affect the other.
    *
    * @param other the Task instance to copy; must not be null
    */
@@ -55,7 +62,8 @@ public class Task {
     Objects.requireNonNull(other, "Task cannot be null!");
     this.id = other.id;
     this.createdAt = other.createdAt;
-    this.assignedUsers = new HashSet<>(other.assignedUsers); // shallow copy, but UUID is immutable
+    this.version = other.version;
+    this.assignedUsers = other.assignedUsers; // copy-on-write, so it is safe to share
     this.title = other.title;
     this.description = other.description;
     this.deadline = other.deadline;
@@ -100,7 +108,7 @@ public class Task {
     if (user == null) {
       throw new IllegalArgumentException("User cannot be null!");
     }
-    assignedUsers.add(user.getId());
+    assignUser(user.getId());
   }
 
   // ------------------------  Getters and Setters  ------------------------
@@ -109,8 +117,21 @@ public class Task {
     return id;
   }
 
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public void setVersion(long version) {
+    if (version < 0) {
+      throw new IllegalArgumentException("Version cannot be negative!");
+    }
+    this.version = version;
+  }
+
   public Set<UUID> getAssignedUsers() {
-    return Set.copyOf(assignedUsers);
+    return Collections.unmodifiableSet(assignedUsers);
   }
 
   /**
@@ -125,14 +146,27 @@ public class Task {
     if (assignedUsers.contains(userId)) {
       return false;
     }
-    return assignedUsers.add(userId);
+    Set<UUID> updated = new HashSet<>(assignedUsers);
+    updated.add(userId);
+    assignedUsers = Set.copyOf(updated);
+    return true;
   }
 
+  /**
+   * Unassigns a user from the task by removing their unique identifier from the set of assigned
+   * users. If the user is not assigned to the task, the method will return {@code false}.
+   *
+   * @param userId the unique identifier of the user to unassign from the task
+   * @return {@code true} if the user was unassigned, or {@code false} if the user was not assigned
+   */
   public boolean unassignUser(UUID userId) {
     if (!assignedUsers.contains(userId)) {
       return false;
     }
-    return assignedUsers.remove(userId);
+    Set<UUID> updated = new HashSet<>(assignedUsers);
+    updated.remove(userId);
+    assignedUsers = Set.copyOf(updated);
+    return true;
   }
 
   public String getTitle() {
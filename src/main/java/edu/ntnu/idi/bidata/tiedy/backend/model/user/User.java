@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.tiedy.backend.model.user;
 
+import edu.ntnu.idi.bidata.tiedy.backend.model.Versioned;
 import edu.ntnu.idi.bidata.tiedy.backend.util.PasswordUtil;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -10,13 +11,14 @@ import java.util.regex.Pattern;
  * The object that represents the customers of the application.
  *
  * @author Odin Arvhage and Nick Heggø
- * @version 2025.04.12
+ * @version 2025.05.23
  */
-public class User {
+public class User implements Versioned {
 
   private final UUID id;
   private final LocalDateTime createdAt;
-  private final LevelSystem levelSystem;
+  private long version;
+  private LevelSystem levelSystem;
 
   private String username;
   private String hashedPassword;
@@ -43,9 +45,10 @@ public class User {
   }
 
   /**
-   * Constructs a new User instance as a deep copy of another User instance. All fields, including
-   * the {@code levelSystem} object, are copied to ensure that the new User instance is independent
-   * of the original instance.
+   * Constructs a new User instance as a copy of another User instance. The {@code levelSystem}
+   * object is shared rather than copied, which is safe because it is copy-on-write: {@link
+   * #completeTask()} replaces it with a new copy before changing it, so the new User instance is
+   * still independent of the original instance.
    *
    * @param other the User instance to copy; must not be null
    */
@@ -53,7 +56,8 @@ public class User {
     Objects.requireNonNull(other, "User cannot be null!");
     this.id = other.id;
     this.createdAt = other.createdAt;
-    this.levelSystem = new LevelSystem(other.levelSystem);
+    this.version = other.version;
+    this.levelSystem = other.levelSystem; // copy-on-write, so it is safe to share
     this.username = other.username;
     this.hashedPassword = other.hashedPassword;
   }
@@ -92,6 +96,7 @@ public class User {
    * @return true if completing the task results in the user leveling up, false otherwise
    */
   public boolean completeTask() {
+    levelSystem = new LevelSystem(levelSystem);
     return levelSystem.completeTask();
   }
 
@@ -117,6 +122,19 @@ public class User {
     return id;
   }
 
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public void setVersion(long version) {
+    if (version < 0) {
+      throw new IllegalArgumentException("Version cannot be negative!");
+    }
+    this.version = version;
+  }
+
   public String getUsername() {
     return username;
   }
@@ -1,5 +1,7 @@
 package edu.ntnu.idi.bidata.tiedy.backend.repository;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -10,14 +12,22 @@ import java.util.stream.Stream;
  *
  * <p>This interface follows the "Repository" design pattern
  *
+ * <p>The entities held in memory are the source of truth. Mutations are written to the data source
+ * but never read back; the data source is only read again by {@link #refresh()}, or by {@link
+ * #reconcile()} when it has been modified by someone else.
+ *
+ * <p>The entities returned by a repository are the instances it stores. They must not be modified
+ * in place; modify a copy and pass it to {@link #update(Object)} instead.
+ *
  * @param <T> the type of entity that the repository will manage
  * @author Nick Heggø
- * @version 2025.04.11
+ * @version 2025.05.24
  */
 public interface DataRepository<T> {
 
   /**
-   * Loads all entities from the data source.
+   * Loads all entities from the data source. The stream may be backed by an open data source and
+   * should be closed after use.
    *
    * @return a stream of all entities
    */
@@ -31,6 +41,15 @@ public interface DataRepository<T> {
    */
   Optional<T> getById(UUID id);
 
+  /**
+   * Gets the entities with the given unique identifiers in a single call. Identifiers without a
+   * matching entity are left out of the result.
+   *
+   * @param ids the UUIDs of the entities
+   * @return a map from UUID to entity, in the iteration order of the given identifiers
+   */
+  Map<UUID, T> getByIds(Collection<UUID> ids);
+
   /**
    * Gets all entities managed by this repository.
    *
@@ -65,6 +84,27 @@ public interface DataRepository<T> {
   /** Deserializing back to source. */
   void saveChanges();
 
+  /**
+   * Blocks until every mutation made so far has been written to the data source and made durable.
+   * Must be called before the application exits.
+   */
+  void flush();
+
+  /**
+   * Writes every mutation made so far, like {@link #flush()}, and releases what the repository
+   * holds on to, e.g. its writer thread. The repository must not be changed afterwards.
+   */
+  void close();
+
   /** Serialize from source. */
   void refresh();
+
+  /**
+   * Reloads the entities from the data source, but only if the data source has been modified
+   * externally since the repository last read or wrote it. Intended to be called rarely, e.g. when
+   * the application regains focus, not after every mutation.
+   *
+   * @return true if the data source had changed and the entities were reloaded, false otherwise
+   */
+  boolean reconcile();
 }
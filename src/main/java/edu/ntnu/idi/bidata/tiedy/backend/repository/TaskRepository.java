@@ -4,6 +4,7 @@ import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -58,6 +59,34 @@ public interface TaskRepository extends DataRepository<Task> {
    */
   Stream<Task> getTasksBeforeDate(LocalDate date);
 
+  /**
+   * Finds all tasks assigned to a specific user with a deadline within the specified range.
+   *
+   * @param userId the unique identifier of the user whose tasks are being retrieved
+   * @param from the first day of the range, inclusive
+   * @param to the last day of the range, inclusive
+   * @return a stream of tasks assigned to the user with deadlines within the range
+   */
+  Stream<Task> getTasksByUserIdAndDeadlineBetween(UUID userId, LocalDate from, LocalDate to);
+
+  /**
+   * Counts the active tasks, i.e. tasks that are not closed, assigned to a specific user per
+   * status.
+   *
+   * @param userId the unique identifier of the user whose tasks are being counted
+   * @return the number of active tasks for every status, zero where there are none
+   */
+  EnumMap<Status, Integer> countActiveTasksByStatus(UUID userId);
+
+  /**
+   * Counts the active tasks, i.e. tasks that are not closed, assigned to a specific user per
+   * priority.
+   *
+   * @param userId the unique identifier of the user whose tasks are being counted
+   * @return the number of active tasks for every priority, zero where there are none
+   */
+  EnumMap<Priority, Integer> countActiveTasksByPriority(UUID userId);
+
   /**
    * Assigns a task to a user.
    *
@@ -0,0 +1,86 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.http;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.GroupRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.GroupIndex;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The groups of a shared server, see {@link HttpRepository}.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public final class HttpGroupRepository extends HttpRepository<Group> implements GroupRepository {
+
+  private final GroupIndex groupIndex;
+
+  /**
+   * Creates an empty repository, which is loaded once the connection is connected.
+   *
+   * @param connection the connection to the server
+   */
+  public HttpGroupRepository(ServerConnection connection) {
+    this(connection, new GroupIndex());
+  }
+
+  private HttpGroupRepository(ServerConnection connection, GroupIndex groupIndex) {
+    super(connection, "group", Group.class, Group::getId, groupIndex);
+    this.groupIndex = groupIndex;
+    register();
+  }
+
+  @Override
+  public Stream<Group> getGroupsByUserId(UUID userId) {
+    return groupIndex.getGroupsByUser(userId).keySet().stream().flatMap(id -> getById(id).stream());
+  }
+
+  @Override
+  public Stream<Group> getGropsByUserIdWhereUserIsAdmin(UUID userId) {
+    return groupIndex.getGroupsByUser(userId).entrySet().stream()
+        .filter(Map.Entry::getValue) // true if the user is admin
+        .flatMap(entry -> getById(entry.getKey()).stream());
+  }
+
+  @Override
+  public boolean addMemberToGroup(UUID groupId, UUID userId, boolean isAdmin) {
+    Group group = getById(groupId).map(Group::new).orElse(null);
+    if (group == null) {
+      return false;
+    }
+    boolean isAdded = group.addMember(userId, isAdmin);
+    if (isAdded) {
+      update(group);
+    }
+    return isAdded;
+  }
+
+  @Override
+  public boolean removeMemberFromGroup(UUID groupId, UUID userId) {
+    Group group = getById(groupId).map(Group::new).orElse(null);
+    if (group == null || !group.getMembers().containsKey(userId)) {
+      return false;
+    }
+    group.removeMember(userId);
+    update(group);
+    return true;
+  }
+
+  @Override
+  public boolean updateMemberAdminStatus(UUID groupId, UUID userId, boolean isAdmin) {
+    if ((groupId == null) || (userId == null)) {
+      return false;
+    }
+    Group group = getById(groupId).map(Group::new).orElse(null);
+    if (group == null) {
+      return false;
+    }
+    boolean isUpdated = group.updateMemberPermission(userId, isAdmin);
+    if (isUpdated) {
+      update(group);
+    }
+    return isUpdated;
+  }
+}
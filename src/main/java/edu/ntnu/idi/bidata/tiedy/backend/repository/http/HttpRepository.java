@@ -0,0 +1,281 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.http;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import edu.ntnu.idi.bidata.tiedy.backend.io.json.CustomGson;
+import edu.ntnu.idi.bidata.tiedy.backend.model.Versioned;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.DataRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.EntityIndex;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base class for the repositories backed by a shared {@link
+ * edu.ntnu.idi.bidata.tiedy.backend.server.TiedyServer}.
+ *
+ * <p>Like the JSON repositories, every entity is held in memory along with a secondary index, so
+ * reads never wait for the network. Writes are sent to the server right away and only applied to
+ * the local copy once the server accepted them. Changes made by other clients arrive through the
+ * {@link ServerConnection} and are applied as they come in, so {@link #reconcile()} merely reports
+ * whether any did since it was last called.
+ *
+ * <p>The answer to a write of this client and the events published by the server may arrive in any
+ * order, so an entity is only ever replaced by one with the same or a higher version. The versions
+ * of removed entities are remembered as well, until every older event has arrived and every write
+ * sent before the removal has been answered, so neither a late event nor a late answer can bring a
+ * removed entity back.
+ *
+ * @param <T> the type of entity
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public abstract class HttpRepository<T extends Versioned> implements DataRepository<T> {
+
+  protected static final Gson GSON = CustomGson.getCompactInstance();
+
+  private final ServerConnection connection;
+  private final String eventType;
+  private final String path;
+  private final Class<T> entityClass;
+  private final Function<T, UUID> idExtractor;
+  private final EntityIndex<T> index;
+  private final Map<UUID, T> entities = new ConcurrentHashMap<>();
+  private final Map<UUID, Long> removals = new HashMap<>();
+  private final AtomicBoolean isChangedRemotely = new AtomicBoolean();
+  private int pendingWrites; // guarded by this
+
+  /**
+   * Creates an empty repository, which is loaded once the connection is {@linkplain
+   * ServerConnection#connect() connected}.
+   *
+   * @param connection the connection to the server
+   * @param eventType the name of the change events for this type of entity, also the last part of
+   *     the path of its collection, e.g. {@code task} for {@code /api/tasks}
+   * @param entityClass the class of the entities
+   * @param idExtractor retrieves the id of an entity
+   * @param index the secondary index to keep up to date
+   */
+  protected HttpRepository(
+      ServerConnection connection,
+      String eventType,
+      Class<T> entityClass,
+      Function<T, UUID> idExtractor,
+      EntityIndex<T> index) {
+    this.connection = Objects.requireNonNull(connection);
+    this.eventType = Objects.requireNonNull(eventType);
+    this.path = "/api/" + eventType + "s";
+    this.entityClass = Objects.requireNonNull(entityClass);
+    this.idExtractor = Objects.requireNonNull(idExtractor);
+    this.index = Objects.requireNonNull(index);
+  }
+
+  /**
+   * Registers the repository with its connection, to be loaded on {@link
+   * ServerConnection#connect()} and to receive the changes to its type of entity. Called last by
+   * the constructor of every subclass, so no event can reach a repository that is not fully
+   * initialized.
+   */
+  protected final void register() {
+    connection.register(eventType, this);
+  }
+
+  /**
+   * Retrieves the connection to the server, for requests beyond the collection of the repository.
+   *
+   * @return the connection
+   */
+  protected ServerConnection getConnection() {
+    return connection;
+  }
+
+  @Override
+  public Stream<T> loadAll() {
+    JsonElement all = connection.send("GET", path, null).orElseThrow();
+    return StreamSupport.stream(all.getAsJsonArray().spliterator(), false)
+        .map(json -> GSON.fromJson(json, entityClass));
+  }
+
+  @Override
+  public Optional<T> getById(UUID id) {
+    return Optional.ofNullable(entities.get(id));
+  }
+
+  @Override
+  public Map<UUID, T> getByIds(Collection<UUID> ids) {
+    Map<UUID, T> found = LinkedHashMap.newLinkedHashMap(ids.size());
+    for (UUID id : ids) {
+      T entity = entities.get(id);
+      if (entity != null) {
+        found.put(id, entity);
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public Stream<T> getAll() {
+    return entities.values().stream();
+  }
+
+  @Override
+  public T add(T entity) {
+    beginWrite();
+    try {
+      T added = parse(connection.send("POST", path, GSON.toJsonTree(entity)).orElseThrow());
+      put(added);
+      return added;
+    } finally {
+      endWrite();
+    }
+  }
+
+  @Override
+  public T update(T entity) {
+    UUID id = idExtractor.apply(entity);
+    beginWrite();
+    try {
+      Optional<JsonElement> updated =
+          connection.send("PUT", path + "/" + id, GSON.toJsonTree(entity));
+      if (updated.isEmpty()) {
+        return null;
+      }
+      T stored = parse(updated.get());
+      put(stored);
+      return stored;
+    } finally {
+      endWrite();
+    }
+  }
+
+  @Override
+  public boolean remove(UUID id) {
+    Optional<JsonElement> removal = connection.send("DELETE", path + "/" + id, null);
+    // an entity already gone from the server is gone here as well
+    synchronized (this) {
+      entities.remove(id);
+      index.remove(id);
+      removal.ifPresent(
+          json -> removals.put(id, json.getAsJsonObject().get("version").getAsLong()));
+    }
+    return removal.isPresent();
+  }
+
+  /** Does nothing, as every change is sent to the server right away. */
+  @Override
+  public void saveChanges() {
+    // written through
+  }
+
+  /** Does nothing, as every change is sent to the server right away. */
+  @Override
+  public void flush() {
+    // written through
+  }
+
+  /** Does nothing, as the connection is shared by the repositories and closed on its own. */
+  @Override
+  public void close() {
+    // nothing to release
+  }
+
+  @Override
+  public void refresh() {
+    List<T> loaded;
+    try (Stream<T> all = loadAll()) {
+      loaded = all.toList();
+    }
+    synchronized (this) {
+      entities.clear();
+      index.clear();
+      removals.clear();
+      loaded.forEach(this::put);
+    }
+    isChangedRemotely.set(true);
+  }
+
+  /**
+   * Reports whether changes made by other clients were applied since this was last called. The
+   * changes are already in place, so nothing needs to be reloaded.
+   *
+   * @return true if anything changed remotely, false otherwise
+   */
+  @Override
+  public boolean reconcile() {
+    return isChangedRemotely.getAndSet(false);
+  }
+
+  /**
+   * Applies an entity added or updated on the server. The echo of a write of this client is already
+   * in place, so it does not count as a remote change.
+   */
+  void applyChange(JsonElement json) {
+    if (put(parse(json))) {
+      isChangedRemotely.set(true);
+    }
+  }
+
+  /** Applies the removal of an entity on the server, in the given version. */
+  synchronized void applyRemoval(UUID id, long version) {
+    removals.merge(id, version, Math::max);
+    if (entities.remove(id) != null) {
+      index.remove(id);
+      isChangedRemotely.set(true);
+    }
+  }
+
+  /** Replaces every entity with the given ones, e.g. after the server restarted. */
+  synchronized void replaceAll(List<JsonElement> all) {
+    entities.clear();
+    index.clear();
+    removals.clear();
+    all.forEach(json -> put(parse(json)));
+    isChangedRemotely.set(true);
+  }
+
+  /**
+   * Forgets the removals that no older change can arrive for anymore. While a write is waiting for
+   * its answer, nothing is forgotten, as the answer may hold an older version of a removed entity.
+   */
+  synchronized void forgetRemovalsUpTo(long version) {
+    if (pendingWrites == 0) {
+      removals.values().removeIf(removed -> removed <= version);
+    }
+  }
+
+  private synchronized void beginWrite() {
+    pendingWrites++;
+  }
+
+  private synchronized void endWrite() {
+    pendingWrites--;
+  }
+
+  /** Stores the entity unless it is outdated, and reports whether it was stored. */
+  private synchronized boolean put(T entity) {
+    UUID id = idExtractor.apply(entity);
+    Long removed = removals.get(id);
+    T current = entities.get(id);
+    if ((removed != null && removed >= entity.getVersion())
+        || (current != null && current.getVersion() >= entity.getVersion())) {
+      return false; // outdated or already in place
+    }
+    entities.put(id, entity);
+    index.put(entity);
+    return true;
+  }
+
+  private T parse(JsonElement json) {
+    return GSON.fromJson(json, entityClass);
+  }
+}
@@ -0,0 +1,34 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.http;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a request to the shared server fails, either because the server cannot be reached or
+ * because it rejected the request.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class HttpRepositoryException extends RuntimeException {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructs a new HttpRepositoryException instance with the specified detail message.
+   *
+   * @param message the detail message providing further information about the exception
+   */
+  public HttpRepositoryException(String message) {
+    super(message);
+  }
+
+  /**
+   * Constructs a new HttpRepositoryException instance with the specified detail message and cause.
+   *
+   * @param message the detail message providing further information about the exception
+   * @param cause the exception that made the request fail
+   */
+  public HttpRepositoryException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
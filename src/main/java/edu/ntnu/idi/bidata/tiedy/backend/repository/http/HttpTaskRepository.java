@@ -0,0 +1,106 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.http;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.TaskRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.TaskIndex;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The tasks of a shared server, see {@link HttpRepository}.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public final class HttpTaskRepository extends HttpRepository<Task> implements TaskRepository {
+
+  private final TaskIndex taskIndex;
+
+  /**
+   * Creates an empty repository, which is loaded once the connection is connected.
+   *
+   * @param connection the connection to the server
+   */
+  public HttpTaskRepository(ServerConnection connection) {
+    this(connection, new TaskIndex());
+  }
+
+  private HttpTaskRepository(ServerConnection connection, TaskIndex taskIndex) {
+    super(connection, "task", Task.class, Task::getId, taskIndex);
+    this.taskIndex = taskIndex;
+    register();
+  }
+
+  @Override
+  public Stream<Task> getTasksByUserId(UUID userId) {
+    return taskIndex.getTaskIdsByUser(userId).stream().flatMap(id -> getById(id).stream());
+  }
+
+  @Override
+  public Stream<Task> getActiveTasksByUserId(UUID userId) {
+    return getTasksByUserId(userId).filter(task -> task.getStatus() != Status.CLOSED);
+  }
+
+  @Override
+  public Stream<Task> getTasksByStatus(Status status) {
+    return getAll().filter(task -> task.getStatus() == status);
+  }
+
+  @Override
+  public Stream<Task> getTasksByPriority(Priority priority) {
+    return getAll().filter(task -> task.getPriority() == priority);
+  }
+
+  @Override
+  public Stream<Task> getTasksBeforeDate(LocalDate date) {
+    return taskIndex.getTaskIdsBeforeDeadline(date).flatMap(id -> getById(id).stream());
+  }
+
+  @Override
+  public Stream<Task> getTasksByUserIdAndDeadlineBetween(
+      UUID userId, LocalDate from, LocalDate to) {
+    return taskIndex
+        .getTaskIdsByUserAndDeadline(userId, from, to)
+        .flatMap(id -> getById(id).stream());
+  }
+
+  @Override
+  public EnumMap<Status, Integer> countActiveTasksByStatus(UUID userId) {
+    return taskIndex.countActiveTasksByStatus(userId);
+  }
+
+  @Override
+  public EnumMap<Priority, Integer> countActiveTasksByPriority(UUID userId) {
+    return taskIndex.countActiveTasksByPriority(userId);
+  }
+
+  @Override
+  public boolean assignTaskToUser(UUID taskId, UUID userId) {
+    Task task = getById(taskId).map(Task::new).orElse(null);
+    if (task == null) {
+      return false;
+    }
+    boolean isAssigned = task.assignUser(userId);
+    if (isAssigned) {
+      update(task);
+    }
+    return isAssigned;
+  }
+
+  @Override
+  public boolean unassignTaskFromUser(UUID taskId, UUID userId) {
+    Task task = getById(taskId).map(Task::new).orElse(null);
+    if (task == null) {
+      return false;
+    }
+    boolean isUnassigned = task.unassignUser(userId);
+    if (isUnassigned) {
+      update(task);
+    }
+    return isUnassigned;
+  }
+}
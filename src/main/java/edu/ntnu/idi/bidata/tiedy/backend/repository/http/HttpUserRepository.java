@@ -0,0 +1,51 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.http;
+
+import com.google.gson.JsonObject;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.UserRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.UserIndex;
+import java.util.Optional;
+
+/**
+ * The users of a shared server, see {@link HttpRepository}.
+ *
+ * <p>The server never hands out hashed passwords, so the users held here have none, and passwords
+ * are verified by the server.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public final class HttpUserRepository extends HttpRepository<User> implements UserRepository {
+
+  private final UserIndex userIndex;
+
+  /**
+   * Creates an empty repository, which is loaded once the connection is connected.
+   *
+   * @param connection the connection to the server
+   */
+  public HttpUserRepository(ServerConnection connection) {
+    this(connection, new UserIndex());
+  }
+
+  private HttpUserRepository(ServerConnection connection, UserIndex userIndex) {
+    super(connection, "user", User.class, User::getId, userIndex);
+    this.userIndex = userIndex;
+    register();
+  }
+
+  @Override
+  public Optional<User> getUserByUsername(String username) {
+    return userIndex.getIdByUsername(username).flatMap(this::getById);
+  }
+
+  @Override
+  public Optional<User> authenticate(String username, String plainTextPassword) {
+    JsonObject credentials = new JsonObject();
+    credentials.addProperty("username", username);
+    credentials.addProperty("password", plainTextPassword);
+    return getConnection()
+        .send("POST", "/api/authenticate", credentials)
+        .map(json -> GSON.fromJson(json, User.class));
+  }
+}
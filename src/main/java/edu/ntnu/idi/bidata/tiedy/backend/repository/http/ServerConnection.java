@@ -0,0 +1,357 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.http;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import edu.ntnu.idi.bidata.tiedy.backend.io.json.CustomGson;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * The connection to a shared {@link edu.ntnu.idi.bidata.tiedy.backend.server.TiedyServer}, used by
+ * every {@link HttpRepository} of a client.
+ *
+ * <p>All requests go through one {@link HttpClient}, which keeps its connections to the server
+ * alive and reuses them across requests and repositories. The JDK client does not pipeline HTTP/1.1
+ * requests, so the repositories avoid round trips instead: they keep a full copy of the store in
+ * memory, answer every read from that copy and only send writes to the server.
+ *
+ * <p>The copy is kept fresh by following the stream of changes at {@code /api/events} on a
+ * background thread. If the stream breaks, it is reopened with a growing delay. Whenever the stream
+ * is (re)opened, the connection catches up through {@code /api/sync} on whatever it missed in the
+ * meantime. As it remembers the epoch and the latest version it has seen, only the entities changed
+ * since then are transferred, along with tombstones for the removed ones. Only the first time, or
+ * after the server restarted, is everything loaded. After every event, and every catch-up, the
+ * {@linkplain #setChangeListener(Runnable) change listener} is run.
+ *
+ * <p>The server itself only speaks plain HTTP, and authenticating sends the password of the user as
+ * is. Outside of this host or a trusted network, the server should be put behind a reverse proxy
+ * terminating TLS and be connected to with an {@code https://} address, which the client supports
+ * as is. Connecting to another host over plain HTTP logs a warning.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class ServerConnection implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(ServerConnection.class.getName());
+  private static final Gson GSON = CustomGson.getCompactInstance();
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+  private final URI baseUri;
+  private final HttpClient client;
+  private final Map<String, HttpRepository<?>> repositories = new ConcurrentHashMap<>();
+
+  private volatile Runnable changeListener = () -> {};
+  private Thread listener;
+  private volatile boolean isClosed;
+  // only used by the thread connecting and then by the listener
+  private UUID epoch;
+  private long sequence;
+
+  /**
+   * Creates a connection to the server at the given address. Nothing is sent until the connection
+   * is {@linkplain #connect() connected}.
+   *
+   * @param baseUri the address of the server, e.g. {@code http://localhost:8080}
+   */
+  public ServerConnection(URI baseUri) {
+    this.baseUri = Objects.requireNonNull(baseUri);
+    this.client =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .build();
+  }
+
+  /**
+   * Loads every registered repository and starts following the changes made on the server. Blocks
+   * until the repositories are loaded, so they are ready to use when this returns.
+   *
+   * @throws HttpRepositoryException if the server cannot be reached
+   * @throws IllegalStateException if the connection is already connected or closed
+   */
+  public synchronized void connect() {
+    if (listener != null || isClosed) {
+      throw new IllegalStateException("The connection is already connected or closed!");
+    }
+    if (isPlainHttpToOtherHost()) {
+      LOGGER.warning(() -> "Passwords are sent to " + baseUri + " unencrypted, consider https://");
+    }
+    Iterator<String> events = openChangeStream();
+    listener = Thread.ofVirtual().name("tiedy-server-changes").start(() -> follow(events));
+  }
+
+  private boolean isPlainHttpToOtherHost() {
+    String host = baseUri.getHost();
+    return "http".equalsIgnoreCase(baseUri.getScheme())
+        && host != null
+        && !host.equalsIgnoreCase("localhost")
+        && !host.startsWith("127.")
+        && !host.equals("[::1]");
+  }
+
+  /** Stops following the changes made on the server and closes every connection. */
+  @Override
+  public synchronized void close() {
+    isClosed = true;
+    if (listener != null) {
+      listener.interrupt();
+    }
+    client.shutdownNow();
+  }
+
+  /**
+   * Sets the callback that is run after every batch of changes made on the server has been applied
+   * to the repositories, replacing the previous one. It runs on the thread following the changes,
+   * or on the thread calling {@link #connect()} for the first load.
+   *
+   * @param changeListener the callback to run
+   */
+  public void setChangeListener(Runnable changeListener) {
+    this.changeListener = Objects.requireNonNull(changeListener);
+  }
+
+  /**
+   * Registers a repository to be loaded on {@link #connect()} and to receive the changes to its
+   * type of entity.
+   *
+   * @param eventType the name of the events of the repository, e.g. {@code task}
+   * @param repository the repository
+   */
+  void register(String eventType, HttpRepository<?> repository) {
+    repositories.put(eventType, repository);
+  }
+
+  // ------------------------  Requests  ------------------------
+
+  /**
+   * Sends a request to the server and parses the response.
+   *
+   * @param method the HTTP method
+   * @param path the path of the resource, e.g. {@code /api/tasks}
+   * @param body the body of the request, or null if it has none
+   * @return the body of the response, {@link JsonNull} if the server had nothing to answer with, or
+   *     an empty Optional if the server answered {@code 404 Not Found} or {@code 401 Unauthorized}
+   * @throws HttpRepositoryException if the server cannot be reached or rejected the request
+   */
+  Optional<JsonElement> send(String method, String path, JsonElement body) {
+    HttpRequest request =
+        HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json; charset=utf-8")
+            .method(
+                method,
+                body == null
+                    ? HttpRequest.BodyPublishers.noBody()
+                    : HttpRequest.BodyPublishers.ofString(GSON.toJson(body)))
+            .build();
+    HttpResponse<String> response;
+    try {
+      response = client.send(request, HttpResponse.BodyHandlers.ofString());
+    } catch (IOException e) {
+      throw new HttpRepositoryException("Cannot reach the server at " + baseUri, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HttpRepositoryException("Interrupted while waiting for the server", e);
+    }
+
+    int status = response.statusCode();
+    if (status == HttpURLConnection.HTTP_NOT_FOUND
+        || status == HttpURLConnection.HTTP_UNAUTHORIZED) {
+      return Optional.empty();
+    }
+    JsonElement responseBody = parse(response.body());
+    if (status >= 200 && status < 300) {
+      return Optional.of(responseBody == null ? JsonNull.INSTANCE : responseBody);
+    }
+    String error =
+        responseBody != null
+                && responseBody.isJsonObject()
+                && responseBody.getAsJsonObject().has("error")
+            ? responseBody.getAsJsonObject().get("error").getAsString()
+            : "HTTP " + status;
+    throw new HttpRepositoryException(method + " " + path + " failed: " + error);
+  }
+
+  private static JsonElement parse(String body) {
+    try {
+      return body.isEmpty() ? null : GSON.fromJson(body, JsonElement.class);
+    } catch (JsonParseException e) {
+      throw new HttpRepositoryException("The server answered with invalid JSON", e);
+    }
+  }
+
+  // ------------------------  Change Stream  ------------------------
+
+  /**
+   * Opens the stream of changes and synchronizes once the server confirmed the subscription, so no
+   * change made after synchronizing can be missed.
+   */
+  private Iterator<String> openChangeStream() {
+    HttpRequest request =
+        HttpRequest.newBuilder(baseUri.resolve("/api/events"))
+            .header("Accept", "text/event-stream")
+            .GET()
+            .build();
+    HttpResponse<Stream<String>> response;
+    try {
+      response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+    } catch (IOException e) {
+      throw new HttpRepositoryException("Cannot reach the server at " + baseUri, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HttpRepositoryException("Interrupted while waiting for the server", e);
+    }
+    if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+      response.body().close();
+      throw new HttpRepositoryException("The server refused the change stream");
+    }
+    Iterator<String> lines = response.body().iterator();
+    if (!lines.hasNext()) {
+      throw new HttpRepositoryException("The server closed the change stream");
+    }
+    lines.next(); // the subscription is in place
+    synchronize();
+    return lines;
+  }
+
+  /** Follows the stream of changes until the connection is closed, reopening it when it breaks. */
+  private void follow(Iterator<String> events) {
+    Duration retryDelay = Duration.ofSeconds(1);
+    while (!isClosed) {
+      try {
+        if (events == null) {
+          events = openChangeStream();
+          retryDelay = Duration.ofSeconds(1);
+          LOGGER.info("Reconnected to the change stream");
+        }
+        dispatch(events);
+        events = null;
+      } catch (RuntimeException e) {
+        // also thrown by the iterator when the stream breaks
+        events = null;
+        if (isClosed) {
+          return;
+        }
+        LOGGER.warning(() -> "Lost the change stream: " + e.getMessage());
+        try {
+          Thread.sleep(retryDelay);
+        } catch (InterruptedException interrupted) {
+          return;
+        }
+        retryDelay = retryDelay.multipliedBy(2);
+        if (retryDelay.compareTo(MAX_RETRY_DELAY) > 0) {
+          retryDelay = MAX_RETRY_DELAY;
+        }
+      }
+    }
+  }
+
+  /** Applies every event of the stream, until the stream ends. */
+  private void dispatch(Iterator<String> lines) {
+    String eventType = null;
+    StringBuilder data = new StringBuilder();
+    while (lines.hasNext()) {
+      String line = lines.next();
+      if (line.startsWith("event:")) {
+        eventType = line.substring("event:".length()).strip();
+      } else if (line.startsWith("data:")) {
+        data.append(line.substring("data:".length()).strip());
+      } else if (line.isEmpty() && eventType != null) {
+        apply(eventType, data.toString());
+        eventType = null;
+        data.setLength(0);
+      }
+    }
+  }
+
+  private void apply(String eventType, String data) {
+    if (eventType.equals("resync")) {
+      synchronize();
+      return;
+    }
+    JsonObject event = GSON.fromJson(data, JsonObject.class);
+    boolean isRemoved = event.get("kind").getAsString().equals("REMOVED");
+    apply(eventType, event, isRemoved);
+    forgetRemovals();
+    changeListener.run();
+  }
+
+  /**
+   * Catches up on the changes made on the server since the latest version seen, or replaces
+   * everything if the server cannot tell what changed since then.
+   */
+  private void synchronize() {
+    String path =
+        epoch == null ? "/api/sync" : "/api/sync?epoch=" + epoch + "&sequence=" + sequence;
+    JsonObject delta = send("GET", path, null).orElseThrow().getAsJsonObject();
+    JsonArray changes = delta.getAsJsonArray("changes");
+
+    if (delta.get("full").getAsBoolean()) {
+      Map<String, List<JsonElement>> entitiesByType = new HashMap<>();
+      for (JsonElement element : changes) {
+        JsonObject change = element.getAsJsonObject();
+        entitiesByType
+            .computeIfAbsent(change.get("type").getAsString(), k -> new ArrayList<>())
+            .add(change.get("entity"));
+      }
+      repositories.forEach(
+          (type, repository) ->
+              repository.replaceAll(entitiesByType.getOrDefault(type, List.of())));
+      sequence = 0;
+    } else {
+      for (JsonElement element : changes) {
+        JsonObject change = element.getAsJsonObject();
+        apply(change.get("type").getAsString(), change, change.has("removed"));
+      }
+    }
+    epoch = UUID.fromString(delta.get("epoch").getAsString());
+    sequence = Math.max(sequence, delta.get("sequence").getAsLong());
+    forgetRemovals();
+    changeListener.run();
+  }
+
+  private void apply(String type, JsonObject change, boolean isRemoved) {
+    long version = change.get("version").getAsLong();
+    sequence = Math.max(sequence, version);
+    HttpRepository<?> repository = repositories.get(type);
+    if (repository == null) {
+      return;
+    }
+    if (isRemoved) {
+      repository.applyRemoval(UUID.fromString(change.get("id").getAsString()), version);
+    } else {
+      repository.applyChange(change.get("entity"));
+    }
+  }
+
+  /**
+   * Every event up to the latest version seen has been applied, so older ones cannot arrive. The
+   * repositories still keep the removals that the answer to a pending write may need.
+   */
+  private void forgetRemovals() {
+    repositories.values().forEach(repository -> repository.forgetRemovalsUpTo(sequence));
+  }
+}
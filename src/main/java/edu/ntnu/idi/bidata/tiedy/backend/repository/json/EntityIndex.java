@@ -0,0 +1,61 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import java.util.UUID;
+
+/**
+ * A secondary index over the entities of a repository, e.g. a {@link JsonRepository}. The
+ * repository keeps the index up to date by calling it on every mutation, so queries can look
+ * entities up through the index instead of scanning every entity.
+ *
+ * <p>Entities may be mutated in place before they are put again, so an index must not rely on the
+ * previous state of an entity still being available from the entity itself. It has to remember
+ * whatever it needs to undo an entry.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.22
+ * @param <T> the type of entity being indexed
+ */
+public interface EntityIndex<T> {
+
+  /**
+   * Indexes the given entity, replacing any previous entry for the same id.
+   *
+   * @param entity the added or updated entity
+   */
+  void put(T entity);
+
+  /**
+   * Removes every entry for the entity with the given id.
+   *
+   * @param id the unique identifier of the removed entity
+   */
+  void remove(UUID id);
+
+  /** Removes every entry, used before the repository is reloaded. */
+  void clear();
+
+  /**
+   * Returns an index that ignores every call, for repositories that do not need one.
+   *
+   * @param <T> the type of entity being indexed
+   * @return an index that does nothing
+   */
+  static <T> EntityIndex<T> none() {
+    return new EntityIndex<>() {
+      @Override
+      public void put(T entity) {
+        // nothing to index
+      }
+
+      @Override
+      public void remove(UUID id) {
+        // nothing to index
+      }
+
+      @Override
+      public void clear() {
+        // nothing to index
+      }
+    };
+  }
+}
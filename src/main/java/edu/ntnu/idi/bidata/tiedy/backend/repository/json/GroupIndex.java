@@ -0,0 +1,81 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Secondary index over the groups of the {@link JsonGroupRepository}, and of any other group
+ * repository keeping its groups in memory.
+ *
+ * <p>Maintains an inverted index from each user to the groups they are a member of, together with
+ * whether they are an admin of that group, so the groups of a single user can be found without
+ * scanning every group. The members last indexed for each group are remembered, so an update only
+ * touches the members that were actually added, removed or given a new role.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.22
+ */
+public class GroupIndex implements EntityIndex<Group> {
+
+  private final ConcurrentMap<UUID, ConcurrentMap<UUID, Boolean>> groupsByUser =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<UUID, Map<UUID, Boolean>> membersByGroup = new ConcurrentHashMap<>();
+
+  @Override
+  public synchronized void put(Group group) {
+    UUID groupId = group.getId();
+    Map<UUID, Boolean> members = group.getMembers();
+    Map<UUID, Boolean> previousMembers = membersByGroup.put(groupId, members);
+    if (previousMembers != null) {
+      for (UUID userId : previousMembers.keySet()) {
+        if (!members.containsKey(userId)) {
+          unlink(userId, groupId);
+        }
+      }
+    }
+    members.forEach(
+        (userId, isAdmin) ->
+            groupsByUser
+                .computeIfAbsent(userId, k -> new ConcurrentHashMap<>())
+                .put(groupId, isAdmin));
+  }
+
+  @Override
+  public synchronized void remove(UUID groupId) {
+    Map<UUID, Boolean> previousMembers = membersByGroup.remove(groupId);
+    if (previousMembers != null) {
+      previousMembers.keySet().forEach(userId -> unlink(userId, groupId));
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    groupsByUser.clear();
+    membersByGroup.clear();
+  }
+
+  /**
+   * Returns the groups the given user is a member of, each mapped to whether the user is an admin
+   * of that group.
+   *
+   * @param userId the unique identifier of the user
+   * @return an unmodifiable view from group id to admin flag, empty if the user has no groups
+   */
+  public Map<UUID, Boolean> getGroupsByUser(UUID userId) {
+    Map<UUID, Boolean> groups = groupsByUser.get(userId);
+    return groups == null ? Map.of() : Collections.unmodifiableMap(groups);
+  }
+
+  private void unlink(UUID userId, UUID groupId) {
+    groupsByUser.computeIfPresent(
+        userId,
+        (k, groups) -> {
+          groups.remove(groupId);
+          return groups.isEmpty() ? null : groups;
+        });
+  }
+}
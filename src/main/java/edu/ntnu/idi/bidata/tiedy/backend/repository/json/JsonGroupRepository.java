@@ -1,7 +1,10 @@
 package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
 
+import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
 import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.GroupRepository;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -11,8 +14,10 @@ import java.util.stream.Stream;
  * domain-specific operations defined in the {@link GroupRepository} interface. It uses a singleton
  * design pattern to ensure only one instance of the repository is created and used.
  *
+ * <p>Groups are looked up by member through a {@link GroupIndex} instead of a full scan.
+ *
  * @author Nick Heggø
- * @version 2025.04.11
+ * @version 2025.05.24
  * @see Group
  * @see JsonRepository
  * @see GroupRepository
@@ -21,8 +26,35 @@ public class JsonGroupRepository extends JsonRepository<Group> implements GroupR
 
   private static JsonGroupRepository instance;
 
+  private final GroupIndex groupIndex;
+
   private JsonGroupRepository() {
-    super(Group.class, Group::getId);
+    this(false);
+  }
+
+  /**
+   * Constructs a repository backed by either the test or the production data files. Only the
+   * singleton should be used outside of tests and benchmarks.
+   *
+   * @param isTest a boolean flag indicating whether the test environment (true) or the production
+   *     environment (false) should be used
+   */
+  public JsonGroupRepository(boolean isTest) {
+    this(FileUtil.getDataDirectory(isTest));
+  }
+
+  /**
+   * Constructs a repository backed by the data files below the given directory.
+   *
+   * @param dataDirectory the root directory of the data files
+   */
+  public JsonGroupRepository(Path dataDirectory) {
+    this(dataDirectory, new GroupIndex());
+  }
+
+  private JsonGroupRepository(Path dataDirectory, GroupIndex groupIndex) {
+    super(Group.class, Group::getId, dataDirectory, groupIndex);
+    this.groupIndex = groupIndex;
   }
 
   /**
@@ -41,34 +73,39 @@ public class JsonGroupRepository extends JsonRepository<Group> implements GroupR
 
   @Override
   public Stream<Group> getGroupsByUserId(UUID userId) {
-    return getAll().filter(group -> group.getMembers().containsKey(userId));
+    return groupIndex.getGroupsByUser(userId).keySet().stream().flatMap(id -> getById(id).stream());
   }
 
   @Override
   public Stream<Group> getGropsByUserIdWhereUserIsAdmin(UUID userId) {
-    return getGroupsByUserId(userId)
-        .filter(group -> group.getMembers().get(userId)); // returns true if isAdmin
+    return groupIndex.getGroupsByUser(userId).entrySet().stream()
+        .filter(Map.Entry::getValue) // true if the user is admin
+        .flatMap(entry -> getById(entry.getKey()).stream());
   }
 
   @Override
   public boolean addMemberToGroup(UUID groupId, UUID userId, boolean isAdmin) {
-    Group foundGroup =
-        getAll().filter(group -> group.getId().equals(groupId)).findFirst().orElse(null);
+    Group foundGroup = getById(groupId).map(Group::new).orElse(null);
 
     if (foundGroup == null) {
       return false;
     }
 
-    return foundGroup.addMember(userId, isAdmin);
+    boolean isAdded = foundGroup.addMember(userId, isAdmin);
+    if (isAdded) {
+      update(foundGroup);
+    }
+    return isAdded;
   }
 
   @Override
   public boolean removeMemberFromGroup(UUID groupId, UUID userId) {
-    Group group = getById(groupId).orElse(null);
-    if (group == null) {
+    Group group = getById(groupId).map(Group::new).orElse(null);
+    if (group == null || !group.getMembers().containsKey(userId)) {
       return false;
     }
     group.removeMember(userId);
+    update(group);
     return true;
   }
 
@@ -78,12 +115,16 @@ public class JsonGroupRepository extends JsonRepository<Group> implements GroupR
       return false;
     }
 
-    Group group = getById(groupId).orElse(null);
+    Group group = getById(groupId).map(Group::new).orElse(null);
 
     if (group == null) {
       return false;
     }
 
-    return group.updateMemberPermission(userId, isAdmin);
+    boolean isUpdated = group.updateMemberPermission(userId, isAdmin);
+    if (isUpdated) {
+      update(group);
+    }
+    return isUpdated;
   }
 }
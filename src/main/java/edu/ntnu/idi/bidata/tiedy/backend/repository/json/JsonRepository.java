@@ -1,9 +1,14 @@
 package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
 
+import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
 import edu.ntnu.idi.bidata.tiedy.backend.io.json.JsonDAO;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.DataRepository;
-import java.util.HashSet;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -14,17 +19,39 @@ import java.util.stream.Stream;
  * The base JSON implementation of the Repository design pattern, it includes all the necessary
  * methods to work with any concrete type. All JSON repositories should extend this class.
  *
+ * <p>Single mutations are appended to the journal of the entity type instead of rewriting the whole
+ * JSON file. The journal is merged into the snapshot every {@value #CHECKPOINT_INTERVAL} records,
+ * on {@link #saveChanges()}, and when the repository is loaded.
+ *
+ * <p>Snapshots are written as compact JSON, straight from the values of the in-memory map.
+ *
+ * <p>The in-memory map is the source of truth, so the files are never parsed again after a write.
+ * Changes made to the files by another process are picked up by {@link #reconcile()}.
+ *
+ * <p>Subclasses may pass an {@link EntityIndex} to the constructor, which is kept in sync with the
+ * map on every mutation and rebuilt on every reload.
+ *
+ * <p>Mutations only update the map on the calling thread. The ids of changed entities are handed to
+ * a {@link WriteBehind}, whose writer thread appends their latest state to the journal in the
+ * background. {@link #flush()} waits for it to catch up.
+ *
  * @see JsonGroupRepository
  * @see JsonUserRepository
  * @see JsonTaskRepository
  * @author Nick Heggø
- * @version 2025.04.11
+ * @version 2025.05.24
  * @param <T> the concrete type the Repository will be working with.
  */
 public abstract class JsonRepository<T> implements DataRepository<T> {
 
+  /** Number of journal records after which the journal is merged into the snapshot. */
+  protected static final int CHECKPOINT_INTERVAL = 500;
+
   private final JsonDAO<T> jsonDAO;
   private final ConcurrentMap<UUID, T> entities;
+  private final EntityIndex<T> index;
+  private final WriteBehind writeBehind;
+  private final Object persistenceLock = new Object();
   protected final Function<T, UUID> idExtractor;
 
   /**
@@ -34,10 +61,46 @@ public abstract class JsonRepository<T> implements DataRepository<T> {
    * @param idExtractor a function that extracts the UUID from an entity
    */
   protected JsonRepository(Class<T> entityClass, Function<T, UUID> idExtractor) {
-    this.jsonDAO = new JsonDAO<>(entityClass);
+    this(entityClass, idExtractor, false);
+  }
+
+  /**
+   * Constructs a new JsonRepository with the specified entity class and ID extractor function,
+   * backed by either the test or the production data files.
+   *
+   * @param entityClass the class of the entity type
+   * @param idExtractor a function that extracts the UUID from an entity
+   * @param isTest a boolean flag indicating whether the test environment (true) or the production
+   *     environment (false) should be used
+   */
+  protected JsonRepository(Class<T> entityClass, Function<T, UUID> idExtractor, boolean isTest) {
+    this(entityClass, idExtractor, FileUtil.getDataDirectory(isTest), EntityIndex.none());
+  }
+
+  /**
+   * Constructs a new JsonRepository that keeps its files below the given data directory and the
+   * given secondary index up to date.
+   *
+   * @param entityClass the class of the entity type
+   * @param idExtractor a function that extracts the UUID from an entity
+   * @param dataDirectory the root directory of the data files
+   * @param index the index to update on every mutation
+   */
+  JsonRepository(
+      Class<T> entityClass,
+      Function<T, UUID> idExtractor,
+      Path dataDirectory,
+      EntityIndex<T> index) {
+    this.jsonDAO = new JsonDAO<>(entityClass, dataDirectory, true);
     this.entities = new ConcurrentHashMap<>();
     this.idExtractor = idExtractor;
-    refresh();
+    this.index = index;
+    this.writeBehind =
+        new WriteBehind(
+            "tiedy-write-behind-" + entityClass.getSimpleName(),
+            this::writeDirty,
+            WriteBehind.DEFAULT_CAPACITY);
+    load();
   }
 
   @Override
@@ -50,45 +113,128 @@ public abstract class JsonRepository<T> implements DataRepository<T> {
     return Optional.ofNullable(entities.get(id));
   }
 
+  @Override
+  public Map<UUID, T> getByIds(Collection<UUID> ids) {
+    Map<UUID, T> found = LinkedHashMap.newLinkedHashMap(ids.size());
+    for (UUID id : ids) {
+      T entity = entities.get(id);
+      if (entity != null) {
+        found.put(id, entity);
+      }
+    }
+    return found;
+  }
+
   @Override
   public Stream<T> getAll() {
     return entities.values().stream();
   }
 
   @Override
-  public T add(T entity) {
+  public synchronized T add(T entity) {
     UUID id = idExtractor.apply(entity);
     entities.put(id, entity);
-    saveChanges();
-    refresh();
+    index.put(entity);
+    writeBehind.markDirty(id);
     return entity;
   }
 
   @Override
-  public T update(T entity) {
+  public synchronized T update(T entity) {
     UUID id = idExtractor.apply(entity);
     T ent = entities.computeIfPresent(id, (k, v) -> entity);
-    saveChanges();
-    refresh();
+    if (ent != null) {
+      index.put(ent);
+      writeBehind.markDirty(id);
+    }
     return ent;
   }
 
   @Override
-  public boolean remove(UUID id) {
+  public synchronized boolean remove(UUID id) {
     boolean status = entities.remove(id) != null;
-    saveChanges();
-    refresh();
+    if (status) {
+      index.remove(id);
+      writeBehind.markDirty(id);
+    }
     return status;
   }
 
   @Override
-  public void saveChanges() {
-    jsonDAO.writeCollection(new HashSet<>(entities.values()));
+  public synchronized void saveChanges() {
+    checkpoint();
+  }
+
+  @Override
+  public void flush() {
+    writeBehind.flush();
+    jsonDAO.flush();
+  }
+
+  @Override
+  public void close() {
+    writeBehind.close();
+    jsonDAO.flush();
+  }
+
+  @Override
+  public synchronized void refresh() {
+    load();
   }
 
   @Override
-  public void refresh() {
+  public synchronized boolean reconcile() {
+    if (!jsonDAO.isModifiedExternally()) {
+      return false;
+    }
+    refresh();
+    return true;
+  }
+
+  /**
+   * Reloads the map and the index from the snapshot and the journal, and folds a pending journal
+   * into a new snapshot. Private, as the constructor calls it before a subclass is initialized.
+   */
+  private void load() {
+    writeBehind.flush();
     entities.clear();
-    loadAll().forEach(entity -> entities.put(idExtractor.apply(entity), entity));
+    index.clear();
+    try (Stream<T> loaded = jsonDAO.loadJsonAsStream()) {
+      loaded.forEach(entity -> entities.put(idExtractor.apply(entity), entity));
+    }
+    jsonDAO.replayJournal(entities);
+    entities.values().forEach(index::put);
+    if (jsonDAO.hasPendingJournal()) {
+      checkpoint();
+    }
+  }
+
+  /** Writes every pending change, then a snapshot of the map that truncates the journal. */
+  private void checkpoint() {
+    writeBehind.flush();
+    synchronized (persistenceLock) {
+      jsonDAO.checkpoint(entities.values());
+    }
+  }
+
+  /**
+   * Persists the current state of the given entities, runs on the write-behind thread. An id that
+   * is no longer in the map was removed. Holds the persistence lock rather than the repository
+   * lock, so mutations never wait for the disk.
+   */
+  private void writeDirty(Set<UUID> ids) {
+    synchronized (persistenceLock) {
+      for (UUID id : ids) {
+        T entity = entities.get(id);
+        if (entity != null) {
+          jsonDAO.appendEntity(id, entity);
+        } else {
+          jsonDAO.appendRemoval(id);
+        }
+      }
+      if (jsonDAO.getJournalLength() >= CHECKPOINT_INTERVAL) {
+        jsonDAO.checkpoint(entities.values());
+      }
+    }
   }
 }
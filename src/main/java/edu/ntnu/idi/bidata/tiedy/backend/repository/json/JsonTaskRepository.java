@@ -1,10 +1,13 @@
 package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
 
+import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.TaskRepository;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -12,16 +15,46 @@ import java.util.stream.Stream;
  * JSON powered implementation of the TaskRepository, Inherit all basic operations from the {@link
  * JsonRepository} class.
  *
+ * <p>Tasks are looked up by assigned user and by deadline through a {@link TaskIndex} instead of a
+ * full scan, which also keeps count of the active tasks of every user.
+ *
  * @author Nick Heggø
- * @version 2025.04.11
+ * @version 2025.05.24
  * @see JsonRepository
  */
 public class JsonTaskRepository extends JsonRepository<Task> implements TaskRepository {
 
   private static JsonTaskRepository instance;
 
+  private final TaskIndex taskIndex;
+
   private JsonTaskRepository() {
-    super(Task.class, Task::getId);
+    this(false);
+  }
+
+  /**
+   * Constructs a repository backed by either the test or the production data files. Only the
+   * singleton should be used outside of tests and benchmarks.
+   *
+   * @param isTest a boolean flag indicating whether the test environment (true) or the production
+   *     environment (false) should be used
+   */
+  public JsonTaskRepository(boolean isTest) {
+    this(FileUtil.getDataDirectory(isTest));
+  }
+
+  /**
+   * Constructs a repository backed by the data files below the given directory.
+   *
+   * @param dataDirectory the root directory of the data files
+   */
+  public JsonTaskRepository(Path dataDirectory) {
+    this(dataDirectory, new TaskIndex());
+  }
+
+  private JsonTaskRepository(Path dataDirectory, TaskIndex taskIndex) {
+    super(Task.class, Task::getId, dataDirectory, taskIndex);
+    this.taskIndex = taskIndex;
   }
 
   /**
@@ -39,7 +72,7 @@ public class JsonTaskRepository extends JsonRepository<Task> implements TaskRepo
 
   @Override
   public Stream<Task> getTasksByUserId(UUID userId) {
-    return getAll().filter(task -> task.getAssignedUsers().contains(userId));
+    return taskIndex.getTaskIdsByUser(userId).stream().flatMap(id -> getById(id).stream());
   }
 
   @Override
@@ -59,12 +92,30 @@ public class JsonTaskRepository extends JsonRepository<Task> implements TaskRepo
 
   @Override
   public Stream<Task> getTasksBeforeDate(LocalDate date) {
-    return getAll().filter(task -> task.getDeadline().isBefore(date));
+    return taskIndex.getTaskIdsBeforeDeadline(date).flatMap(id -> getById(id).stream());
+  }
+
+  @Override
+  public Stream<Task> getTasksByUserIdAndDeadlineBetween(
+      UUID userId, LocalDate from, LocalDate to) {
+    return taskIndex
+        .getTaskIdsByUserAndDeadline(userId, from, to)
+        .flatMap(id -> getById(id).stream());
+  }
+
+  @Override
+  public EnumMap<Status, Integer> countActiveTasksByStatus(UUID userId) {
+    return taskIndex.countActiveTasksByStatus(userId);
+  }
+
+  @Override
+  public EnumMap<Priority, Integer> countActiveTasksByPriority(UUID userId) {
+    return taskIndex.countActiveTasksByPriority(userId);
   }
 
   @Override
   public boolean assignTaskToUser(UUID taskId, UUID userId) {
-    Task task = getById(taskId).orElse(null);
+    Task task = getById(taskId).map(Task::new).orElse(null);
     if (task == null) {
       return false;
     }
@@ -76,11 +127,11 @@ public class JsonTaskRepository extends JsonRepository<Task> implements TaskRepo
 
   @Override
   public boolean unassignTaskFromUser(UUID taskId, UUID userId) {
-    Task task = getById(taskId).orElse(null);
+    Task task = getById(taskId).map(Task::new).orElse(null);
     if (task == null) {
       return false;
     }
-    boolean isUnassigned = task.getAssignedUsers().remove(userId);
+    boolean isUnassigned = task.unassignUser(userId);
     update(task);
     return isUnassigned;
   }
@@ -1,9 +1,10 @@
 package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
 
+import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
 import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
 import edu.ntnu.idi.bidata.tiedy.backend.repository.UserRepository;
 import edu.ntnu.idi.bidata.tiedy.backend.util.PasswordUtil;
-import java.util.Objects;
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -15,7 +16,8 @@ import java.util.Optional;
  * time, providing centralized access to user data throughout the application.
  *
  * <p>The user-specific methods support functionalities such as finding a user by their username and
- * authenticating a user based on provided credentials.
+ * authenticating a user based on provided credentials. Users are looked up by username through a
+ * {@link UserIndex} instead of a full scan.
  *
  * <p>All user data is persisted in JSON format and is managed in memory for easy access. Any
  * changes to the data are written to the underlying JSON storage periodically
@@ -23,14 +25,41 @@ import java.util.Optional;
  * @see JsonRepository
  * @see UserRepository
  * @author Nick Heggø
- * @version 2025.04.11
+ * @version 2025.05.24
  */
 public class JsonUserRepository extends JsonRepository<User> implements UserRepository {
 
   private static JsonUserRepository instance;
 
+  private final UserIndex userIndex;
+
   private JsonUserRepository() {
-    super(User.class, User::getId);
+    this(false);
+  }
+
+  /**
+   * Constructs a repository backed by either the test or the production data files. Only the
+   * singleton should be used outside of tests and benchmarks.
+   *
+   * @param isTest a boolean flag indicating whether the test environment (true) or the production
+   *     environment (false) should be used
+   */
+  public JsonUserRepository(boolean isTest) {
+    this(FileUtil.getDataDirectory(isTest));
+  }
+
+  /**
+   * Constructs a repository backed by the data files below the given directory.
+   *
+   * @param dataDirectory the root directory of the data files
+   */
+  public JsonUserRepository(Path dataDirectory) {
+    this(dataDirectory, new UserIndex());
+  }
+
+  private JsonUserRepository(Path dataDirectory, UserIndex userIndex) {
+    super(User.class, User::getId, dataDirectory, userIndex);
+    this.userIndex = userIndex;
   }
 
   /**
@@ -48,7 +77,7 @@ public class JsonUserRepository extends JsonRepository<User> implements UserRepo
 
   @Override
   public Optional<User> getUserByUsername(String username) {
-    return getAll().filter(user -> Objects.equals(user.getUsername(), username)).findFirst();
+    return userIndex.getIdByUsername(username).flatMap(this::getById);
   }
 
   @Override
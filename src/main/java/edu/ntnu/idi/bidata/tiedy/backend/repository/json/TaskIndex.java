@@ -0,0 +1,241 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Secondary indexes over the tasks of the {@link JsonTaskRepository}, and of any other task
+ * repository keeping its tasks in memory.
+ *
+ * <p>Maintains an inverted index from each user to the ids of the tasks assigned to them, so the
+ * tasks of a single user can be found without scanning every task.
+ *
+ * <p>Tasks are also sorted by deadline, both globally and per user, keyed by the epoch day of the
+ * deadline. A date range is then answered by a sub map lookup in O(log n + k) instead of comparing
+ * the deadline of every task. Tasks without a deadline are left out of the deadline indexes.
+ *
+ * <p>For every user, the number of active tasks, i.e. tasks that are not {@link Status#CLOSED}, is
+ * counted per status and per priority. The counters are adjusted on every mutation, so the totals
+ * are available in constant time.
+ *
+ * <p>The users, deadline, status and priority last indexed for each task are remembered, so an
+ * update only touches the entries that actually changed.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.22
+ */
+public class TaskIndex implements EntityIndex<Task> {
+
+  private final ConcurrentMap<UUID, Set<UUID>> taskIdsByUser = new ConcurrentHashMap<>();
+  private final ConcurrentNavigableMap<Long, Set<UUID>> taskIdsByDeadline =
+      new ConcurrentSkipListMap<>();
+  private final ConcurrentMap<UUID, ConcurrentNavigableMap<Long, Set<UUID>>> deadlinesByUser =
+      new ConcurrentHashMap<>();
+  private final Map<UUID, ActiveCounts> activeCountsByUser = new HashMap<>();
+  private final ConcurrentMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+  /** What was indexed for a task, needed to undo it once the task changes. */
+  private record Entry(Set<UUID> users, Long deadline, Status status, Priority priority) {
+
+    boolean isActive() {
+      return status != Status.CLOSED;
+    }
+  }
+
+  /** The number of active tasks of a single user, per status and per priority. */
+  private static final class ActiveCounts {
+    private final int[] byStatus = new int[Status.values().length];
+    private final int[] byPriority = new int[Priority.values().length];
+    private int total;
+
+    void add(Entry entry, int delta) {
+      byStatus[entry.status.ordinal()] += delta;
+      byPriority[entry.priority.ordinal()] += delta;
+      total += delta;
+    }
+  }
+
+  @Override
+  public synchronized void put(Task task) {
+    UUID taskId = task.getId();
+    Entry entry =
+        new Entry(
+            task.getAssignedUsers(),
+            task.getDeadline() == null ? null : task.getDeadline().toEpochDay(),
+            task.getStatus(),
+            task.getPriority());
+    Entry previous = entries.put(taskId, entry);
+    if (previous != null) {
+      unlink(taskId, previous, entry);
+    }
+
+    if (entry.deadline != null) {
+      link(taskIdsByDeadline, entry.deadline, taskId);
+    }
+    for (UUID userId : entry.users) {
+      link(taskIdsByUser, userId, taskId);
+      count(userId, entry, 1);
+      if (entry.deadline != null) {
+        link(
+            deadlinesByUser.computeIfAbsent(userId, k -> new ConcurrentSkipListMap<>()),
+            entry.deadline,
+            taskId);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void remove(UUID taskId) {
+    Entry previous = entries.remove(taskId);
+    if (previous != null) {
+      unlink(taskId, previous, null);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    taskIdsByUser.clear();
+    taskIdsByDeadline.clear();
+    deadlinesByUser.clear();
+    activeCountsByUser.clear();
+    entries.clear();
+  }
+
+  /**
+   * Returns the ids of the tasks currently assigned to the given user.
+   *
+   * @param userId the unique identifier of the user
+   * @return an unmodifiable view of the task ids, empty if the user has no tasks
+   */
+  public Set<UUID> getTaskIdsByUser(UUID userId) {
+    Set<UUID> taskIds = taskIdsByUser.get(userId);
+    return taskIds == null ? Set.of() : Collections.unmodifiableSet(taskIds);
+  }
+
+  /**
+   * Returns the ids of the tasks assigned to the given user with a deadline within the given range,
+   * ordered by deadline.
+   *
+   * @param userId the unique identifier of the user
+   * @param from the first day of the range, inclusive
+   * @param to the last day of the range, inclusive
+   * @return the ids of the matching tasks
+   */
+  public Stream<UUID> getTaskIdsByUserAndDeadline(UUID userId, LocalDate from, LocalDate to) {
+    NavigableMap<Long, Set<UUID>> deadlines = deadlinesByUser.get(userId);
+    if (deadlines == null || from.isAfter(to)) {
+      return Stream.empty();
+    }
+    return flatten(deadlines.subMap(from.toEpochDay(), true, to.toEpochDay(), true));
+  }
+
+  /**
+   * Returns the ids of every task with a deadline before the given date, ordered by deadline.
+   *
+   * @param date the date to compare deadlines against, exclusive
+   * @return the ids of the matching tasks
+   */
+  public Stream<UUID> getTaskIdsBeforeDeadline(LocalDate date) {
+    return flatten(taskIdsByDeadline.headMap(date.toEpochDay(), false));
+  }
+
+  /**
+   * Returns the number of active tasks assigned to the given user, per status.
+   *
+   * @param userId the unique identifier of the user
+   * @return the count for every status, zero where the user has no such tasks
+   */
+  public synchronized EnumMap<Status, Integer> countActiveTasksByStatus(UUID userId) {
+    ActiveCounts counts = activeCountsByUser.get(userId);
+    EnumMap<Status, Integer> result = new EnumMap<>(Status.class);
+    for (Status status : Status.values()) {
+      result.put(status, counts == null ? 0 : counts.byStatus[status.ordinal()]);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of active tasks assigned to the given user, per priority.
+   *
+   * @param userId the unique identifier of the user
+   * @return the count for every priority, zero where the user has no such tasks
+   */
+  public synchronized EnumMap<Priority, Integer> countActiveTasksByPriority(UUID userId) {
+    ActiveCounts counts = activeCountsByUser.get(userId);
+    EnumMap<Priority, Integer> result = new EnumMap<>(Priority.class);
+    for (Priority priority : Priority.values()) {
+      result.put(priority, counts == null ? 0 : counts.byPriority[priority.ordinal()]);
+    }
+    return result;
+  }
+
+  /**
+   * Removes the links of the previous entry that are not part of the current one, or every link if
+   * there is no current entry.
+   */
+  private void unlink(UUID taskId, Entry previous, Entry current) {
+    boolean isDeadlineChanged =
+        current == null || !Objects.equals(previous.deadline, current.deadline);
+    if (previous.deadline != null && isDeadlineChanged) {
+      unlink(taskIdsByDeadline, previous.deadline, taskId);
+    }
+    for (UUID userId : previous.users) {
+      count(userId, previous, -1);
+      boolean isUnassigned = current == null || !current.users.contains(userId);
+      if (isUnassigned) {
+        unlink(taskIdsByUser, userId, taskId);
+      }
+      if (previous.deadline != null && (isUnassigned || isDeadlineChanged)) {
+        deadlinesByUser.computeIfPresent(
+            userId,
+            (k, deadlines) -> {
+              unlink(deadlines, previous.deadline, taskId);
+              return deadlines.isEmpty() ? null : deadlines;
+            });
+      }
+    }
+  }
+
+  private void count(UUID userId, Entry entry, int delta) {
+    if (!entry.isActive()) {
+      return;
+    }
+    ActiveCounts counts = activeCountsByUser.computeIfAbsent(userId, k -> new ActiveCounts());
+    counts.add(entry, delta);
+    if (counts.total == 0) {
+      activeCountsByUser.remove(userId);
+    }
+  }
+
+  private static <K> void link(ConcurrentMap<K, Set<UUID>> index, K key, UUID taskId) {
+    index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(taskId);
+  }
+
+  private static <K> void unlink(ConcurrentMap<K, Set<UUID>> index, K key, UUID taskId) {
+    index.computeIfPresent(
+        key,
+        (k, taskIds) -> {
+          taskIds.remove(taskId);
+          return taskIds.isEmpty() ? null : taskIds;
+        });
+  }
+
+  private static Stream<UUID> flatten(NavigableMap<Long, Set<UUID>> deadlines) {
+    return deadlines.values().stream().flatMap(Set::stream);
+  }
+}
@@ -0,0 +1,62 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Secondary index over the users of the {@link JsonUserRepository}, and of any other user
+ * repository keeping its users in memory, mapping each username to the id of its user so a user can
+ * be found by name without scanning every user.
+ *
+ * <p>Usernames are matched exactly as they are stored by {@link User#setUsername(String)}, which
+ * strips surrounding whitespace but keeps the case, so "Alice" and "alice" are different users.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.22
+ */
+public class UserIndex implements EntityIndex<User> {
+
+  private final ConcurrentMap<String, UUID> idsByUsername = new ConcurrentHashMap<>();
+  private final ConcurrentMap<UUID, String> usernamesById = new ConcurrentHashMap<>();
+
+  @Override
+  public synchronized void put(User user) {
+    UUID id = user.getId();
+    String username = user.getUsername();
+    String previousUsername = usernamesById.put(id, username);
+    if (previousUsername != null && !previousUsername.equals(username)) {
+      idsByUsername.remove(previousUsername, id);
+    }
+    idsByUsername.put(username, id);
+  }
+
+  @Override
+  public synchronized void remove(UUID id) {
+    String previousUsername = usernamesById.remove(id);
+    if (previousUsername != null) {
+      idsByUsername.remove(previousUsername, id);
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    idsByUsername.clear();
+    usernamesById.clear();
+  }
+
+  /**
+   * Returns the id of the user with the given username.
+   *
+   * @param username the username to look up
+   * @return an Optional containing the id of the user, or empty if no user has the username
+   */
+  public Optional<UUID> getIdByUsername(String username) {
+    if (username == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(idsByUsername.get(username));
+  }
+}
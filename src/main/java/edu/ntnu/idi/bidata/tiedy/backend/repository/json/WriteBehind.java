@@ -0,0 +1,203 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Persists the entities of a repository in the background, so that mutations only have to update
+ * memory on the calling thread.
+ *
+ * <p>Mutations mark the id of the changed entity as dirty. A dedicated writer thread drains the
+ * dirty ids in batches and hands them to the batch writer, which persists the current state of each
+ * entity. Marking an id that is already dirty is free, so repeated updates of the same entity are
+ * coalesced into a single write.
+ *
+ * <p>The number of dirty ids is bounded. Once the bound is reached, marking a new id blocks until
+ * the writer has caught up, which keeps memory in check when the disk cannot keep up.
+ *
+ * <p>A batch that fails to be written is kept dirty and retried after {@value #RETRY_DELAY_MILLIS}
+ * ms. {@link #flush()} reports the failure instead of waiting forever.
+ *
+ * <p>{@link #close()} writes what is still dirty and stops the writer thread.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+class WriteBehind {
+
+  /** The default maximum number of distinct dirty ids. */
+  static final int DEFAULT_CAPACITY = 10_000;
+
+  private static final Logger LOGGER = Logger.getLogger(WriteBehind.class.getName());
+  private static final long RETRY_DELAY_MILLIS = 1000;
+
+  private final Consumer<Set<UUID>> batchWriter;
+  private final int capacity;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notEmpty = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final Condition idle = lock.newCondition();
+  private final Thread writer;
+
+  private Set<UUID> dirty = new LinkedHashSet<>();
+  private boolean isWriting;
+  private RuntimeException failure;
+  private boolean isClosed;
+
+  /**
+   * Constructs a new write-behind and starts its writer thread.
+   *
+   * @param name the name of the writer thread
+   * @param batchWriter persists the current state of every id in the given batch
+   * @param capacity the maximum number of distinct dirty ids; must be positive
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  WriteBehind(String name, Consumer<Set<UUID>> batchWriter, int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.batchWriter = batchWriter;
+    this.capacity = capacity;
+    this.writer = Thread.ofPlatform().name(name).daemon().start(this::run);
+  }
+
+  /**
+   * Marks the entity with the given id as changed. Blocks while the maximum number of dirty ids is
+   * reached, unless the id is already dirty.
+   *
+   * @param id the unique identifier of the changed entity
+   * @throws IllegalStateException if the write-behind is closed
+   */
+  void markDirty(UUID id) {
+    lock.lock();
+    try {
+      while (!isClosed && dirty.size() >= capacity && !dirty.contains(id)) {
+        notFull.awaitUninterruptibly();
+      }
+      if (isClosed) {
+        throw new IllegalStateException("The write-behind is closed!");
+      }
+      dirty.add(id);
+      notEmpty.signal();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Blocks until every id marked dirty so far has been written.
+   *
+   * @throws RuntimeException the cause of the last failed write, if the writer cannot make progress
+   */
+  void flush() {
+    lock.lock();
+    try {
+      while (!dirty.isEmpty() || isWriting) {
+        if (failure != null) {
+          throw failure;
+        }
+        idle.awaitUninterruptibly();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Blocks until every id marked dirty so far has been written, then stops the writer thread. Ids
+   * that cannot be written are dropped once the failure has been reported. Does nothing if the
+   * write-behind is already closed.
+   *
+   * @throws RuntimeException the cause of the last failed write, if the writer cannot make progress
+   */
+  void close() {
+    try {
+      flush();
+    } finally {
+      lock.lock();
+      try {
+        isClosed = true;
+        notEmpty.signal();
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      // wakes the writer if it is pausing before a retry
+      writer.interrupt();
+      joinWriter();
+    }
+  }
+
+  private void joinWriter() {
+    try {
+      writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      Set<UUID> batch = takeBatch();
+      if (batch == null) {
+        return;
+      }
+      try {
+        batchWriter.accept(batch);
+        finishBatch(null, null);
+      } catch (RuntimeException e) {
+        LOGGER.severe(() -> "Could not write " + batch.size() + " entities: " + e.getMessage());
+        finishBatch(batch, e);
+        pauseBeforeRetry();
+      }
+    }
+  }
+
+  private static void pauseBeforeRetry() {
+    try {
+      Thread.sleep(RETRY_DELAY_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Set<UUID> takeBatch() {
+    lock.lock();
+    try {
+      while (dirty.isEmpty() && !isClosed) {
+        notEmpty.awaitUninterruptibly();
+      }
+      if (isClosed) {
+        return null;
+      }
+      Set<UUID> batch = dirty;
+      dirty = new LinkedHashSet<>();
+      isWriting = true;
+      notFull.signalAll();
+      return batch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void finishBatch(Set<UUID> failedBatch, RuntimeException cause) {
+    lock.lock();
+    try {
+      isWriting = false;
+      failure = cause;
+      if (failedBatch != null) {
+        failedBatch.addAll(dirty);
+        dirty = failedBatch;
+      }
+      idle.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import java.io.Serial;
+
+/**
+ * Thrown while handling a request to the HTTP API to answer it with the given status code, e.g.
+ * when the requested entity does not exist.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+class ApiException extends RuntimeException {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  private final int statusCode;
+
+  /**
+   * Constructs a new ApiException instance.
+   *
+   * @param statusCode the HTTP status code to answer with
+   * @param message the detail message, which is sent to the client
+   */
+  ApiException(int statusCode, String message) {
+    super(message);
+    this.statusCode = statusCode;
+  }
+
+  /**
+   * Retrieves the HTTP status code to answer the request with.
+   *
+   * @return the status code
+   */
+  int getStatusCode() {
+    return statusCode;
+  }
+}
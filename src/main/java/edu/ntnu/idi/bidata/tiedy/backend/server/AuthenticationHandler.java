@@ -0,0 +1,100 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.UserRepository;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Verifies credentials at {@code /api/authenticate}. A {@code POST} with a JSON object holding the
+ * {@code username} and {@code password} is answered with the user, without its hashed password, or
+ * with 401 if the credentials are wrong.
+ *
+ * <p>Verifying a password is CPU bound and deliberately slow. Every request runs on its own virtual
+ * thread, so only a bounded number of verifications may run at once, and the rest wait for a turn
+ * instead of occupying every carrier thread.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+class AuthenticationHandler implements HttpHandler {
+
+  private final UserRepository repository;
+  private final Semaphore verifications =
+      new Semaphore(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), true);
+
+  /**
+   * Creates a handler verifying credentials against the users of the given repository.
+   *
+   * @param repository the repository holding the users
+   */
+  AuthenticationHandler(UserRepository repository) {
+    this.repository = Objects.requireNonNull(repository);
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!exchange.getRequestMethod().equals("POST")) {
+        EntityHandler.sendError(
+            exchange, HttpURLConnection.HTTP_BAD_METHOD, "Only POST is allowed here");
+        return;
+      }
+      String username;
+      String password;
+      try {
+        JsonObject body = EntityHandler.readJson(exchange);
+        username = body.get("username").getAsString();
+        password = body.get("password").getAsString();
+      } catch (RuntimeException e) {
+        EntityHandler.sendError(
+            exchange, HttpURLConnection.HTTP_BAD_REQUEST, "Expected a username and a password");
+        return;
+      }
+
+      Optional<User> user;
+      try {
+        user = verify(username, password);
+      } catch (ApiException e) {
+        EntityHandler.sendError(exchange, e.getStatusCode(), e.getMessage());
+        return;
+      }
+
+      if (user.isPresent()) {
+        EntityHandler.sendJson(
+            exchange, HttpURLConnection.HTTP_OK, UserHandler.toPublicJson(user.get()));
+      } else {
+        EntityHandler.sendError(
+            exchange, HttpURLConnection.HTTP_UNAUTHORIZED, "Invalid username or password");
+      }
+    }
+  }
+
+  /**
+   * Verifies the given credentials, waiting for a turn while too many verifications are running.
+   *
+   * @param username the username of the user
+   * @param password the plain text password of the user
+   * @return the user if the credentials are right, otherwise an empty Optional
+   * @throws ApiException if interrupted while waiting for a turn
+   */
+  Optional<User> verify(String username, String password) {
+    try {
+      verifications.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(HttpURLConnection.HTTP_UNAVAILABLE, "The server is shutting down");
+    }
+    try {
+      return repository.authenticate(username, password);
+    } finally {
+      verifications.release();
+    }
+  }
+}
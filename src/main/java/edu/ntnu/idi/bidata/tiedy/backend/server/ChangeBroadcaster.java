@@ -0,0 +1,94 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import edu.ntnu.idi.bidata.tiedy.backend.io.json.CustomGson;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Hands every change made through the HTTP API to the clients following {@code /api/events}, see
+ * {@link ChangeStreamHandler}.
+ *
+ * <p>Every subscriber has a bounded queue of events in the server-sent events format. A subscriber
+ * that falls so far behind that its queue overflows loses the queued events and is told to {@code
+ * resync} instead, i.e. to reload everything, so a slow client can never make the server run out of
+ * memory.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.23
+ */
+class ChangeBroadcaster {
+
+  /** The event telling a subscriber that it missed events and must reload everything. */
+  static final String RESYNC = "event: resync\ndata: {}\n\n";
+
+  /** Queued for every subscriber when the broadcaster is closed, never sent to clients. */
+  static final String CLOSED = "";
+
+  private static final int QUEUE_CAPACITY = 1024;
+  private static final Gson GSON = CustomGson.getCompactInstance();
+
+  private final Set<BlockingQueue<String>> subscribers = ConcurrentHashMap.newKeySet();
+  private volatile boolean isClosed;
+
+  /**
+   * Subscribes to every change published from now on.
+   *
+   * @return the queue receiving the events, ending with {@link #CLOSED} once the broadcaster is
+   *     closed
+   */
+  BlockingQueue<String> subscribe() {
+    BlockingQueue<String> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    subscribers.add(queue);
+    if (isClosed) {
+      queue.offer(CLOSED);
+    }
+    return queue;
+  }
+
+  /**
+   * Stops sending events to the given queue.
+   *
+   * @param queue the queue returned by {@link #subscribe()}
+   */
+  void unsubscribe(BlockingQueue<String> queue) {
+    subscribers.remove(queue);
+  }
+
+  /**
+   * Publishes a change to every subscriber.
+   *
+   * @param type the type of the changed entity, e.g. {@code task}
+   * @param kind the kind of change, e.g. {@code UPDATED}
+   * @param id the id of the changed entity
+   * @param version the version of the change
+   * @param entity the entity as sent to clients, or null if it was removed
+   */
+  void publish(String type, String kind, UUID id, long version, JsonElement entity) {
+    JsonObject data = new JsonObject();
+    data.addProperty("kind", kind);
+    data.addProperty("id", id.toString());
+    data.addProperty("version", version);
+    if (entity != null) {
+      data.add("entity", entity);
+    }
+    String event = "event: " + type + "\ndata: " + GSON.toJson(data) + "\n\n";
+    for (BlockingQueue<String> queue : subscribers) {
+      if (!queue.offer(event)) {
+        queue.clear();
+        queue.offer(RESYNC);
+      }
+    }
+  }
+
+  /** Ends the stream of every subscriber, e.g. when the server stops. */
+  void close() {
+    isClosed = true;
+    subscribers.forEach(queue -> queue.offer(CLOSED));
+  }
+}
@@ -0,0 +1,127 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Hands out the versions of the entities served by the {@link TiedyServer} and remembers which
+ * entity changed in which version, so a client can fetch only what changed since it last
+ * synchronized, see {@link SyncHandler}.
+ *
+ * <p>Versions come from a single sequence shared by every type of entity. The log holds the latest
+ * change of every entity changed since the server started, and a tombstone for every entity
+ * removed. Only the last {@value #MAX_TOMBSTONES} tombstones are kept. A client that synchronized
+ * before the oldest tombstone that was dropped, or before the server started, as told by the epoch,
+ * has to load everything instead.
+ *
+ * <p>Every change must be made while holding the lock of the log, from handing out its version to
+ * recording it, so a client can never see a later change without the earlier ones.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.23
+ */
+class ChangeLog {
+
+  private static final int MAX_TOMBSTONES = 10_000;
+
+  /**
+   * A change recorded in the log.
+   *
+   * @param type the type of the changed entity, e.g. {@code task}
+   * @param id the id of the changed entity
+   * @param version the version of the change
+   * @param isRemoved true if the entity was removed, false if it was added or updated
+   */
+  record Change(String type, UUID id, long version, boolean isRemoved) {}
+
+  /**
+   * The changes a client has to apply to catch up.
+   *
+   * @param epoch the epoch of the server
+   * @param sequence the latest version included, to synchronize from the next time
+   * @param isFull true if the client must discard everything and load every entity instead
+   * @param changes the changes since the given version, or nothing if the client must load
+   *     everything
+   */
+  record Delta(UUID epoch, long sequence, boolean isFull, List<Change> changes) {}
+
+  private final UUID epoch = UUID.randomUUID();
+  private final NavigableMap<Long, Change> changes = new TreeMap<>();
+  private final Map<UUID, Long> versionsById = new HashMap<>();
+  private final Deque<Long> tombstones = new ArrayDeque<>();
+  private long sequence;
+  private long forgottenUpTo;
+
+  /**
+   * Creates an empty log, continuing the sequence after the given version, so versions keep
+   * increasing across restarts of the server.
+   *
+   * @param latestVersion the highest version of any stored entity
+   */
+  ChangeLog(long latestVersion) {
+    this.sequence = latestVersion;
+    this.forgottenUpTo = latestVersion;
+  }
+
+  /**
+   * Hands out the version of the next change.
+   *
+   * @return the version
+   */
+  synchronized long nextVersion() {
+    return ++sequence;
+  }
+
+  /**
+   * Records a change, replacing any earlier change of the same entity.
+   *
+   * @param type the type of the changed entity
+   * @param id the id of the changed entity
+   * @param version the version handed out for the change
+   * @param isRemoved true if the entity was removed
+   */
+  synchronized void record(String type, UUID id, long version, boolean isRemoved) {
+    Long previous = versionsById.put(id, version);
+    if (previous != null) {
+      changes.remove(previous);
+    }
+    changes.put(version, new Change(type, id, version, isRemoved));
+    if (isRemoved) {
+      tombstones.addLast(version);
+      while (tombstones.size() > MAX_TOMBSTONES) {
+        forget(tombstones.removeFirst());
+      }
+    }
+  }
+
+  private void forget(long version) {
+    Change change = changes.get(version);
+    if (change != null && change.isRemoved()) {
+      changes.remove(version);
+      versionsById.remove(change.id());
+      forgottenUpTo = Math.max(forgottenUpTo, version);
+    }
+  }
+
+  /**
+   * Collects the changes a client has to apply to catch up.
+   *
+   * @param clientEpoch the epoch the client last synchronized in, or null if it never did
+   * @param since the version the client last synchronized up to
+   * @return the changes after the given version, or a full delta if the client has to load
+   *     everything
+   */
+  synchronized Delta since(UUID clientEpoch, long since) {
+    if (!Objects.equals(epoch, clientEpoch) || since < forgottenUpTo || since > sequence) {
+      return new Delta(epoch, sequence, true, List.of());
+    }
+    return new Delta(epoch, sequence, false, List.copyOf(changes.tailMap(since, false).values()));
+  }
+}
@@ -0,0 +1,81 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams every change made through the HTTP API at {@code /api/events} as server-sent events, so
+ * clients can keep a local copy of the store up to date without polling.
+ *
+ * <p>Each event is named after the type of the changed entity, {@code user}, {@code task} or {@code
+ * group}, and its data is a JSON object holding the {@code kind} of change, the {@code id} of the
+ * entity, the {@code version} of the change and, unless it was removed, the {@code entity} itself.
+ * Events are sent in the order of their versions. A {@code resync} event tells the client that it
+ * missed events and must {@linkplain SyncHandler synchronize}.
+ *
+ * <p>The stream starts with a comment once the subscription is in place, so a client that loads
+ * everything after receiving it cannot miss a change. A comment is also sent whenever the stream
+ * has been idle for a while, so a broken connection is noticed by both ends.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.23
+ */
+class ChangeStreamHandler implements HttpHandler {
+
+  private static final long KEEP_ALIVE_SECONDS = 15;
+
+  private final ChangeBroadcaster broadcaster;
+
+  /**
+   * Creates a handler streaming the changes of the given broadcaster.
+   *
+   * @param broadcaster the broadcaster publishing the changes
+   */
+  ChangeStreamHandler(ChangeBroadcaster broadcaster) {
+    this.broadcaster = Objects.requireNonNull(broadcaster);
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!exchange.getRequestMethod().equals("GET")) {
+        EntityHandler.sendError(
+            exchange, HttpURLConnection.HTTP_BAD_METHOD, "Only GET is allowed here");
+        return;
+      }
+      exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+      exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+      exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, 0);
+
+      BlockingQueue<String> queue = broadcaster.subscribe();
+      try (OutputStream out = exchange.getResponseBody()) {
+        write(out, ": subscribed\n\n");
+        while (true) {
+          String event = queue.poll(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+          if (ChangeBroadcaster.CLOSED.equals(event)) {
+            return;
+          }
+          write(out, event == null ? ": keep-alive\n\n" : event);
+        }
+      } catch (IOException e) {
+        // the client went away
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        broadcaster.unsubscribe(queue);
+      }
+    }
+  }
+
+  private static void write(OutputStream out, String text) throws IOException {
+    out.write(text.getBytes(StandardCharsets.UTF_8));
+    out.flush();
+  }
+}
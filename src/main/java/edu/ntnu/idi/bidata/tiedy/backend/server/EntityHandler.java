@@ -0,0 +1,424 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import edu.ntnu.idi.bidata.tiedy.backend.io.json.CustomGson;
+import edu.ntnu.idi.bidata.tiedy.backend.model.Versioned;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.DataRepository;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Serves one type of entity over the HTTP API of the {@link TiedyServer}.
+ *
+ * <p>The collection lives at the path of the context, e.g. {@code /api/tasks}, and every entity at
+ * its id below it, e.g. {@code /api/tasks/<id>}. The following requests are understood:
+ *
+ * <ul>
+ *   <li>{@code GET} on the collection lists the entities matching the query parameters, see {@link
+ *       #query(Map)}
+ *   <li>{@code POST} on the collection adds the entity in the body, unless an entity with its id
+ *       already exists
+ *   <li>{@code GET} on an entity retrieves it
+ *   <li>{@code PUT} on an entity replaces it with the entity in the body
+ *   <li>{@code DELETE} on an entity removes it, answering with the {@code id} and the {@code
+ *       version} of the removal
+ * </ul>
+ *
+ * <p>Request and response bodies are JSON in the same shape as the data files. Errors are answered
+ * with a status code and a JSON object holding an {@code error} message. Gson fills in the fields
+ * of a parsed entity directly, bypassing the setters guarding them, so every entity posted or put
+ * is {@linkplain #validate(JsonObject, Object) validated} before it is stored.
+ *
+ * <p>Every change is given the next version from the {@link ChangeLog}, recorded there and
+ * published to the {@link ChangeBroadcaster}, all while holding the lock of the log. Changes are
+ * therefore published in the order of their versions, across every type of entity. The version of a
+ * stored entity is always the one handed out by the server, whatever the body of the request says.
+ *
+ * @param <T> the type of entity
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+abstract class EntityHandler<T extends Versioned> implements HttpHandler {
+
+  private static final Logger LOGGER = Logger.getLogger(EntityHandler.class.getName());
+
+  protected static final Gson GSON = CustomGson.getCompactInstance();
+
+  private final DataRepository<T> repository;
+  private final Class<T> entityClass;
+  private final Function<T, UUID> idExtractor;
+  private final ChangeLog changeLog;
+  private final ChangeBroadcaster broadcaster;
+  private final String eventType;
+
+  /**
+   * Creates a handler serving the entities of the given repository.
+   *
+   * @param repository the repository holding the entities
+   * @param entityClass the class of the entities, used to parse request bodies
+   * @param idExtractor retrieves the id of an entity
+   * @param changeLog the log to version and record every change in
+   * @param broadcaster the broadcaster to publish every change to
+   * @param eventType the name of the events published for this type of entity
+   */
+  protected EntityHandler(
+      DataRepository<T> repository,
+      Class<T> entityClass,
+      Function<T, UUID> idExtractor,
+      ChangeLog changeLog,
+      ChangeBroadcaster broadcaster,
+      String eventType) {
+    this.repository = Objects.requireNonNull(repository);
+    this.entityClass = Objects.requireNonNull(entityClass);
+    this.idExtractor = Objects.requireNonNull(idExtractor);
+    this.changeLog = Objects.requireNonNull(changeLog);
+    this.broadcaster = Objects.requireNonNull(broadcaster);
+    this.eventType = Objects.requireNonNull(eventType);
+  }
+
+  // ------------------------  Hooks  ------------------------
+
+  /**
+   * Lists the entities matching the query parameters of a {@code GET} on the collection. Every type
+   * of entity understands {@code ids}, a comma-separated list of ids; without any parameters, every
+   * entity is listed.
+   *
+   * @param parameters the decoded query parameters
+   * @return the matching entities
+   */
+  protected Stream<T> query(Map<String, String> parameters) {
+    String ids = parameters.get("ids");
+    if (ids != null) {
+      return repository.getByIds(parseIds(ids)).values().stream();
+    }
+    return repository.getAll();
+  }
+
+  /**
+   * Converts an entity into the JSON sent to clients.
+   *
+   * @param entity the entity to convert
+   * @return the JSON representation of the entity
+   */
+  protected JsonElement toJson(T entity) {
+    return GSON.toJsonTree(entity, entityClass);
+  }
+
+  /**
+   * Parses the body of a {@code PUT} into the entity replacing the stored one, e.g. to keep fields
+   * that are never sent to clients.
+   *
+   * @param stored the entity currently stored
+   * @param body the body of the request
+   * @return the entity to store
+   */
+  protected T parseReplacement(T stored, JsonObject body) {
+    return GSON.fromJson(body, entityClass);
+  }
+
+  /**
+   * Validates an entity parsed from the body of a {@code POST} or {@code PUT} before it is stored,
+   * e.g. by passing its fields through the setters that guard them. The id and the creation time
+   * have been checked already.
+   *
+   * @param body the body of the request
+   * @param entity the entity parsed from the body
+   * @throws ApiException if the entity is not valid
+   * @throws IllegalArgumentException if the entity is not valid
+   */
+  protected abstract void validate(JsonObject body, T entity);
+
+  /**
+   * Adds a new entity to the repository, rejecting it with an {@link ApiException} if it is not
+   * valid.
+   *
+   * @param entity the entity to add
+   * @return the added entity
+   */
+  protected T add(T entity) {
+    return repository.add(entity);
+  }
+
+  // ------------------------  Synchronization  ------------------------
+
+  /**
+   * Retrieves every entity as sent to clients, for a client loading everything.
+   *
+   * @return the JSON representation of every entity
+   */
+  Stream<JsonObject> getAllAsJson() {
+    return repository.getAll().map(entity -> toJson(entity).getAsJsonObject());
+  }
+
+  /**
+   * Retrieves an entity as sent to clients, for a client catching up on its changes.
+   *
+   * @param id the id of the entity
+   * @return the JSON representation of the entity, or an empty Optional if it does not exist
+   */
+  Optional<JsonObject> getAsJson(UUID id) {
+    return repository.getById(id).map(entity -> toJson(entity).getAsJsonObject());
+  }
+
+  // ------------------------  Dispatching  ------------------------
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      try {
+        dispatch(exchange);
+      } catch (ApiException e) {
+        sendError(exchange, e.getStatusCode(), e.getMessage());
+      } catch (JsonParseException | DateTimeParseException | IllegalArgumentException e) {
+        sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "Failed to handle " + exchange.getRequestURI(), e);
+        sendError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR, "Internal server error");
+      }
+    }
+  }
+
+  private void dispatch(HttpExchange exchange) throws IOException {
+    String contextPath = exchange.getHttpContext().getPath();
+    String rest = exchange.getRequestURI().getPath().substring(contextPath.length());
+    String method = exchange.getRequestMethod();
+
+    if (rest.isEmpty() || rest.equals("/")) {
+      switch (method) {
+        case "GET" -> sendJson(exchange, HttpURLConnection.HTTP_OK, toJsonArray(query(exchange)));
+        case "POST" -> {
+          JsonObject body = readJson(exchange);
+          requireFields(body, "id", "createdAt");
+          T entity = GSON.fromJson(body, entityClass);
+          validate(body, entity);
+          JsonElement added;
+          UUID id = idExtractor.apply(entity);
+          synchronized (changeLog) {
+            if (repository.getById(id).isPresent()) {
+              throw new ApiException(
+                  HttpURLConnection.HTTP_CONFLICT, "An entity with id " + id + " already exists");
+            }
+            long version = changeLog.nextVersion();
+            entity.setVersion(version);
+            added = toJson(add(entity));
+            changeLog.record(eventType, id, version, false);
+            broadcaster.publish(eventType, "ADDED", id, version, added);
+          }
+          sendJson(exchange, HttpURLConnection.HTTP_CREATED, added);
+        }
+        default -> throw methodNotAllowed(method);
+      }
+      return;
+    }
+    if (!rest.startsWith("/") || rest.indexOf('/', 1) >= 0) {
+      throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, "Unknown path: " + rest);
+    }
+
+    UUID id = UUID.fromString(rest.substring(1));
+    switch (method) {
+      case "GET" -> sendJson(exchange, HttpURLConnection.HTTP_OK, toJson(getStored(id)));
+      case "PUT" -> {
+        JsonObject body = readJson(exchange);
+        requireFields(body, "id", "createdAt");
+        JsonElement updated =
+            replace(
+                id,
+                stored -> {
+                  T replacement = parseReplacement(stored, body);
+                  if (!id.equals(idExtractor.apply(replacement))) {
+                    throw new ApiException(
+                        HttpURLConnection.HTTP_BAD_REQUEST,
+                        "The id of the body does not match the path");
+                  }
+                  validate(body, replacement);
+                  return replacement;
+                });
+        sendJson(exchange, HttpURLConnection.HTTP_OK, updated);
+      }
+      case "DELETE" -> {
+        JsonObject removal = new JsonObject();
+        synchronized (changeLog) {
+          if (!repository.remove(id)) {
+            throw notFound(id);
+          }
+          long version = changeLog.nextVersion();
+          changeLog.record(eventType, id, version, true);
+          broadcaster.publish(eventType, "REMOVED", id, version, null);
+          removal.addProperty("id", id.toString());
+          removal.addProperty("version", version);
+        }
+        sendJson(exchange, HttpURLConnection.HTTP_OK, removal);
+      }
+      default -> throw methodNotAllowed(method);
+    }
+  }
+
+  /**
+   * Replaces a stored entity with the one made from it by the given function, gives it the next
+   * version, records the change and publishes it, all while holding the lock of the change log.
+   *
+   * @param id the id of the entity
+   * @param replacer makes the replacement from the stored entity
+   * @return the stored replacement as sent to clients
+   * @throws ApiException if the entity does not exist or the replacement is not valid
+   */
+  JsonElement replace(UUID id, UnaryOperator<T> replacer) {
+    synchronized (changeLog) {
+      T replacement = replacer.apply(getStored(id));
+      long version = changeLog.nextVersion();
+      replacement.setVersion(version);
+      T stored = repository.update(replacement);
+      if (stored == null) {
+        throw notFound(id);
+      }
+      JsonElement updated = toJson(stored);
+      changeLog.record(eventType, id, version, false);
+      broadcaster.publish(eventType, "UPDATED", id, version, updated);
+      return updated;
+    }
+  }
+
+  private Stream<T> query(HttpExchange exchange) {
+    return query(parseQuery(exchange.getRequestURI().getRawQuery()));
+  }
+
+  private T getStored(UUID id) {
+    return repository.getById(id).orElseThrow(() -> notFound(id));
+  }
+
+  private JsonArray toJsonArray(Stream<T> entities) {
+    JsonArray array = new JsonArray();
+    entities.map(this::toJson).forEach(array::add);
+    return array;
+  }
+
+  private static ApiException notFound(UUID id) {
+    return new ApiException(HttpURLConnection.HTTP_NOT_FOUND, "No entity with id " + id);
+  }
+
+  private static ApiException methodNotAllowed(String method) {
+    return new ApiException(HttpURLConnection.HTTP_BAD_METHOD, method + " is not allowed here");
+  }
+
+  // ------------------------  Exchange Helpers  ------------------------
+
+  /**
+   * Reads the body of a request as a JSON object.
+   *
+   * @param exchange the exchange of the request
+   * @return the body
+   * @throws ApiException if the body is not a JSON object
+   */
+  static JsonObject readJson(HttpExchange exchange) throws IOException {
+    try (Reader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+      JsonElement body = GSON.fromJson(reader, JsonElement.class);
+      if (body == null || !body.isJsonObject()) {
+        throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, "Expected a JSON object");
+      }
+      return body.getAsJsonObject();
+    }
+  }
+
+  /**
+   * Checks that the body of a request holds a value for each of the given fields.
+   *
+   * @param body the body of the request
+   * @param names the names of the fields
+   * @throws ApiException if any of the fields is missing or null
+   */
+  static void requireFields(JsonObject body, String... names) {
+    for (String name : names) {
+      JsonElement value = body.get(name);
+      if (value == null || value.isJsonNull()) {
+        throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, "Missing field: " + name);
+      }
+    }
+  }
+
+  /**
+   * Answers a request with the given JSON.
+   *
+   * @param exchange the exchange of the request
+   * @param statusCode the HTTP status code
+   * @param body the body of the response
+   */
+  static void sendJson(HttpExchange exchange, int statusCode, JsonElement body) throws IOException {
+    byte[] bytes = GSON.toJson(body).getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(statusCode, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  /**
+   * Answers a request with an error.
+   *
+   * @param exchange the exchange of the request
+   * @param statusCode the HTTP status code
+   * @param message the error message sent to the client
+   */
+  static void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+    JsonObject body = new JsonObject();
+    body.addProperty("error", message);
+    sendJson(exchange, statusCode, body);
+  }
+
+  /**
+   * Parses the raw query of a request URI into its decoded parameters. A parameter given more than
+   * once keeps its last value.
+   *
+   * @param rawQuery the raw query, may be null
+   * @return the parameters by name
+   */
+  static Map<String, String> parseQuery(String rawQuery) {
+    Map<String, String> parameters = new HashMap<>();
+    if (rawQuery == null || rawQuery.isEmpty()) {
+      return parameters;
+    }
+    for (String pair : rawQuery.split("&")) {
+      int separator = pair.indexOf('=');
+      String name = separator < 0 ? pair : pair.substring(0, separator);
+      String value = separator < 0 ? "" : pair.substring(separator + 1);
+      parameters.put(
+          URLDecoder.decode(name, StandardCharsets.UTF_8),
+          URLDecoder.decode(value, StandardCharsets.UTF_8));
+    }
+    return parameters;
+  }
+
+  /**
+   * Parses a comma-separated list of ids.
+   *
+   * @param ids the list of ids
+   * @return the parsed ids
+   * @throws IllegalArgumentException if any of the ids is not a valid UUID
+   */
+  static List<UUID> parseIds(String ids) {
+    return Arrays.stream(ids.split(",")).filter(id -> !id.isBlank()).map(UUID::fromString).toList();
+  }
+}
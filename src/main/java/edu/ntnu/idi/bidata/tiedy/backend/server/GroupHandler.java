@@ -0,0 +1,60 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.google.gson.JsonObject;
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.GroupRepository;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Serves the groups at {@code /api/groups}.
+ *
+ * <p>Besides {@code ids}, the collection understands {@code userId} to list the groups a user is a
+ * member of, narrowed down by {@code admin=true} to the groups where the user is an admin.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+class GroupHandler extends EntityHandler<Group> {
+
+  private final GroupRepository repository;
+
+  /**
+   * Creates a handler serving the groups of the given repository.
+   *
+   * @param repository the repository holding the groups
+   * @param changeLog the log to version and record every change in
+   * @param broadcaster the broadcaster to publish every change to
+   */
+  GroupHandler(GroupRepository repository, ChangeLog changeLog, ChangeBroadcaster broadcaster) {
+    super(repository, Group.class, Group::getId, changeLog, broadcaster, "group");
+    this.repository = repository;
+  }
+
+  @Override
+  protected Stream<Group> query(Map<String, String> parameters) {
+    String userId = parameters.get("userId");
+    if (userId == null) {
+      return super.query(parameters);
+    }
+    UUID id = UUID.fromString(userId);
+    if (Boolean.parseBoolean(parameters.get("admin"))) {
+      return repository.getGropsByUserIdWhereUserIsAdmin(id);
+    }
+    return repository.getGroupsByUserId(id);
+  }
+
+  @Override
+  protected void validate(JsonObject body, Group group) {
+    requireFields(body, "members");
+    boolean hasNulls =
+        group.getMembers().entrySet().stream()
+            .anyMatch(member -> member.getKey() == null || member.getValue() == null);
+    if (hasNulls) {
+      throw new IllegalArgumentException("Members cannot contain null!");
+    }
+    group.setName(group.getName());
+    group.setDescription(group.getDescription());
+  }
+}
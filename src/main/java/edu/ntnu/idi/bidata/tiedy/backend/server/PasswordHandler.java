@@ -0,0 +1,85 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Changes passwords at {@code /api/password}. A {@code POST} with a JSON object holding the {@code
+ * username}, the {@code oldPassword} and the {@code newPassword} is answered with the user, without
+ * its hashed password, once the password has been changed, or with 401 if the old password is
+ * wrong.
+ *
+ * <p>This is the only way to change the password of a user, as a user replaced at {@code
+ * /api/users} keeps its stored hashed password. The old password is verified by the {@link
+ * AuthenticationHandler}, so it takes a turn among the other verifications.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+class PasswordHandler implements HttpHandler {
+
+  private final AuthenticationHandler authentication;
+  private final UserHandler users;
+
+  /**
+   * Creates a handler changing the passwords of the users served by the given handler.
+   *
+   * @param authentication the handler verifying the old passwords
+   * @param users the handler serving the users, which records and publishes every change
+   */
+  PasswordHandler(AuthenticationHandler authentication, UserHandler users) {
+    this.authentication = Objects.requireNonNull(authentication);
+    this.users = Objects.requireNonNull(users);
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!exchange.getRequestMethod().equals("POST")) {
+        EntityHandler.sendError(
+            exchange, HttpURLConnection.HTTP_BAD_METHOD, "Only POST is allowed here");
+        return;
+      }
+      String username;
+      String oldPassword;
+      String newPassword;
+      try {
+        JsonObject body = EntityHandler.readJson(exchange);
+        username = body.get("username").getAsString();
+        oldPassword = body.get("oldPassword").getAsString();
+        newPassword = body.get("newPassword").getAsString();
+      } catch (RuntimeException e) {
+        EntityHandler.sendError(
+            exchange,
+            HttpURLConnection.HTTP_BAD_REQUEST,
+            "Expected a username, the old password and the new password");
+        return;
+      }
+
+      try {
+        Optional<User> user = authentication.verify(username, oldPassword);
+        if (user.isEmpty()) {
+          EntityHandler.sendError(
+              exchange, HttpURLConnection.HTTP_UNAUTHORIZED, "Invalid username or password");
+          return;
+        }
+        User changed = new User(user.get());
+        changed.setHashedPassword(newPassword);
+        EntityHandler.sendJson(
+            exchange,
+            HttpURLConnection.HTTP_OK,
+            users.replaceHashedPassword(changed.getId(), changed.getHashedPassword()));
+      } catch (ApiException e) {
+        EntityHandler.sendError(exchange, e.getStatusCode(), e.getMessage());
+      } catch (IllegalArgumentException e) {
+        EntityHandler.sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Sends a client what changed since it last synchronized at {@code /api/sync}, so a client coming
+ * back online transfers the changed entities only instead of the whole store.
+ *
+ * <p>A {@code GET} takes the {@code epoch} and {@code sequence} of the previous answer as query
+ * parameters, both left out the first time. The answer is a JSON object holding the current {@code
+ * epoch} and {@code sequence}, whether it is {@code full} and the {@code changes}. Each change
+ * holds the {@code type}, {@code id} and {@code version} of an entity, and either the {@code
+ * entity} itself or {@code removed} set to true. A full answer lists every entity, and the client
+ * must discard whatever it held before.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.23
+ */
+class SyncHandler implements HttpHandler {
+
+  private final ChangeLog changeLog;
+  private final Map<String, EntityHandler<?>> handlers;
+
+  /**
+   * Creates a handler synchronizing the entities of the given handlers.
+   *
+   * @param changeLog the log of the changes
+   * @param handlers the handler of every type of entity, by type
+   */
+  SyncHandler(ChangeLog changeLog, Map<String, EntityHandler<?>> handlers) {
+    this.changeLog = Objects.requireNonNull(changeLog);
+    this.handlers = Map.copyOf(handlers);
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!exchange.getRequestMethod().equals("GET")) {
+        EntityHandler.sendError(
+            exchange, HttpURLConnection.HTTP_BAD_METHOD, "Only GET is allowed here");
+        return;
+      }
+      ChangeLog.Delta delta;
+      try {
+        Map<String, String> parameters =
+            EntityHandler.parseQuery(exchange.getRequestURI().getRawQuery());
+        String epoch = parameters.get("epoch");
+        delta =
+            changeLog.since(
+                epoch == null ? null : UUID.fromString(epoch),
+                Long.parseLong(parameters.getOrDefault("sequence", "0")));
+      } catch (IllegalArgumentException e) {
+        EntityHandler.sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+        return;
+      }
+
+      JsonArray changes = new JsonArray();
+      if (delta.isFull()) {
+        // every entity is read after the sequence, so none is older than the answer claims
+        handlers.forEach(
+            (type, handler) ->
+                handler.getAllAsJson().forEach(entity -> changes.add(toChange(type, entity))));
+      } else {
+        for (ChangeLog.Change change : delta.changes()) {
+          JsonObject json = new JsonObject();
+          json.addProperty("type", change.type());
+          json.addProperty("id", change.id().toString());
+          json.addProperty("version", change.version());
+          if (change.isRemoved()) {
+            json.addProperty("removed", true);
+            changes.add(json);
+            continue;
+          }
+          // an entity changed again in the meantime is sent as it is now
+          handlers
+              .get(change.type())
+              .getAsJson(change.id())
+              .ifPresent(entity -> changes.add(toChange(change.type(), entity)));
+        }
+      }
+
+      JsonObject body = new JsonObject();
+      body.addProperty("epoch", delta.epoch().toString());
+      body.addProperty("sequence", delta.sequence());
+      body.addProperty("full", delta.isFull());
+      body.add("changes", changes);
+      EntityHandler.sendJson(exchange, HttpURLConnection.HTTP_OK, body);
+    }
+  }
+
+  private static JsonObject toChange(String type, JsonObject entity) {
+    JsonObject json = new JsonObject();
+    json.addProperty("type", type);
+    json.add("id", entity.get("id"));
+    json.add("version", entity.get("version"));
+    json.add("entity", entity);
+    return json;
+  }
+}
@@ -0,0 +1,66 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.google.gson.JsonObject;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.TaskRepository;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Serves the tasks at {@code /api/tasks}.
+ *
+ * <p>Besides {@code ids}, the collection understands {@code userId} to list the tasks assigned to a
+ * user or group, narrowed down by either {@code active=true} to the tasks that are not closed or by
+ * {@code from} and {@code to} to the tasks with a deadline between the two dates, inclusive.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+class TaskHandler extends EntityHandler<Task> {
+
+  private final TaskRepository repository;
+
+  /**
+   * Creates a handler serving the tasks of the given repository.
+   *
+   * @param repository the repository holding the tasks
+   * @param changeLog the log to version and record every change in
+   * @param broadcaster the broadcaster to publish every change to
+   */
+  TaskHandler(TaskRepository repository, ChangeLog changeLog, ChangeBroadcaster broadcaster) {
+    super(repository, Task.class, Task::getId, changeLog, broadcaster, "task");
+    this.repository = repository;
+  }
+
+  @Override
+  protected Stream<Task> query(Map<String, String> parameters) {
+    String userId = parameters.get("userId");
+    if (userId == null) {
+      return super.query(parameters);
+    }
+    UUID id = UUID.fromString(userId);
+    if (parameters.containsKey("from") && parameters.containsKey("to")) {
+      return repository.getTasksByUserIdAndDeadlineBetween(
+          id, LocalDate.parse(parameters.get("from")), LocalDate.parse(parameters.get("to")));
+    }
+    if (Boolean.parseBoolean(parameters.get("active"))) {
+      return repository.getActiveTasksByUserId(id);
+    }
+    return repository.getTasksByUserId(id);
+  }
+
+  @Override
+  protected void validate(JsonObject body, Task task) {
+    requireFields(body, "assignedUsers");
+    if (task.getAssignedUsers().stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("Assigned users cannot contain null!");
+    }
+    task.setTitle(task.getTitle());
+    task.setDescription(task.getDescription());
+    task.setStatus(task.getStatus());
+    task.setPriority(task.getPriority());
+  }
+}
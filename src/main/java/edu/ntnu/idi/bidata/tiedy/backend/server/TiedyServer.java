@@ -0,0 +1,200 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.sun.net.httpserver.HttpServer;
+import edu.ntnu.idi.bidata.tiedy.backend.model.Versioned;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.DataRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.GroupRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.TaskRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.UserRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonGroupRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonTaskRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonUserRepository;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * A headless server sharing the users, tasks and groups of one store with many clients over a JSON
+ * HTTP API, e.g. for every device in a household.
+ *
+ * <p>The server holds the repositories in memory, just like the desktop application, and serves
+ * them at:
+ *
+ * <ul>
+ *   <li>{@code /api/users}, see {@link UserHandler}
+ *   <li>{@code /api/tasks}, see {@link TaskHandler}
+ *   <li>{@code /api/groups}, see {@link GroupHandler}
+ *   <li>{@code /api/authenticate}, see {@link AuthenticationHandler}
+ *   <li>{@code /api/password}, see {@link PasswordHandler}
+ *   <li>{@code /api/events}, see {@link ChangeStreamHandler}
+ *   <li>{@code /api/sync}, see {@link SyncHandler}
+ * </ul>
+ *
+ * <p>Every request is handled on its own virtual thread, so slow requests, like verifying a
+ * password, never hold up the others. The repositories are used directly rather than through the
+ * {@link edu.ntnu.idi.bidata.tiedy.backend.DataAccessFacade}, which is tied to the change events of
+ * the user interface, so the server runs without JavaFX.
+ *
+ * <p>The API does not authenticate requests and anyone who can reach it may change any user, except
+ * for their password, which can only be changed with the old one. The server therefore only listens
+ * on the loopback address unless told otherwise, and any other address should only ever be on a
+ * trusted network.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class TiedyServer {
+
+  /** The port the server listens on unless another one is given. */
+  public static final int DEFAULT_PORT = 8080;
+
+  /**
+   * The address the server listens on unless another one is given, reachable from this host only.
+   */
+  public static final String DEFAULT_BIND_ADDRESS = "127.0.0.1";
+
+  private static final Logger LOGGER = Logger.getLogger(TiedyServer.class.getName());
+
+  private final UserRepository userRepository;
+  private final TaskRepository taskRepository;
+  private final GroupRepository groupRepository;
+
+  private HttpServer httpServer;
+  private ExecutorService executor;
+  private ChangeBroadcaster broadcaster;
+  private boolean isStopped;
+
+  /**
+   * Creates a server for the given repositories. The server does not listen until it is {@linkplain
+   * #start(InetSocketAddress) started}.
+   *
+   * @param userRepository the repository holding the users
+   * @param taskRepository the repository holding the tasks
+   * @param groupRepository the repository holding the groups
+   */
+  public TiedyServer(
+      UserRepository userRepository,
+      TaskRepository taskRepository,
+      GroupRepository groupRepository) {
+    this.userRepository = Objects.requireNonNull(userRepository);
+    this.taskRepository = Objects.requireNonNull(taskRepository);
+    this.groupRepository = Objects.requireNonNull(groupRepository);
+  }
+
+  /**
+   * Runs the server on the data files of the application until the process is stopped. The port is
+   * given as {@code --port=<port>}, and defaults to {@value #DEFAULT_PORT}. The address to listen
+   * on is given as {@code --bind=<address>}, e.g. {@code --bind=0.0.0.0} for every network
+   * interface, and defaults to {@value #DEFAULT_BIND_ADDRESS}.
+   *
+   * @param args the command-line arguments passed to the application
+   * @throws IOException if the server cannot listen on the port
+   * @throws NumberFormatException if the port is not a number
+   */
+  public static void main(String[] args) throws IOException {
+    int port = DEFAULT_PORT;
+    String bindAddress = DEFAULT_BIND_ADDRESS;
+    for (String arg : args) {
+      if (arg.startsWith("--port=")) {
+        port = Integer.parseInt(arg.substring("--port=".length()));
+      } else if (arg.startsWith("--bind=")) {
+        bindAddress = arg.substring("--bind=".length());
+      }
+    }
+    TiedyServer server =
+        new TiedyServer(
+            JsonUserRepository.getInstance(),
+            JsonTaskRepository.getInstance(),
+            JsonGroupRepository.getInstance());
+    server.start(new InetSocketAddress(bindAddress, port));
+    Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+  }
+
+  /**
+   * Starts listening on the given address.
+   *
+   * @param address the address to listen on; port 0 picks a free port
+   * @throws IOException if the server cannot listen on the address
+   * @throws IllegalStateException if the server is already running or has been stopped
+   */
+  public synchronized void start(InetSocketAddress address) throws IOException {
+    if (httpServer != null) {
+      throw new IllegalStateException("The server is already running!");
+    }
+    if (isStopped) {
+      throw new IllegalStateException("A stopped server cannot be started again!");
+    }
+    ChangeLog changeLog =
+        new ChangeLog(
+            Math.max(
+                getLatestVersion(userRepository),
+                Math.max(getLatestVersion(taskRepository), getLatestVersion(groupRepository))));
+    broadcaster = new ChangeBroadcaster();
+    UserHandler userHandler = new UserHandler(userRepository, changeLog, broadcaster);
+    Map<String, EntityHandler<?>> handlers =
+        Map.of(
+            "user", userHandler,
+            "task", new TaskHandler(taskRepository, changeLog, broadcaster),
+            "group", new GroupHandler(groupRepository, changeLog, broadcaster));
+
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+    httpServer = HttpServer.create(address, 0);
+    httpServer.setExecutor(executor);
+    handlers.forEach((type, handler) -> httpServer.createContext("/api/" + type + "s", handler));
+    AuthenticationHandler authenticationHandler = new AuthenticationHandler(userRepository);
+    httpServer.createContext("/api/authenticate", authenticationHandler);
+    httpServer.createContext(
+        "/api/password", new PasswordHandler(authenticationHandler, userHandler));
+    httpServer.createContext("/api/events", new ChangeStreamHandler(broadcaster));
+    httpServer.createContext("/api/sync", new SyncHandler(changeLog, handlers));
+    httpServer.start();
+    LOGGER.info(() -> "Tiedy server listening on " + httpServer.getAddress());
+    if (httpServer.getAddress().getAddress().isAnyLocalAddress()) {
+      LOGGER.warning("Listening on every network interface without authentication");
+    }
+  }
+
+  /**
+   * Stops listening, waits for the requests in progress to complete, writes every change to disk
+   * and closes the repositories. Does nothing if the server is not running. A stopped server cannot
+   * be started again.
+   */
+  public synchronized void stop() {
+    if (httpServer == null) {
+      return;
+    }
+    // end the change streams first, as they would otherwise keep the executor from shutting down
+    broadcaster.close();
+    httpServer.stop(1);
+    executor.close();
+    httpServer = null;
+    executor = null;
+    broadcaster = null;
+    isStopped = true;
+    userRepository.close();
+    taskRepository.close();
+    groupRepository.close();
+    LOGGER.info("Tiedy server stopped");
+  }
+
+  private static long getLatestVersion(DataRepository<? extends Versioned> repository) {
+    return repository.getAll().mapToLong(Versioned::getVersion).max().orElse(0);
+  }
+
+  /**
+   * Retrieves the port the server listens on, e.g. after starting it on port 0.
+   *
+   * @return the port
+   * @throws IllegalStateException if the server is not running
+   */
+  public synchronized int getPort() {
+    if (httpServer == null) {
+      throw new IllegalStateException("The server is not running!");
+    }
+    return httpServer.getAddress().getPort();
+  }
+}
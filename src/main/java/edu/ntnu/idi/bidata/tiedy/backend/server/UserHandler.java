@@ -0,0 +1,122 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.UserRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.util.StringChecker;
+import java.net.HttpURLConnection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Serves the users at {@code /api/users}.
+ *
+ * <p>The hashed password of a user is never sent to clients. A new user is posted with its hashed
+ * password, so plain text passwords never travel over the API except to authenticate or to change a
+ * password. A replaced user always keeps the stored hashed password, whatever the body says, so a
+ * password can only be changed through the {@link PasswordHandler}, which checks the old one.
+ * Usernames must be unique.
+ *
+ * <p>Besides {@code ids}, the collection understands {@code username} to find a single user.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+class UserHandler extends EntityHandler<User> {
+
+  private static final String HASHED_PASSWORD = "hashedPassword";
+
+  private final UserRepository repository;
+
+  /**
+   * Creates a handler serving the users of the given repository.
+   *
+   * @param repository the repository holding the users
+   * @param changeLog the log to version and record every change in
+   * @param broadcaster the broadcaster to publish every change to
+   */
+  UserHandler(UserRepository repository, ChangeLog changeLog, ChangeBroadcaster broadcaster) {
+    super(repository, User.class, User::getId, changeLog, broadcaster, "user");
+    this.repository = repository;
+  }
+
+  /**
+   * Converts a user into the JSON sent to clients, leaving out the hashed password.
+   *
+   * @param user the user to convert
+   * @return the JSON representation of the user
+   */
+  static JsonObject toPublicJson(User user) {
+    JsonObject json = GSON.toJsonTree(user, User.class).getAsJsonObject();
+    json.remove(HASHED_PASSWORD);
+    return json;
+  }
+
+  @Override
+  protected Stream<User> query(Map<String, String> parameters) {
+    String username = parameters.get("username");
+    if (username != null) {
+      return repository.getUserByUsername(username).stream();
+    }
+    return super.query(parameters);
+  }
+
+  @Override
+  protected JsonElement toJson(User user) {
+    return toPublicJson(user);
+  }
+
+  @Override
+  protected User parseReplacement(User stored, JsonObject body) {
+    body.addProperty(HASHED_PASSWORD, stored.getHashedPassword());
+    User replacement = super.parseReplacement(stored, body);
+    repository
+        .getUserByUsername(replacement.getUsername())
+        .filter(other -> !other.getId().equals(stored.getId()))
+        .ifPresent(
+            other -> {
+              throw usernameTaken(replacement);
+            });
+    return replacement;
+  }
+
+  /**
+   * Replaces the hashed password of a user, keeping everything else as stored.
+   *
+   * @param id the id of the user
+   * @param hashedPassword the new hashed password
+   * @return the updated user as sent to clients
+   * @throws ApiException if the user does not exist
+   */
+  JsonElement replaceHashedPassword(UUID id, String hashedPassword) {
+    return replace(
+        id,
+        stored -> {
+          JsonObject json = GSON.toJsonTree(stored, User.class).getAsJsonObject();
+          json.addProperty(HASHED_PASSWORD, hashedPassword);
+          return GSON.fromJson(json, User.class);
+        });
+  }
+
+  @Override
+  protected void validate(JsonObject body, User user) {
+    requireFields(body, "levelSystem");
+    user.setUsername(user.getUsername());
+    StringChecker.assertStringNotNullOrEmpty(user.getHashedPassword(), HASHED_PASSWORD);
+  }
+
+  @Override
+  protected User add(User user) {
+    if (repository.getUserByUsername(user.getUsername()).isPresent()) {
+      throw usernameTaken(user);
+    }
+    return super.add(user);
+  }
+
+  private static ApiException usernameTaken(User user) {
+    return new ApiException(
+        HttpURLConnection.HTTP_CONFLICT, "Username " + user.getUsername() + " is already taken");
+  }
+}
@@ -1,19 +1,27 @@
 package edu.ntnu.idi.bidata.tiedy.frontend;
 
+import edu.ntnu.idi.bidata.tiedy.backend.AsyncDataAccessFacade;
 import edu.ntnu.idi.bidata.tiedy.backend.DataAccessFacade;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
 import edu.ntnu.idi.bidata.tiedy.frontend.navigation.SceneManager;
 import edu.ntnu.idi.bidata.tiedy.frontend.navigation.SceneName;
 import edu.ntnu.idi.bidata.tiedy.frontend.session.InvalidSessionException;
+import edu.ntnu.idi.bidata.tiedy.frontend.session.SessionTokenStore;
+import edu.ntnu.idi.bidata.tiedy.frontend.session.UserSession;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.DataChangeNotifier;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
 import java.awt.Taskbar;
 import java.awt.Toolkit;
 import java.util.Optional;
 import java.util.logging.Logger;
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.image.Image;
+import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 
 /**
@@ -22,15 +30,18 @@ import javafx.stage.Stage;
  * class from the JavaFX framework, providing the necessary lifecycle methods such as start.
  *
  * @author Nick Heggø
- * @version 2025.04.07
+ * @version 2025.05.24
  */
 public class TiedyApp extends Application {
 
   private static final Logger LOGGER = Logger.getLogger(TiedyApp.class.getName());
 
   private static final DataAccessFacade dataAccessFacade = DataAccessFacade.getInstance();
+  private static final AsyncDataAccessFacade asyncDataAccessFacade =
+      AsyncDataAccessFacade.getInstance();
   private static final DataChangeNotifier dataChangeNotifier = DataChangeNotifier.getInstance();
   private static final SceneManager sceneManager = SceneManager.getInstance();
+  private static final SessionTokenStore sessionTokenStore = new SessionTokenStore();
 
   /**
    * The main entry point for the JavaFX application. This method launches the JavaFX runtime and
@@ -67,6 +78,26 @@ public class TiedyApp extends Application {
     return dataAccessFacade;
   }
 
+  /**
+   * Retrieves the singleton instance of the AsyncDataAccessFacade, which runs the operations of the
+   * DataAccessFacade off the JavaFX application thread.
+   *
+   * @return the singleton instance of AsyncDataAccessFacade
+   */
+  public static AsyncDataAccessFacade getAsyncDataAccessFacade() {
+    return asyncDataAccessFacade;
+  }
+
+  /**
+   * Retrieves the store remembering the logged-in user on this device between runs of the
+   * application.
+   *
+   * @return the session token store of the application
+   */
+  public static SessionTokenStore getSessionTokenStore() {
+    return sessionTokenStore;
+  }
+
   /**
    * Retrieves the singleton instance of the {@link DataChangeNotifier}, which is responsible for
    * managing and notifying registered observers about data updates.
@@ -92,8 +123,63 @@ public class TiedyApp extends Application {
             windowEvent.consume();
           }
         });
+    // pick up changes made to the data files while the window was in the background
+    primaryStage
+        .focusedProperty()
+        .addListener(
+            (observable, wasFocused, isFocused) -> {
+              if (Boolean.TRUE.equals(isFocused)) {
+                asyncDataAccessFacade
+                    .reconcile()
+                    .exceptionally(
+                        e -> {
+                          LOGGER.warning(
+                              () -> "Could not reload the data files: " + e.getMessage());
+                          return false;
+                        });
+              }
+            });
     sceneManager.setPrimaryStage(primaryStage);
-    sceneManager.switchScene(SceneName.LOGIN);
+    dataAccessFacade.setDataChangeListener(dataChangeNotifier::notifyObservers);
+
+    // the data of a server is loaded over the network, so the window shows that it is busy
+    primaryStage.setScene(new Scene(new StackPane(new ProgressIndicator())));
+    primaryStage.show();
+
+    // a remembered user skips the login, and with it the slow password check
+    FxRequest.whenDone(
+        asyncDataAccessFacade.supply(
+            facade -> {
+              facade.connect();
+              return sessionTokenStore.load(facade::getUserById);
+            }),
+        TiedyApp::showFirstScene,
+        TiedyApp::showConnectionError);
+  }
+
+  private static void showFirstScene(Optional<User> rememberedUser) {
+    if (rememberedUser.isPresent()) {
+      UserSession.createSession(rememberedUser.get());
+      sceneManager.switchScene(SceneName.MAIN);
+      sceneManager.preload(SceneName.STATISTIC, SceneName.GROUP);
+    } else {
+      sceneManager.switchScene(SceneName.LOGIN);
+    }
+  }
+
+  private static void showConnectionError(Throwable e) {
+    LOGGER.severe(() -> "Could not connect to the server: " + e.getMessage());
+    AlertFactory.generateErrorAlert("Cannot connect to the server", e.getMessage()).showAndWait();
+    Platform.exit();
+  }
+
+  /**
+   * Writes any changes still pending in the background and closes the data access before the JavaFX
+   * runtime shuts down.
+   */
+  @Override
+  public void stop() {
+    dataAccessFacade.close();
   }
 
   /** macOS platform specific code. */
@@ -114,7 +200,8 @@ public class TiedyApp extends Application {
   /**
    * Prompt the user to confirm whether the user wants to exit the application.
    *
-   * <p>Calls {@code Platform.exit()} when the OK button is pressed
+   * <p>Writes pending changes to disk and calls {@code Platform.exit()} when the OK button is
+   * pressed
    */
   public static boolean onClose() {
     Optional<ButtonType> result =
@@ -124,6 +211,7 @@ public class TiedyApp extends Application {
     if (result.orElse(ButtonType.CANCEL) == ButtonType.OK) {
       LOGGER.info("Thank you for using Tiedy!");
       LOGGER.info("Exiting program...");
+      dataAccessFacade.flush();
       Platform.exit();
     }
     return false;
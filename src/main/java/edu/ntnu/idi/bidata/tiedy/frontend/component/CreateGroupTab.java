@@ -6,8 +6,11 @@ import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.navigation.SceneName;
 import edu.ntnu.idi.bidata.tiedy.frontend.session.UserSession;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
@@ -21,12 +24,13 @@ import javafx.scene.layout.VBox;
 
 /**
  * A controller class that manages the Tab within {@link
- * edu.ntnu.idi.bidata.tiedy.frontend.controller.GroupController} for creating a new group.
+ * edu.ntnu.idi.bidata.tiedy.frontend.controller.GroupController} for creating a new group. The
+ * users are loaded and the group is saved in the background.
  *
  * @author Nick Heggø
- * @version 2025.04.29
+ * @version 2025.05.24
  */
-public class CreateGroupTab extends Tab {
+public final class CreateGroupTab extends Tab {
 
   @FXML private VBox root;
 
@@ -43,6 +47,10 @@ public class CreateGroupTab extends Tab {
   @FXML private TableColumn<User, String> groupMemberRoleTableColumn;
 
   private Group group;
+  private final FxRequest<Users> usersRequest = new FxRequest<>();
+
+  /** The users that can be added to the group and the members of the group, loaded together. */
+  private record Users(List<User> available, List<User> members) {}
 
   public CreateGroupTab() {
     setClosable(false);
@@ -98,18 +106,29 @@ public class CreateGroupTab extends Tab {
     groupMemberRoleTableColumn.setSortable(true);
   }
 
+  /**
+   * Updates the users that can be added and the members of the new group. They are loaded in the
+   * background, and a load superseded by a newer one is never shown.
+   */
   public void updateData() {
-    var availableUsers =
-        TiedyApp.getDataAccessFacade()
-            .filterUsers(user -> !group.getMembers().containsKey(user.getId()));
-    availableUserTableView.setItems(FXCollections.observableArrayList(availableUsers));
-
-    var groupMembers =
-        TiedyApp.getDataAccessFacade()
-            .filterUsers(user -> group.getMembers().containsKey(user.getId()));
-    groupTableView.setItems(FXCollections.observableArrayList(groupMembers));
+    Set<UUID> memberIds = Set.copyOf(group.getMembers().keySet());
+    usersRequest.submit(
+        TiedyApp.getAsyncDataAccessFacade()
+            .supply(
+                facade ->
+                    new Users(
+                        facade.filterUsers(user -> !memberIds.contains(user.getId())),
+                        facade.filterUsers(user -> memberIds.contains(user.getId())))),
+        users -> {
+          availableUserTableView.setItems(FXCollections.observableArrayList(users.available()));
+          groupTableView.setItems(FXCollections.observableArrayList(users.members()));
+          availableUserTableView.getSelectionModel().selectFirst();
+        },
+        CreateGroupTab::showError);
+  }
 
-    availableUserTableView.getSelectionModel().selectFirst();
+  private static void showError(Throwable e) {
+    AlertFactory.generateErrorAlert(e.getMessage()).showAndWait();
   }
 
   @FXML
@@ -163,17 +182,22 @@ public class CreateGroupTab extends Tab {
 
       group.setName(name);
       group.setDescription(descriptionTextField.getText());
-      if (TiedyApp.getDataAccessFacade().addGroup(group) == null) {
-        throw new IllegalStateException("Failed to save the group, please try again.");
-      }
-
-      AlertFactory.generateInfoAlert("Success", "Successfully created group: " + group.getName())
-          .showAndWait();
+      FxRequest.whenDone(
+          TiedyApp.getAsyncDataAccessFacade().addGroup(group),
+          addedGroup -> {
+            if (addedGroup == null) {
+              AlertFactory.generateErrorAlert("Failed to save the group, please try again.")
+                  .showAndWait();
+            } else {
+              AlertFactory.generateInfoAlert(
+                      "Success", "Successfully created group: " + addedGroup.getName())
+                  .showAndWait();
+            }
+          },
+          CreateGroupTab::showError);
 
     } catch (IllegalArgumentException e) {
       AlertFactory.generateWarningAlert(e.getMessage()).showAndWait();
-    } catch (IllegalStateException e) {
-      AlertFactory.generateErrorAlert(e.getMessage()).showAndWait();
     }
   }
 
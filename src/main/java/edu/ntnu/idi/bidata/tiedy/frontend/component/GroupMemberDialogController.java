@@ -4,8 +4,10 @@ import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
 import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
-import java.util.ArrayList;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.TableColumn;
@@ -14,11 +16,11 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.HBox;
 
 /**
- * A controller class that manages the dialog for viewing and modifying the members of a group.
- * underlying group and user data.
+ * A controller class that manages the dialog for viewing and modifying the members of a group. The
+ * users are loaded in the background.
  *
  * @author Nick Heggø
- * @version 2025.04.29
+ * @version 2025.05.24
  */
 public class GroupMemberDialogController {
 
@@ -29,6 +31,10 @@ public class GroupMemberDialogController {
   @FXML private TableColumn<User, String> memberNameColumn;
 
   private Group group;
+  private final FxRequest<Users> usersRequest = new FxRequest<>();
+
+  /** The users that can be added to the group and the members of the group, loaded together. */
+  private record Users(List<User> available, List<User> members) {}
 
   /** Initializes the dialog components. */
   @FXML
@@ -54,14 +60,19 @@ public class GroupMemberDialogController {
   }
 
   private void updateData() {
-    var availableUsers =
-        TiedyApp.getDataAccessFacade()
-            .filterUsers(user -> !group.getMembers().containsKey(user.getId()));
-    availableUserTable.setItems(FXCollections.observableArrayList(availableUsers));
-    var users =
-        TiedyApp.getDataAccessFacade().getUsersByIds(new ArrayList<>(group.getMembers().keySet()));
-
-    groupMemberTable.setItems(FXCollections.observableArrayList(users));
+    Set<UUID> memberIds = Set.copyOf(group.getMembers().keySet());
+    usersRequest.submit(
+        TiedyApp.getAsyncDataAccessFacade()
+            .supply(
+                facade ->
+                    new Users(
+                        facade.filterUsers(user -> !memberIds.contains(user.getId())),
+                        facade.getUsersByIds(memberIds))),
+        users -> {
+          availableUserTable.setItems(FXCollections.observableArrayList(users.available()));
+          groupMemberTable.setItems(FXCollections.observableArrayList(users.members()));
+        },
+        e -> AlertFactory.generateErrorAlert(e.getMessage()).showAndWait());
   }
 
   @FXML
@@ -6,8 +6,15 @@ import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.DialogFactory;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
@@ -24,7 +31,7 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.MouseButton;
 import javafx.scene.layout.VBox;
 
-public class GroupTab extends Tab {
+public final class GroupTab extends Tab {
 
   @FXML private VBox root;
   @FXML private TextField searchBox;
@@ -49,6 +56,13 @@ public class GroupTab extends Tab {
   @FXML private TableColumn<User, String> roleColumn;
 
   private Group group;
+  private final FxRequest<GroupData> dataRequest = new FxRequest<>();
+
+  // the usernames of the users assigned to the tasks on display, loaded along with the tasks
+  private Map<UUID, String> usernames = Map.of();
+
+  /** The tasks and members of the group and the usernames of the assignees, loaded together. */
+  private record GroupData(List<Task> tasks, List<User> members, Map<UUID, String> usernames) {}
 
   public GroupTab(Group group) {
     if (group == null) {
@@ -105,8 +119,10 @@ public class GroupTab extends Tab {
           return new SimpleStringProperty(
               userIds.isEmpty()
                   ? "None"
-                  : TiedyApp.getDataAccessFacade()
-                      .getUserNamesByIds(List.copyOf(userIds))
+                  : userIds.stream()
+                      .map(usernames::get)
+                      .filter(Objects::nonNull)
+                      .toList()
                       .toString());
         });
 
@@ -132,9 +148,7 @@ public class GroupTab extends Tab {
                 .getSelectedItem()
                 .assignUser(groupLeaderBoard.getSelectionModel().getSelectedItem().getId());
 
-            TiedyApp.getDataAccessFacade()
-                .updateTask(tasksTable.getSelectionModel().getSelectedItem());
-            TiedyApp.getDataChangeNotifier().notifyObservers();
+            updateTask(tasksTable.getSelectionModel().getSelectedItem());
           } catch (NullPointerException e) {
             AlertFactory.generateWarningAlert("Please select both a task and a user to assign.")
                 .showAndWait();
@@ -148,30 +162,13 @@ public class GroupTab extends Tab {
                 .getSelectionModel()
                 .getSelectedItem()
                 .unassignUser(groupLeaderBoard.getSelectionModel().getSelectedItem().getId());
-            TiedyApp.getDataAccessFacade()
-                .updateTask(tasksTable.getSelectionModel().getSelectedItem());
-            TiedyApp.getDataChangeNotifier().notifyObservers();
+            updateTask(tasksTable.getSelectionModel().getSelectedItem());
           } catch (NullPointerException e) {
             AlertFactory.generateWarningAlert("Please select both a task and a user to unassign.")
                 .showAndWait();
           }
         });
 
-    updateData();
-  }
-
-  private void updateData() {
-    // left
-    var groupTasks = TiedyApp.getDataAccessFacade().getActiveTasksByGroupId(group.getId());
-    if (!searchBox.getText().isBlank()) {
-      groupTasks =
-          groupTasks.stream()
-              .filter(
-                  task -> task.getTitle().toLowerCase().contains(searchBox.getText().toLowerCase()))
-              .toList();
-    }
-    tasksTable.setItems(FXCollections.observableArrayList(groupTasks));
-
     // enable double click to show the edit dialog
     tasksTable.setRowFactory(
         tv -> {
@@ -182,48 +179,106 @@ public class GroupTab extends Tab {
                 if (event.getButton() == MouseButton.PRIMARY
                     && event.getClickCount() == 2
                     && !row.isEmpty()) {
-                  Task selectedTask = row.getItem();
-
-                  DialogFactory.launchEditTaskDialog(
-                      selectedTask,
-                      updatedTask -> {
-                        if (TiedyApp.getDataAccessFacade().updateTask(updatedTask) != null) {
-                          TiedyApp.getDataChangeNotifier().notifyObservers();
-                        } else {
-                          AlertFactory.generateWarningAlert("Failed to update task").showAndWait();
-                        }
-                      });
+                  DialogFactory.launchEditTaskDialog(row.getItem(), this::updateTask);
                 }
               });
           return row;
         });
 
-    // right
-    var groupMembers =
-        TiedyApp.getDataAccessFacade()
-            .filterUsers(user -> group.getMembers().containsKey(user.getId()));
-    groupLeaderBoard.setItems(FXCollections.observableArrayList(groupMembers));
+    updateData();
   }
 
-  @FXML
-  private void onNewTaskButtonPress() {
-    DialogFactory.launchTaskCreationDialog(
-        createdTask -> {
-          if (TiedyApp.getDataAccessFacade().addTask(createdTask) != null) {
+  /**
+   * Gets the unique identifier of the group shown in this tab.
+   *
+   * @return the id of the group
+   */
+  public UUID getGroupId() {
+    return group.getId();
+  }
 
-            if (TiedyApp.getDataAccessFacade()
-                .assignTaskToUser(createdTask.getId(), group.getId())) {
+  /**
+   * Updates the tasks and the members shown in this tab. They are loaded in the background, and a
+   * load superseded by a newer one, e.g. while typing in the search box, is never shown.
+   */
+  public void updateData() {
+    UUID groupId = group.getId();
+    Set<UUID> memberIds = group.getMembers().keySet();
+    dataRequest.submit(
+        TiedyApp.getAsyncDataAccessFacade()
+            .supply(
+                facade -> {
+                  List<Task> tasks = facade.getActiveTasksByGroupId(groupId);
+                  Set<UUID> assigneeIds = new HashSet<>();
+                  tasks.forEach(task -> assigneeIds.addAll(task.getAssignedUsers()));
+                  return new GroupData(
+                      tasks,
+                      facade.filterUsers(user -> memberIds.contains(user.getId())),
+                      facade.getUsersByIds(assigneeIds).stream()
+                          .collect(Collectors.toMap(User::getId, User::getUsername)));
+                }),
+        this::showData,
+        GroupTab::showError);
+  }
 
-              TiedyApp.getDataChangeNotifier().notifyObservers();
-              AlertFactory.generateInfoAlert("Success", "Task created successfully!").showAndWait();
+  private void showData(GroupData data) {
+    usernames = data.usernames();
+    // left
+    var groupTasks = data.tasks();
+    if (!searchBox.getText().isBlank()) {
+      groupTasks =
+          groupTasks.stream()
+              .filter(
+                  task -> task.getTitle().toLowerCase().contains(searchBox.getText().toLowerCase()))
+              .toList();
+    }
+    tasksTable.setItems(FXCollections.observableArrayList(groupTasks));
 
-            } else {
-              AlertFactory.generateWarningAlert("Failed to assign task to user").showAndWait();
-            }
+    // right
+    groupLeaderBoard.setItems(FXCollections.observableArrayList(data.members()));
+  }
 
-          } else {
-            AlertFactory.generateWarningAlert("Failed to create task").showAndWait();
+  private void updateTask(Task task) {
+    FxRequest.whenDone(
+        TiedyApp.getAsyncDataAccessFacade().updateTask(task),
+        updatedTask -> {
+          if (updatedTask == null) {
+            AlertFactory.generateWarningAlert("Failed to update task").showAndWait();
           }
+        },
+        GroupTab::showError);
+  }
+
+  private static void showError(Throwable e) {
+    AlertFactory.generateErrorAlert(e.getMessage()).showAndWait();
+  }
+
+  @FXML
+  private void onNewTaskButtonPress() {
+    DialogFactory.launchTaskCreationDialog(
+        createdTask -> {
+          UUID groupId = group.getId();
+          FxRequest.whenDone(
+              TiedyApp.getAsyncDataAccessFacade()
+                  .supply(
+                      facade -> {
+                        if (facade.addTask(createdTask) == null) {
+                          return "Failed to create task";
+                        }
+                        if (!facade.assignTaskToUser(createdTask.getId(), groupId)) {
+                          return "Failed to assign task to user";
+                        }
+                        return null;
+                      }),
+              failure -> {
+                if (failure == null) {
+                  AlertFactory.generateInfoAlert("Success", "Task created successfully!")
+                      .showAndWait();
+                } else {
+                  AlertFactory.generateWarningAlert(failure).showAndWait();
+                }
+              },
+              GroupTab::showError);
         });
   }
 
@@ -231,6 +286,10 @@ public class GroupTab extends Tab {
   private void onManageMembersButtonPress() {
     DialogFactory.launchGroupMemberDialog(
         group,
-        updatedGroup -> this.group = TiedyApp.getDataAccessFacade().updateGroup(updatedGroup));
+        updatedGroup ->
+            FxRequest.whenDone(
+                TiedyApp.getAsyncDataAccessFacade().updateGroup(updatedGroup),
+                result -> this.group = result,
+                GroupTab::showError));
   }
 }
@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.component;
 
+import edu.ntnu.idi.bidata.tiedy.backend.AsyncDataAccessFacade;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
@@ -7,10 +8,12 @@ import edu.ntnu.idi.bidata.tiedy.frontend.navigation.SceneName;
 import edu.ntnu.idi.bidata.tiedy.frontend.session.UserSession;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.DialogFactory;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javafx.fxml.FXML;
@@ -22,8 +25,11 @@ import javafx.scene.control.MenuItem;
  * interface. It manages button clicks, navigation between scenes, and filtering of tasks based on
  * the user's selection.
  *
+ * <p>The tasks are filtered and created in the background through the {@link
+ * AsyncDataAccessFacade}, so the JavaFX application thread never waits for the data.
+ *
  * @author Nick Heggø
- * @version 2025.04.13
+ * @version 2025.05.24
  */
 public class MenuBarController {
 
@@ -35,6 +41,16 @@ public class MenuBarController {
   @FXML private MenuItem closedTaskFilter;
   private Supplier<LocalDate> startOfWeekSupplier;
   private Consumer<Map<LocalDate, List<Task>>> updateTaskViewPaneCallback;
+  private final FxRequest<Map<LocalDate, List<Task>>> filterRequest = new FxRequest<>();
+
+  /**
+   * Disables the task filter until a view supporting it sets up a callback. Every view has its own
+   * menu bar, so the state of the filter stays with the view.
+   */
+  @FXML
+  public void initialize() {
+    taskFilterMenu.setDisable(true);
+  }
 
   /**
    * Sets up a callback that will be triggered when filter menu items are selected.
@@ -46,6 +62,7 @@ public class MenuBarController {
     this.updateTaskViewPaneCallback = Objects.requireNonNull(callback);
     this.startOfWeekSupplier = Objects.requireNonNull(date);
     setupFilterListeners();
+    taskFilterMenu.setDisable(false);
   }
 
   /**
@@ -57,7 +74,6 @@ public class MenuBarController {
   @FXML
   public void onHomeButtonPress() {
     TiedyApp.getSceneManager().switchScene(SceneName.MAIN);
-    taskFilterMenu.setDisable(false);
   }
 
   /**
@@ -69,7 +85,6 @@ public class MenuBarController {
   @FXML
   public void onStatisticsButtonPress() {
     TiedyApp.getSceneManager().switchScene(SceneName.STATISTIC);
-    taskFilterMenu.setDisable(true);
   }
 
   /**
@@ -81,28 +96,34 @@ public class MenuBarController {
   public void onNewTaskButtonPress() {
     DialogFactory.launchTaskCreationDialog(
         createdTask -> {
-          if (TiedyApp.getDataAccessFacade().addTask(createdTask) != null) {
-
-            if (TiedyApp.getDataAccessFacade()
-                .assignTaskToUser(createdTask.getId(), UserSession.getCurrentUserId())) {
-
-              TiedyApp.getDataChangeNotifier().notifyObservers();
-              AlertFactory.generateInfoAlert("Success", "Task created successfully!").showAndWait();
-
-            } else {
-              AlertFactory.generateWarningAlert("Failed to assign task to user").showAndWait();
-            }
-
-          } else {
-            AlertFactory.generateWarningAlert("Failed to create task").showAndWait();
-          }
+          UUID userId = UserSession.getCurrentUserId();
+          FxRequest.whenDone(
+              TiedyApp.getAsyncDataAccessFacade()
+                  .supply(
+                      facade -> {
+                        if (facade.addTask(createdTask) == null) {
+                          return "Failed to create task";
+                        }
+                        if (!facade.assignTaskToUser(createdTask.getId(), userId)) {
+                          return "Failed to assign task to user";
+                        }
+                        return null;
+                      }),
+              failure -> {
+                if (failure == null) {
+                  AlertFactory.generateInfoAlert("Success", "Task created successfully!")
+                      .showAndWait();
+                } else {
+                  AlertFactory.generateWarningAlert(failure).showAndWait();
+                }
+              },
+              MenuBarController::showError);
         });
   }
 
   @FXML
   public void onGroupButtonPress() {
     TiedyApp.getSceneManager().switchScene(SceneName.GROUP);
-    taskFilterMenu.setDisable(true);
   }
 
   /**
@@ -114,7 +135,6 @@ public class MenuBarController {
   @FXML
   public void onProfileButtonPress() {
     TiedyApp.getSceneManager().switchScene(SceneName.PROFILE);
-    taskFilterMenu.setDisable(true);
   }
 
   private void setupFilterListeners() {
@@ -122,43 +142,32 @@ public class MenuBarController {
       return;
     }
 
-    allTaskFilter.setOnAction(
-        unused ->
-            updateTaskViewPaneCallback.accept(
-                TiedyApp.getDataAccessFacade()
-                    .getActiveTasksByUserIdAndWeek(
-                        UserSession.getCurrentUserId(), startOfWeekSupplier.get())));
-
-    openTaskFilter.setOnAction(
-        unused ->
-            updateTaskViewPaneCallback.accept(
-                TiedyApp.getDataAccessFacade()
-                    .getTasksByUserIdAndWeekAndStatus(
-                        UserSession.getCurrentUserId(), startOfWeekSupplier.get(), Status.OPEN)));
-
-    inProgressTaskFilter.setOnAction(
-        unused ->
-            updateTaskViewPaneCallback.accept(
-                TiedyApp.getDataAccessFacade()
-                    .getTasksByUserIdAndWeekAndStatus(
-                        UserSession.getCurrentUserId(),
-                        startOfWeekSupplier.get(),
-                        Status.IN_PROGRESS)));
+    allTaskFilter.setOnAction(unused -> filterTasks(null));
+    openTaskFilter.setOnAction(unused -> filterTasks(Status.OPEN));
+    inProgressTaskFilter.setOnAction(unused -> filterTasks(Status.IN_PROGRESS));
+    closedTaskFilter.setOnAction(unused -> filterTasks(Status.CLOSED));
+    postponedTaskFilter.setOnAction(unused -> filterTasks(Status.POSTPONED));
+  }
 
-    closedTaskFilter.setOnAction(
-        unused ->
-            updateTaskViewPaneCallback.accept(
-                TiedyApp.getDataAccessFacade()
-                    .getTasksByUserIdAndWeekAndStatus(
-                        UserSession.getCurrentUserId(), startOfWeekSupplier.get(), Status.CLOSED)));
+  /**
+   * Loads the tasks of the current user in the week on display in the background and hands them to
+   * the callback. Only the last filter chosen is shown.
+   *
+   * @param status the status of the tasks to show, or null for every active task
+   */
+  private void filterTasks(Status status) {
+    AsyncDataAccessFacade facade = TiedyApp.getAsyncDataAccessFacade();
+    UUID userId = UserSession.getCurrentUserId();
+    LocalDate startOfWeek = startOfWeekSupplier.get();
+    filterRequest.submit(
+        status == null
+            ? facade.getActiveTasksByUserIdAndWeek(userId, startOfWeek)
+            : facade.getTasksByUserIdAndWeekAndStatus(userId, startOfWeek, status),
+        updateTaskViewPaneCallback,
+        MenuBarController::showError);
+  }
 
-    postponedTaskFilter.setOnAction(
-        unused ->
-            updateTaskViewPaneCallback.accept(
-                TiedyApp.getDataAccessFacade()
-                    .getTasksByUserIdAndWeekAndStatus(
-                        UserSession.getCurrentUserId(),
-                        startOfWeekSupplier.get(),
-                        Status.POSTPONED)));
+  private static void showError(Throwable e) {
+    AlertFactory.generateErrorAlert(e.getMessage()).showAndWait();
   }
 }
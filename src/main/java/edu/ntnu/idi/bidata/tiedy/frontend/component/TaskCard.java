@@ -0,0 +1,132 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.component;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import javafx.css.PseudoClass;
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+
+/**
+ * A card showing a single task in the week view of the {@link
+ * edu.ntnu.idi.bidata.tiedy.frontend.controller.MainController}.
+ *
+ * <p>A card is built once and then reused for the same task across refreshes. {@link #update(Task)}
+ * only touches the nodes whose content actually changed. The fonts and colours are shared by every
+ * card, and the buttons are styled through the {@code task-card} classes in style.css, so no inline
+ * styles need to be parsed.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public final class TaskCard extends Pane {
+
+  private static final PseudoClass CLOSED = PseudoClass.getPseudoClass("closed");
+
+  private static final Font TITLE_FONT = Font.font("Arial", FontWeight.BOLD, 12);
+  private static final Font STATUS_FONT = Font.font("Arial", 8);
+  private static final Color TEXT_COLOR = Color.web("fff8dc");
+  private static final Color BACKGROUND_COLOR = Color.web("6495ed");
+  private static final Color CLOSED_BACKGROUND_COLOR = Color.LIGHTGRAY;
+  private static final Map<Status, Color> STATUS_COLORS = new EnumMap<>(Status.class);
+
+  static {
+    for (Status status : Status.values()) {
+      STATUS_COLORS.put(
+          status,
+          switch (status) {
+            case CLOSED -> Color.GREEN;
+            case IN_PROGRESS -> Color.BLUE;
+            case POSTPONED -> Color.ORANGE;
+            default -> Color.BLACK;
+          });
+    }
+  }
+
+  private final Rectangle background = new Rectangle(0, 0, 110, 80);
+  private final Text titleText = new Text(10, 15, "");
+  private final Text statusText = new Text(10, 55, "");
+
+  private Task task;
+  // tracked apart from the task, as the controller may change the status of the task in place
+  private Status shownStatus;
+
+  /**
+   * Creates an empty card. The card shows nothing until {@link #update(Task)} is called.
+   *
+   * @param onEdit called with the task shown when the card is clicked
+   * @param onComplete called with the task shown when the complete button is pressed, unless the
+   *     task is already closed
+   * @param onDelete called with the task shown when the delete button is pressed
+   */
+  public TaskCard(Consumer<Task> onEdit, Consumer<Task> onComplete, Consumer<Task> onDelete) {
+    Objects.requireNonNull(onEdit);
+    Objects.requireNonNull(onComplete);
+    Objects.requireNonNull(onDelete);
+
+    getStyleClass().add("task-card");
+    setPrefSize(110, 80);
+    setPadding(new Insets(15));
+
+    background.setArcWidth(10);
+    background.setArcHeight(10);
+
+    titleText.setFont(TITLE_FONT);
+    titleText.setFill(TEXT_COLOR);
+    titleText.setWrappingWidth(90);
+
+    statusText.setFont(STATUS_FONT);
+    statusText.setWrappingWidth(90);
+
+    Button deleteButton = new Button("X");
+    deleteButton.getStyleClass().addAll("task-card-button", "task-card-delete-button");
+    deleteButton.setLayoutX(40);
+    deleteButton.setLayoutY(20);
+    deleteButton.setOnAction(unused -> onDelete.accept(task));
+
+    Button completeButton = new Button("✓");
+    completeButton.getStyleClass().addAll("task-card-button", "task-card-complete-button");
+    completeButton.setLayoutX(10);
+    completeButton.setLayoutY(20);
+    completeButton.setOnAction(
+        unused -> {
+          if (task.getStatus() != Status.CLOSED) {
+            onComplete.accept(task);
+          }
+        });
+
+    getChildren().addAll(background, titleText, statusText, deleteButton, completeButton);
+    setOnMouseClicked(unused -> onEdit.accept(task));
+  }
+
+  /**
+   * Shows the given task on this card, updating only the parts that differ from the task shown
+   * before.
+   *
+   * @param task the task to show
+   */
+  public void update(Task task) {
+    this.task = Objects.requireNonNull(task);
+
+    if (!task.getTitle().equals(titleText.getText())) {
+      titleText.setText(task.getTitle());
+    }
+    if (task.getStatus() != shownStatus) {
+      shownStatus = task.getStatus();
+      boolean isClosed = task.getStatus() == Status.CLOSED;
+      statusText.setText(task.getStatus().getDisplayName());
+      statusText.setFill(STATUS_COLORS.get(task.getStatus()));
+      background.setFill(isClosed ? CLOSED_BACKGROUND_COLOR : BACKGROUND_COLOR);
+      pseudoClassStateChanged(CLOSED, isClosed);
+    }
+  }
+}
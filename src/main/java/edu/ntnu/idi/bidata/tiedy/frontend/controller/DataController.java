@@ -1,6 +1,8 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.controller;
 
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.DataChangeNotifier;
+import java.util.List;
 
 /**
  * Defines a specialized controller that manages data-related operations in the application.
@@ -8,7 +10,7 @@ import edu.ntnu.idi.bidata.tiedy.frontend.util.DataChangeNotifier;
  * data within their respective contexts.
  *
  * @author Nick Heggø
- * @version 2025.04.11
+ * @version 2025.05.15
  */
 public interface DataController {
 
@@ -22,21 +24,48 @@ public interface DataController {
    */
   void updateData();
 
+  /**
+   * Handles the changes delivered by the {@link DataChangeNotifier}. By default, the controller
+   * runs a full {@link #updateData()} once if any of the events concerns it, as decided by {@link
+   * #isAffectedBy(DataChangeEvent)}. Controllers able to apply a change incrementally can override
+   * this method instead.
+   *
+   * @param events the changes that occurred since the last delivery, never empty
+   */
+  default void onDataChanged(List<DataChangeEvent> events) {
+    if (events.stream().anyMatch(this::isAffectedBy)) {
+      updateData();
+    }
+  }
+
+  /**
+   * Decides whether a change concerns the data shown by this controller. By default, every change
+   * does.
+   *
+   * @param event the change that occurred
+   * @return true if the controller should update itself, false if it can ignore the change
+   */
+  default boolean isAffectedBy(DataChangeEvent event) {
+    return true;
+  }
+
   /**
    * Registers the current instance of {@link DataController} as an observer to receive data update
    * notifications from the {@link DataChangeNotifier} singleton.
    *
    * <p>This method allows the implementing class to subscribe to events triggered by {@link
    * DataChangeNotifier}, enabling it to be notified whenever changes to the underlying data occur.
-   * Once registered, the controller's {@code updateData} method will be invoked when a data update
-   * event is emitted by the notifier.
+   * Once registered, the controller's {@code onDataChanged} method will be invoked when a data
+   * update event is emitted by the notifier.
    *
    * <p>The registration ensures that the controller can dynamically respond to data state changes,
    * which could include refreshing views, updating models, or any other operation dependent on data
    * updates.
    *
    * <p>By default, the controller is added as an observer only if it is not already present in the
-   * notifier's observer list, ensuring no duplicate registrations.
+   * notifier's observer list, ensuring no duplicate registrations. The notifier only holds a weak
+   * reference to the controller, so registering does not keep a controller alive after its scene is
+   * gone.
    *
    * <p>Implementing controllers can call this method as part of their initialization process to
    * ensure proper synchronization with the application's data management infrastructure.
@@ -55,7 +84,7 @@ public interface DataController {
    * is no longer active or relevant.
    *
    * <p>Once unregistered, the {@link DataController} will not receive updates, and its {@code
-   * updateData} method will not be invoked in response to data change notifications from the
+   * onDataChanged} method will not be invoked in response to data change notifications from the
    * notifier.
    *
    * <p>The method internally calls {@code DataChangeNotifier.getInstance().removeObserver(this)} to
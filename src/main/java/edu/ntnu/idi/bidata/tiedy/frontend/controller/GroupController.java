@@ -1,9 +1,16 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.controller;
 
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent;
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent.EntityType;
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.component.CreateGroupTab;
 import edu.ntnu.idi.bidata.tiedy.frontend.component.GroupTab;
 import edu.ntnu.idi.bidata.tiedy.frontend.session.UserSession;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
+import java.util.List;
+import java.util.UUID;
 import javafx.fxml.FXML;
 import javafx.scene.control.TabPane;
 
@@ -16,13 +23,18 @@ import javafx.scene.control.TabPane;
  * ensuring that the UI reflects the current state of user group data retrieved from the
  * application's backend.
  *
+ * <p>A change to the tasks of a group only refreshes the tab of that group, while a change to the
+ * groups of the current user rebuilds every tab.
+ *
  * @author Nick Heggø
- * @version 2025.04.26
+ * @version 2025.05.19
  */
 public class GroupController implements DataController {
 
   @FXML private TabPane groupTabPane;
 
+  private final FxRequest<List<Group>> groupsRequest = new FxRequest<>();
+
   @FXML
   public void initialize() {
     register();
@@ -31,11 +43,37 @@ public class GroupController implements DataController {
 
   @Override
   public void updateData() {
-    groupTabPane.getTabs().clear();
-    TiedyApp.getDataAccessFacade().getGroupsByUserId(UserSession.getCurrentUserId()).stream()
-        .map(GroupTab::new)
-        .forEach(groupTabPane.getTabs()::addAll);
+    groupsRequest.submit(
+        TiedyApp.getAsyncDataAccessFacade().getGroupsByUserId(UserSession.getCurrentUserId()),
+        groups -> {
+          groupTabPane.getTabs().clear();
+          groups.stream().map(GroupTab::new).forEach(groupTabPane.getTabs()::addAll);
 
-    groupTabPane.getTabs().add(new CreateGroupTab());
+          groupTabPane.getTabs().add(new CreateGroupTab());
+        },
+        e -> AlertFactory.generateErrorAlert(e.getMessage()).showAndWait());
+  }
+
+  @Override
+  public void onDataChanged(List<DataChangeEvent> events) {
+    if (!UserSession.isActive()) {
+      return;
+    }
+    UUID userId = UserSession.getCurrentUserId();
+    boolean isGroupChanged =
+        events.stream()
+            .anyMatch(
+                event ->
+                    event.isReload()
+                        || (event.entityType() == EntityType.GROUP && event.affectsUser(userId)));
+    if (isGroupChanged) {
+      updateData();
+      return;
+    }
+    groupTabPane.getTabs().stream()
+        .filter(GroupTab.class::isInstance)
+        .map(GroupTab.class::cast)
+        .filter(tab -> events.stream().anyMatch(event -> event.affectsGroup(tab.getGroupId())))
+        .forEach(GroupTab::updateData);
   }
 }
@@ -1,14 +1,16 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.controller;
 
-import edu.ntnu.idi.bidata.tiedy.backend.DataAccessFacade;
-import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
 import edu.ntnu.idi.bidata.tiedy.backend.util.StringChecker;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.navigation.SceneName;
 import edu.ntnu.idi.bidata.tiedy.frontend.session.UserSession;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.PasswordField;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 
 /**
@@ -21,13 +23,20 @@ import javafx.scene.control.TextField;
  * such as error or success messages. Authentication involves validation of both the username and
  * password fields.
  *
+ * <p>The password is verified in the background while a progress indicator is shown. If the user
+ * asks to be remembered, a signed session token is stored, so the next start of the application
+ * skips this scene.
+ *
  * @author Nick Heggø
- * @version 2025.03.28
+ * @version 2025.05.24
  */
 public class LoginController {
 
   @FXML private TextField usernameField;
   @FXML private PasswordField passwordField;
+  @FXML private CheckBox rememberMeCheckBox;
+  @FXML private Button loginButton;
+  @FXML private ProgressIndicator progressIndicator;
 
   /**
    * Handles the user login process. This method retrieves the username and password inputs,
@@ -62,28 +71,49 @@ public class LoginController {
   }
 
   private void validateCredential(String username, String plainTextPassword) {
-    try {
-      StringChecker.assertStringNotNullOrEmpty(username, "username");
-      StringChecker.assertStringNotNullOrEmpty(plainTextPassword, "password");
+    StringChecker.assertStringNotNullOrEmpty(username, "username");
+    StringChecker.assertStringNotNullOrEmpty(plainTextPassword, "password");
 
-      User foundUser =
-          DataAccessFacade.getInstance()
-              .authenticate(username, plainTextPassword)
-              .orElseThrow(() -> new IllegalStateException("Invalid username or password"));
+    boolean isRemembered = rememberMeCheckBox.isSelected();
+    setBusy(true);
+    // verifying the password hash is slow by design, so it must not block the user interface
+    FxRequest.whenDone(
+        TiedyApp.getAsyncDataAccessFacade()
+            .authenticate(username, plainTextPassword)
+            .thenApply(
+                foundUser -> {
+                  if (foundUser.isPresent() && isRemembered) {
+                    TiedyApp.getSessionTokenStore().save(foundUser.get());
+                  } else if (foundUser.isPresent()) {
+                    TiedyApp.getSessionTokenStore().delete();
+                  }
+                  return foundUser;
+                }),
+        foundUser -> {
+          setBusy(false);
+          if (foundUser.isEmpty()) {
+            AlertFactory.generateErrorAlert("Invalid username or password").showAndWait();
+            return;
+          }
+          UserSession.createSession(foundUser.get());
 
-      UserSession.createSession(foundUser);
+          AlertFactory.generateInfoAlert(
+                  "Login successful", "You are now logged in as %s".formatted(username))
+              .showAndWait();
 
-      AlertFactory.generateInfoAlert(
-              "Login successful", "You are now logged in as %s".formatted(username))
-          .showAndWait();
-
-      TiedyApp.getSceneManager().switchScene(SceneName.MAIN);
+          TiedyApp.getSceneManager().switchScene(SceneName.MAIN);
+          TiedyApp.getSceneManager().preload(SceneName.STATISTIC, SceneName.GROUP);
+        },
+        e -> {
+          setBusy(false);
+          AlertFactory.generateErrorAlert(e.getMessage()).showAndWait();
+        });
+  }
 
-    } catch (IllegalArgumentException e) {
-      AlertFactory.generateWarningAlert(e.getMessage()).showAndWait();
-    } catch (IllegalStateException e) {
-      AlertFactory.generateErrorAlert(e.getMessage()).showAndWait();
-    }
+  /** Shows the progress indicator and blocks further attempts while a login is verified. */
+  private void setBusy(boolean isBusy) {
+    loginButton.setDisable(isBusy);
+    progressIndicator.setVisible(isBusy);
   }
 
   /**
@@ -1,35 +1,34 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.controller;
 
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.component.MenuBarController;
+import edu.ntnu.idi.bidata.tiedy.frontend.component.TaskCard;
 import edu.ntnu.idi.bidata.tiedy.frontend.session.UserSession;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.DialogFactory;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.WeekTaskCache;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 import javafx.fxml.FXML;
-import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Alert;
-import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
-import javafx.scene.text.Text;
 
 /**
  * The MainController class is responsible for handling user interactions and managing the
@@ -37,7 +36,7 @@ import javafx.scene.text.Text;
  * provides methods for initializing the view, navigating to other scenes, and adding tasks.
  *
  * @author Nick Heggø and Odin Arvhage
- * @version 2025.04.25
+ * @version 2025.05.24
  */
 public class MainController implements DataController {
 
@@ -51,7 +50,14 @@ public class MainController implements DataController {
   @FXML private Label endOfWeekLabel;
   @FXML private Label weekNumberLabel;
 
+  private static final int PREFETCHED_WEEKS = 2;
+
+  private final WeekTaskCache weekTaskCache =
+      new WeekTaskCache(
+          TiedyApp.getDataAccessFacade()::getActiveTasksByUserIdAndWeek, PREFETCHED_WEEKS);
+  private final FxRequest<Map<LocalDate, List<Task>>> weekRequest = new FxRequest<>();
   private LocalDate startOfWeek;
+  private Map<UUID, TaskCard> taskCards = new HashMap<>();
 
   /**
    * Initializes the main scene by checking the current user session and updating the view
@@ -98,12 +104,12 @@ public class MainController implements DataController {
 
   /**
    * Is called when the week button in the Main scene is pressed. Sets the date to the current week
-   * and then updates the data.
+   * and then shows it.
    */
   @FXML
   public void onWeekButtonPressed() {
     setStartOfWeek(LocalDate.now());
-    updateData();
+    showWeek();
   }
 
   /**
@@ -136,180 +142,158 @@ public class MainController implements DataController {
     this.startOfWeek = startOfWeek.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
   }
 
-  /** Updates the data of the Main scene. */
+  /**
+   * Updates the data of the Main scene. The weeks cached so far are discarded, as this is called
+   * whenever the tasks of the user changed or the scene is shown again.
+   */
   @Override
   public void updateData() {
-    renderTasksByWeek(
-        TiedyApp.getDataAccessFacade()
-            .getActiveTasksByUserIdAndWeek(UserSession.getCurrentUserId(), startOfWeek));
+    weekTaskCache.invalidate();
+    showWeek();
+  }
+
+  /**
+   * Shows the tasks of the current week, taken from the cache where possible. The weeks around it
+   * are loaded in the background, so navigating to them does not query the repositories. While the
+   * week is loading, the tasks of the previous week stay on display, and a week skipped past before
+   * it finished loading is never rendered.
+   */
+  private void showWeek() {
     updateLabels();
+    weekRequest.submit(
+        weekTaskCache.get(UserSession.getCurrentUserId(), startOfWeek),
+        this::renderTasksByWeek,
+        MainController::showError);
+  }
+
+  @Override
+  public boolean isAffectedBy(DataChangeEvent event) {
+    return UserSession.isActive() && event.affectsUser(UserSession.getCurrentUserId());
   }
 
   /**
-   * Is called when the next button is pressed in the Main scene. Goes a week forward and then
-   * updates all data.
+   * Is called when the next button is pressed in the Main scene. Goes a week forward and then shows
+   * it.
    */
   @FXML
   public void onNextButtonPressed() {
     startOfWeek = startOfWeek.plusDays(7);
-    updateData();
+    showWeek();
   }
 
   /**
    * Is called when the previous button is pressed in the Main scene. Goes a week back and then
-   * updates all data.
+   * shows it.
    */
   @FXML
   public void onPrevButtonPressed() {
     startOfWeek = startOfWeek.minusDays(7);
-    updateData();
+    showWeek();
   }
 
   /**
    * Renders the given map of tasks in the week view.
    *
+   * <p>The cards of tasks that were shown before are reused and only patched where the task
+   * changed, and a day is only laid out again if its cards changed.
+   *
    * @param tasksToBeDisplayed map of the tasks to be rendered.
    */
   public void renderTasksByWeek(Map<LocalDate, List<Task>> tasksToBeDisplayed) {
-    // lookup map for dayOfWeek to its corresponding container
-    var tasksByDayOfWeek = new HashMap<LocalDate, VBox>();
+    Map<UUID, TaskCard> previousCards = taskCards;
+    taskCards = new HashMap<>();
+
     int daysToAdd = 0;
     for (var children : taskContainers.getChildren()) {
       if (children instanceof VBox taskContainer) {
-        tasksByDayOfWeek.put(startOfWeek.plusDays(daysToAdd++), taskContainer);
+        var cards = new ArrayList<Node>();
+        tasksToBeDisplayed.getOrDefault(startOfWeek.plusDays(daysToAdd++), List.of()).stream()
+            .sorted(Comparator.comparing(Task::getPriority))
+            .forEach(
+                task -> {
+                  TaskCard card = previousCards.remove(task.getId());
+                  if (card == null) {
+                    card =
+                        new TaskCard(
+                            this::showEditTaskDialog, this::completeTask, this::confirmDeleteTask);
+                  }
+                  card.update(task);
+                  taskCards.put(task.getId(), card);
+                  cards.add(card);
+                });
+
+        if (!taskContainer.getChildren().equals(cards)) {
+          taskContainer.getChildren().setAll(cards);
+        }
       }
     }
-
-    tasksByDayOfWeek.values().forEach(taskContainer -> taskContainer.getChildren().clear());
-
-    for (var entry : tasksToBeDisplayed.entrySet()) {
-      var taskContainer = tasksByDayOfWeek.get(entry.getKey());
-      var tasks = entry.getValue();
-      tasks.stream()
-          .sorted(Comparator.comparing(Task::getPriority))
-          .map(this::createTaskPane)
-          .forEach(taskContainer.getChildren()::add);
-    }
   }
 
-  /**
-   * Creates a task pane to be displayed in the calendar view.
-   *
-   * @param task to be displayed
-   * @return finished task render
-   */
-  private Pane createTaskPane(Task task) {
-    Pane cardPane = new Pane();
-    cardPane.setPrefSize(110, 80);
-
-    Rectangle taskBg = new Rectangle(0, 0, 110, 80);
-    taskBg.setFill(Color.web("6495ed"));
-    taskBg.setArcWidth(10);
-    taskBg.setArcHeight(10);
-
-    Text rankText = new Text(10, 15, task.getTitle());
-    rankText.setFont(Font.font("Arial", FontWeight.BOLD, 12));
-    rankText.setFill(Color.web("fff8dc"));
-    rankText.setWrappingWidth(90);
-
-    String statusText = task.getStatus().getDisplayName();
-    Text statusIndicator = new Text(10, 55, statusText);
-    statusIndicator.setFont(Font.font("Arial", 8));
-    statusIndicator.setFill(Color.web("fff8dc"));
-    statusIndicator.setWrappingWidth(90);
-
-    switch (task.getStatus()) {
-      case CLOSED -> statusIndicator.setFill(Color.GREEN);
-      case IN_PROGRESS -> statusIndicator.setFill(Color.BLUE);
-      case POSTPONED -> statusIndicator.setFill(Color.ORANGE);
-      default -> statusIndicator.setFill(Color.BLACK);
-    }
-
-    Button deleteButton = new Button("X");
-    deleteButton.setStyle(
-        "-fx-background-color: red; -fx-text-fill: white; -fx-font-weight: bold;");
-    deleteButton.setLayoutX(40);
-    deleteButton.setLayoutY(20);
-    deleteButton.setVisible(false);
-    deleteButton.setOnAction(
-        unused -> {
-          Alert confirmationAlert =
-              AlertFactory.generateConfirmationAlert(
-                  "Delete task", "Are you sure you want to delete this task?");
-
-          if (confirmationAlert.showAndWait().orElse(ButtonType.CANCEL) == ButtonType.OK) {
-            deleteTask(task);
-          }
-        });
+  private void confirmDeleteTask(Task task) {
+    Alert confirmationAlert =
+        AlertFactory.generateConfirmationAlert(
+            "Delete task", "Are you sure you want to delete this task?");
 
-    Button completeButton = new Button("✓");
-    completeButton.setStyle(
-        "-fx-background-color: limegreen; -fx-text-fill: white; -fx-font-weight: bold;");
-    completeButton.setLayoutX(10);
-    completeButton.setLayoutY(20);
-    completeButton.setVisible(false);
-
-    if (task.getStatus() != Status.CLOSED) {
-      completeButton.setOnAction(unused -> completeTask(task));
-    } else {
-      taskBg.setFill(Color.LIGHTGRAY);
-      completeButton.setStyle(
-          "-fx-background-color: darkgrey; -fx-text-fill: white; -fx-font-weight: bold;");
+    if (confirmationAlert.showAndWait().orElse(ButtonType.CANCEL) == ButtonType.OK) {
+      deleteTask(task);
     }
-
-    // Show/hide buttons on hover
-    cardPane.setOnMouseEntered(
-        unused -> {
-          deleteButton.setVisible(true);
-          if (task.getStatus() != Status.CLOSED) {
-            completeButton.setVisible(true);
-          }
-        });
-
-    cardPane.setOnMouseExited(
-        unused -> {
-          deleteButton.setVisible(false);
-          completeButton.setVisible(false);
-        });
-
-    cardPane.getChildren().addAll(taskBg, rankText, statusIndicator, deleteButton, completeButton);
-    cardPane.setOnMouseClicked(unused -> showEditTaskDialog(task));
-    cardPane.setPadding(new Insets(15));
-    return cardPane;
   }
 
   private void completeTask(Task task) {
     Status status = task.getStatus();
     task.setStatus(Status.CLOSED);
 
-    // if the task is successfully updated
-    if (TiedyApp.getDataAccessFacade().updateTask(task) != null) {
-      AlertFactory.generateInfoAlert(
-              "Task Completed", "Task '" + task.getTitle() + "' has been marked as closed.")
-          .showAndWait();
-      if (UserSession.completeTask()) {
-        AlertFactory.generateInfoAlert(
-                "Level UP!",
-                "Congratulations! You have leveled up. Your current level is now "
-                    + UserSession.getCurrentLevel()
-                    + ".")
-            .showAndWait();
-      }
-    } else {
-      AlertFactory.generateWarningAlert("Failed to mark task as closed").showAndWait();
-      task.setStatus(status);
-      TiedyApp.getDataAccessFacade().updateTask(task);
-    }
+    FxRequest.whenDone(
+        TiedyApp.getAsyncDataAccessFacade().updateTask(task),
+        updatedTask -> {
+          // if the task is successfully updated
+          if (updatedTask != null) {
+            AlertFactory.generateInfoAlert(
+                    "Task Completed", "Task '" + task.getTitle() + "' has been marked as closed.")
+                .showAndWait();
+            boolean isLevelUp = UserSession.completeTask();
+            saveProgress();
+            if (isLevelUp) {
+              AlertFactory.generateInfoAlert(
+                      "Level UP!",
+                      "Congratulations! You have leveled up. Your current level is now "
+                          + UserSession.getCurrentLevel()
+                          + ".")
+                  .showAndWait();
+            }
+          } else {
+            AlertFactory.generateWarningAlert("Failed to mark task as closed").showAndWait();
+            task.setStatus(status);
+            TiedyApp.getAsyncDataAccessFacade().updateTask(task);
+          }
+        },
+        MainController::showError);
+  }
 
-    TiedyApp.getDataChangeNotifier().notifyObservers();
+  private static void saveProgress() {
+    FxRequest.whenDone(
+        TiedyApp.getAsyncDataAccessFacade().updateUser(UserSession.copyCurrentUser()),
+        savedUser -> {
+          if (savedUser == null) {
+            AlertFactory.generateWarningAlert("Failed to save your experience").showAndWait();
+          }
+        },
+        MainController::showError);
   }
 
   private void deleteTask(Task task) {
-    if (TiedyApp.getDataAccessFacade().removeTask(task.getId())) {
-      TiedyApp.getDataChangeNotifier().notifyObservers();
-    } else {
-      AlertFactory.generateWarningAlert("Failed to delete task").showAndWait();
-    }
+    FxRequest.whenDone(
+        TiedyApp.getAsyncDataAccessFacade().removeTask(task.getId()),
+        isRemoved -> {
+          if (!isRemoved) {
+            AlertFactory.generateWarningAlert("Failed to delete task").showAndWait();
+          }
+        },
+        MainController::showError);
+  }
+
+  private static void showError(Throwable e) {
+    AlertFactory.generateErrorAlert(e.getMessage()).showAndWait();
   }
 
   /**
@@ -321,11 +305,14 @@ public class MainController implements DataController {
     DialogFactory.launchEditTaskDialog(
         taskToEdit,
         updatedTask -> {
-          if (TiedyApp.getDataAccessFacade().updateTask(updatedTask) != null) {
-            TiedyApp.getDataChangeNotifier().notifyObservers();
-          } else {
-            AlertFactory.generateWarningAlert("Failed to update task").showAndWait();
-          }
+          FxRequest.whenDone(
+              TiedyApp.getAsyncDataAccessFacade().updateTask(updatedTask),
+              result -> {
+                if (result == null) {
+                  AlertFactory.generateWarningAlert("Failed to update task").showAndWait();
+                }
+              },
+              MainController::showError);
         });
   }
 
@@ -1,5 +1,6 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.controller;
 
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.navigation.SceneName;
 import edu.ntnu.idi.bidata.tiedy.frontend.session.UserSession;
@@ -12,7 +13,7 @@ import javafx.scene.control.ProgressBar;
  * about the current profile.
  *
  * @author Odin Arvhage and Nick Heggø
- * @version 2025.04.09
+ * @version 2025.05.20
  */
 public class ProfileController implements DataController {
 
@@ -41,6 +42,11 @@ public class ProfileController implements DataController {
     updateExpBar();
   }
 
+  @Override
+  public boolean isAffectedBy(DataChangeEvent event) {
+    return UserSession.isActive() && event.affectsUser(UserSession.getCurrentUserId());
+  }
+
   /**
    * onBackButtonPress activates when the back button is pressed in the PROFILE scene. It switches
    * the scene to the MAIN scene.
@@ -80,11 +86,14 @@ public class ProfileController implements DataController {
 
   /**
    * The onLogoutButtonPress method is called when the Logout button is pressed in the PROFILE
-   * scene. It ends the current session of the user and then switches the scene to the MAIN scene.
+   * scene. It ends the current session of the user, forgets the user on this device, discards the
+   * scenes cached for the user and then switches the scene to the LOGIN scene.
    */
   @FXML
   public void onLogoutButtonPress() {
     UserSession.destroySession();
+    TiedyApp.getSessionTokenStore().delete();
+    TiedyApp.getSceneManager().clearCache();
     TiedyApp.getSceneManager().switchScene(SceneName.LOGIN);
   }
 }
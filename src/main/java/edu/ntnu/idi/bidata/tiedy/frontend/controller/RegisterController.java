@@ -1,12 +1,14 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.controller;
 
-import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
 import edu.ntnu.idi.bidata.tiedy.backend.util.StringChecker;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.navigation.SceneName;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
@@ -16,7 +18,7 @@ import javafx.scene.layout.VBox;
  * This class manages the user input fields and performs validation during the registration process.
  *
  * @author Nick Heggø
- * @version 2025.03.28
+ * @version 2025.05.20
  */
 public class RegisterController {
 
@@ -25,6 +27,8 @@ public class RegisterController {
   @FXML private TextField usernameField;
   @FXML private PasswordField passwordField;
   @FXML private PasswordField passwordRepeatField;
+  @FXML private Button registerButton;
+  @FXML private ProgressIndicator progressIndicator;
 
   @FXML
   private void initialize() {
@@ -53,23 +57,37 @@ public class RegisterController {
         throw new IllegalArgumentException("Passwords do not match");
       }
 
-      User registeredUser =
-          TiedyApp.getDataAccessFacade().registerUser(new User(username, password));
+      setBusy(true);
+      // the password is hashed when the user is created, which is slow by design
+      FxRequest.whenDone(
+          TiedyApp.getAsyncDataAccessFacade().registerUser(username, password),
+          registeredUser -> {
+            setBusy(false);
+            if (registeredUser == null) {
+              AlertFactory.generateWarningAlert("Username already taken").showAndWait();
+              return;
+            }
+            AlertFactory.generateInfoAlert("Registration successful", "Registration successful")
+                .showAndWait();
 
-      if (registeredUser == null) {
-        throw new IllegalArgumentException("Username already taken");
-      }
-
-      AlertFactory.generateInfoAlert("Registration successful", "Registration successful")
-          .showAndWait();
-
-      backToLogin();
+            backToLogin();
+          },
+          e -> {
+            setBusy(false);
+            AlertFactory.generateWarningAlert(e.getMessage()).showAndWait();
+          });
 
     } catch (IllegalArgumentException e) {
       AlertFactory.generateWarningAlert(e.getMessage()).showAndWait();
     }
   }
 
+  /** Shows the progress indicator and blocks further attempts while the password is hashed. */
+  private void setBusy(boolean isBusy) {
+    registerButton.setDisable(isBusy);
+    progressIndicator.setVisible(isBusy);
+  }
+
   /**
    * Navigates the user back to the login scene.
    *
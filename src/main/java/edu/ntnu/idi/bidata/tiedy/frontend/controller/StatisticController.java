@@ -1,11 +1,15 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.controller;
 
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
 import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
 import edu.ntnu.idi.bidata.tiedy.frontend.TiedyApp;
 import edu.ntnu.idi.bidata.tiedy.frontend.session.UserSession;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.AlertFactory;
 import edu.ntnu.idi.bidata.tiedy.frontend.util.DataChangeNotifier;
-import java.util.Arrays;
+import edu.ntnu.idi.bidata.tiedy.frontend.util.FxRequest;
+import java.util.Map;
+import java.util.UUID;
 import javafx.fxml.FXML;
 import javafx.scene.chart.PieChart;
 
@@ -14,13 +18,18 @@ import javafx.scene.chart.PieChart;
  * fetches the data and updates the graph to make it dynamic.
  *
  * @author Nick Heggø
- * @version 2025.04.12
+ * @version 2025.05.19
  */
 public class StatisticController implements DataController {
 
   @FXML private PieChart pieChartLeft;
   @FXML private PieChart pieChartRight;
 
+  private final FxRequest<TaskCounts> countsRequest = new FxRequest<>();
+
+  /** Both counts are loaded together, so the charts are always updated at the same time. */
+  private record TaskCounts(Map<Priority, Integer> byPriority, Map<Status, Integer> byStatus) {}
+
   /**
    * Initializes the {@link StatisticController} by registering it as an observer for data updates
    * and refreshing the UI components with the latest data.
@@ -45,24 +54,35 @@ public class StatisticController implements DataController {
 
   @Override
   public void updateData() {
-    updatePieChartLeft();
-    updatePieChartRight();
+    UUID userId = UserSession.getCurrentUserId();
+    countsRequest.submit(
+        TiedyApp.getAsyncDataAccessFacade()
+            .supply(
+                facade ->
+                    new TaskCounts(
+                        facade.countActiveTasksByPriority(userId),
+                        facade.countActiveTasksByStatus(userId))),
+        counts -> {
+          updatePieChartLeft(counts.byPriority());
+          updatePieChartRight(counts.byStatus());
+        },
+        e -> AlertFactory.generateErrorAlert(e.getMessage()).showAndWait());
+  }
+
+  @Override
+  public boolean isAffectedBy(DataChangeEvent event) {
+    return UserSession.isActive() && event.affectsUser(UserSession.getCurrentUserId());
   }
 
-  private void updatePieChartRight() {
+  private void updatePieChartRight(Map<Status, Integer> countsByStatus) {
     pieChartRight.getData().clear();
 
-    Arrays.stream(Status.values())
-        .forEach(
-            status -> {
-              int count =
-                  TiedyApp.getDataAccessFacade()
-                      .getActiveTasksByUserIdAndStatus(UserSession.getCurrentUserId(), status)
-                      .size();
-              if (count > 0) {
-                pieChartRight.getData().add(new PieChart.Data(status.toString(), count));
-              }
-            });
+    countsByStatus.forEach(
+        (status, count) -> {
+          if (count > 0) {
+            pieChartRight.getData().add(new PieChart.Data(status.toString(), count));
+          }
+        });
 
     String[] statusColors = {
       "#4682B4", "#FF6347", "#32CD32", "#FFD700"
@@ -70,20 +90,15 @@ public class StatisticController implements DataController {
     applyColorsToChart(pieChartRight, statusColors);
   }
 
-  private void updatePieChartLeft() {
+  private void updatePieChartLeft(Map<Priority, Integer> countsByPriority) {
     pieChartLeft.getData().clear();
 
-    Arrays.stream(Priority.values())
-        .forEach(
-            priority -> {
-              int count =
-                  TiedyApp.getDataAccessFacade()
-                      .getActiveTasksByUserIdAndPriority(UserSession.getCurrentUserId(), priority)
-                      .size();
-              if (count > 0) {
-                pieChartLeft.getData().add(new PieChart.Data(priority.toString(), count));
-              }
-            });
+    countsByPriority.forEach(
+        (priority, count) -> {
+          if (count > 0) {
+            pieChartLeft.getData().add(new PieChart.Data(priority.toString(), count));
+          }
+        });
 
     // Colors for priority pie chart
     String[] priorityColors = {"#FF0000", "#FFA500", "#32CD32"}; // Red, Orange, Green
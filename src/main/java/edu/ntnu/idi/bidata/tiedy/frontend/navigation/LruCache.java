@@ -0,0 +1,40 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.navigation;
+
+import java.io.Serial;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map holding at most a fixed number of entries, evicting the least recently accessed entry when
+ * a new one would exceed the capacity. Both {@code get} and {@code put} count as an access.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  private final int capacity;
+
+  /**
+   * Constructs an empty cache.
+   *
+   * @param capacity the maximum number of entries; must be positive
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  LruCache(int capacity) {
+    super(capacity, 0.75f, true);
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+    this.capacity = capacity;
+  }
+
+  @Override
+  protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+    return size() > capacity;
+  }
+}
@@ -1,7 +1,11 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.navigation;
 
+import edu.ntnu.idi.bidata.tiedy.frontend.controller.DataController;
 import java.io.IOException;
+import java.util.Map;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
@@ -12,16 +16,51 @@ import javafx.stage.Stage;
  * <p>This class is typically used as a singleton, allowing centralized control of scene
  * transitions.
  *
+ * <p>Loading an FXML file is by far the most expensive part of switching scenes, so the views of
+ * {@linkplain SceneName#isCacheable() cacheable} scenes are kept and shown again on the next
+ * switch. By default, at most {@value #MAX_CACHED_SCENES} views are cached, one for each cacheable
+ * scene. A smaller capacity may be given, in which case the least recently shown view is evicted
+ * first. As the cached views belong to the logged-in user, the cache must be cleared on logout.
+ *
+ * <p>The controller of the scene on display is kept alive by this class, as the {@link
+ * edu.ntnu.idi.bidata.tiedy.frontend.util.DataChangeNotifier} only references it weakly. A hidden
+ * view does not receive data updates. Instead, its controller is registered and updated again once
+ * the view is shown.
+ *
  * @author Nick Heggø
- * @version 2025.04.07
+ * @version 2025.05.24
  */
 public class SceneManager {
 
+  private static final int MAX_CACHED_SCENES = 4;
+
   private static SceneManager instance;
 
   private Stage primaryStage;
+  private View currentView;
+  private final int maxCachedScenes;
+  private final Map<SceneName, View> cache;
+  // incremented whenever the cache is cleared, so preloading for a former session is skipped
+  private int cacheGeneration;
+
+  /** A loaded FXML file along with its controller. */
+  private record View(Parent root, Object controller) {}
 
-  private SceneManager() {}
+  private SceneManager() {
+    this(MAX_CACHED_SCENES);
+  }
+
+  /**
+   * Creates a scene manager caching at most the given number of views, e.g. fewer than there are
+   * cacheable scenes to test eviction. Only the singleton should be used outside of tests.
+   *
+   * @param maxCachedScenes the maximum number of cached views; must be positive
+   * @throws IllegalArgumentException if the maximum is not positive
+   */
+  SceneManager(int maxCachedScenes) {
+    this.maxCachedScenes = maxCachedScenes;
+    this.cache = new LruCache<>(maxCachedScenes);
+  }
 
   /**
    * Retrieves the singleton instance of the SceneManager. This method ensures that only a single
@@ -44,10 +83,10 @@ public class SceneManager {
   /**
    * Switches the current scene of the JavaFX application to the specified scene.
    *
-   * <p>This method updates the primary stage with a new scene based on the provided {@code
-   * SceneName}. It loads the FXML file associated with the specified scene and applies it to the
-   * primary stage. If the FXML file cannot be located or loaded, an {@code IllegalStateException}
-   * is thrown.
+   * <p>This method shows the view of the provided {@code SceneName} in the primary stage. A cached
+   * view is shown right away and its data is updated, otherwise the FXML file associated with the
+   * specified scene is loaded. If the FXML file cannot be located or loaded, an {@code
+   * IllegalStateException} is thrown.
    *
    * @param sceneName the {@link SceneName} representing the scene to switch to and providing the
    *     path to the associated FXML file
@@ -55,16 +94,81 @@ public class SceneManager {
    *     located
    */
   public void switchScene(SceneName sceneName) {
-    try {
-      Scene oldScene = primaryStage.getScene();
-      double width = (oldScene != null) ? oldScene.getWidth() : primaryStage.getWidth();
-      double height = (oldScene != null) ? oldScene.getHeight() : primaryStage.getHeight();
-      FXMLLoader loader = new FXMLLoader(sceneName.getSceneURL());
+    View view = sceneName.isCacheable() ? cache.get(sceneName) : null;
+    boolean isCached = view != null;
+    if (!isCached) {
+      view = load(sceneName);
+      if (sceneName.isCacheable()) {
+        cache.put(sceneName, view);
+      }
+    }
+
+    Scene scene = primaryStage.getScene();
+    if (scene == null) {
+      primaryStage.setScene(
+          new Scene(view.root(), primaryStage.getWidth(), primaryStage.getHeight()));
+    } else {
+      scene.setRoot(view.root());
+    }
+    primaryStage.show();
 
-      Scene newScene = new Scene(loader.load(), width, height);
+    if (currentView != null
+        && currentView != view
+        && currentView.controller() instanceof DataController dataController) {
+      dataController.unregister();
+    }
+    if (isCached && view.controller() instanceof DataController dataController) {
+      dataController.register();
+      dataController.updateData();
+    }
+    currentView = view;
+  }
 
-      primaryStage.setScene(newScene);
-      primaryStage.show();
+  /**
+   * Loads the views of the given scenes in the background, one at a time on the JavaFX application
+   * thread, so switching to them later is instant. Scenes that are not cacheable or already cached
+   * are skipped, and so are the scenes that no longer fit in the cache, as preloading a view must
+   * not evict one that has been shown.
+   *
+   * @param sceneNames the scenes to load
+   */
+  public void preload(SceneName... sceneNames) {
+    int generation = cacheGeneration;
+    for (SceneName sceneName : sceneNames) {
+      if (!sceneName.isCacheable()) {
+        continue;
+      }
+      Platform.runLater(
+          () -> {
+            if (generation != cacheGeneration
+                || cache.containsKey(sceneName)
+                || cache.size() >= maxCachedScenes) {
+              return;
+            }
+            View view = load(sceneName);
+            // the view is hidden until switched to
+            if (view.controller() instanceof DataController dataController) {
+              dataController.unregister();
+            }
+            cache.put(sceneName, view);
+          });
+    }
+  }
+
+  /**
+   * Discards every cached view, e.g. when the user logs out. The view on display stays until the
+   * next switch, and any preloading still pending is cancelled.
+   */
+  public void clearCache() {
+    cache.clear();
+    cacheGeneration++;
+  }
+
+  private static View load(SceneName sceneName) {
+    try {
+      FXMLLoader loader = new FXMLLoader(sceneName.getSceneURL());
+      Parent root = loader.load();
+      return new View(root, loader.getController());
     } catch (IOException e) {
       throw new IllegalStateException("Cannot load FXML file: " + sceneName.getSceneURL(), e);
     }
@@ -1,8 +1,6 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.navigation;
 
-import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.file.Path;
 
 /**
  * The Scene enum represents different scenes in the application. Each instance of the enum
@@ -10,33 +8,38 @@ import java.nio.file.Path;
  * provides the path to the FXML file as a URL for loading the scene in a JavaFX application.
  *
  * <p>Each scene is linked with a file name that determines the FXML file's location within the
- * resources folder. The file paths are formatted and resolved to URLs during initialization.
+ * resources folder. The files are resolved on the classpath during initialization, so they are
+ * found both when running from the sources and from a packaged jar.
+ *
+ * <p>Scenes shown after logging in depend only on the current session and are cached by the
+ * SceneManager, while the LOGIN and REGISTER scenes are loaded from scratch every time, so their
+ * forms start out empty.
  *
  * <p>This enum is typically used in conjunction with a SceneManager class to switch between
  * different stages or views of the application.
  *
  * @author Nick Heggø
- * @version 2025.04.07
+ * @version 2025.05.16
  */
 public enum SceneName {
-  GROUP("GroupView"),
-  LOGIN("LoginView"),
-  MAIN("MainView"),
-  PROFILE("ProfileView"),
-  REGISTER("RegisterView"),
-  STATISTIC("StatisticView");
+  GROUP("GroupView", true),
+  LOGIN("LoginView", false),
+  MAIN("MainView", true),
+  PROFILE("ProfileView", true),
+  REGISTER("RegisterView", false),
+  STATISTIC("StatisticView", true);
 
-  private static final String FXML_PATH =
-      "src/main/resources/edu/ntnu/idi/bidata/tiedy/fxml/view/%s.fxml";
+  private static final String FXML_PATH = "/edu/ntnu/idi/bidata/tiedy/fxml/view/%s.fxml";
 
   private final URL path;
+  private final boolean isCacheable;
 
-  SceneName(String fileName) {
-    try {
-      this.path = Path.of(FXML_PATH.formatted(fileName)).toUri().toURL();
-    } catch (MalformedURLException e) {
-      throw new IllegalStateException("Invalid FXML path: " + FXML_PATH.formatted(fileName), e);
+  SceneName(String fileName, boolean isCacheable) {
+    this.path = SceneName.class.getResource(FXML_PATH.formatted(fileName));
+    if (path == null) {
+      throw new IllegalStateException("Cannot find FXML file: " + FXML_PATH.formatted(fileName));
     }
+    this.isCacheable = isCacheable;
   }
 
   /**
@@ -47,4 +50,14 @@ public enum SceneName {
   public URL getSceneURL() {
     return path;
   }
+
+  /**
+   * Checks whether the loaded scene may be kept and shown again, instead of being loaded anew every
+   * time it is switched to.
+   *
+   * @return true if the scene may be cached, false otherwise
+   */
+  public boolean isCacheable() {
+    return isCacheable;
+  }
 }
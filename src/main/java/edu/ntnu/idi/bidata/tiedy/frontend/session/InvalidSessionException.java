@@ -1,5 +1,7 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.session;
 
+import java.io.Serial;
+
 /**
  * The InvalidSessionException is a custom runtime exception that indicates the absence of an active
  * user session. It is typically thrown in scenarios where session-dependent operations are
@@ -11,9 +13,12 @@ package edu.ntnu.idi.bidata.tiedy.frontend.session;
  * creation is required before performing the operation.
  *
  * @author Nick Heggø
- * @version 2025.04.13
+ * @version 2025.05.24
  */
 public class InvalidSessionException extends RuntimeException {
+
+  @Serial private static final long serialVersionUID = 1L;
+
   /**
    * Constructs a new InvalidSessionException with a default error message.
    *
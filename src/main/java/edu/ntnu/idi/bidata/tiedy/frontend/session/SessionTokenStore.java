@@ -0,0 +1,168 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.session;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Remembers the logged-in user on this device, so a restart of the application can resume the
+ * session without asking for the password again.
+ *
+ * <p>The token holds the id of the user and an expiry time, signed with HMAC-SHA256. The hashed
+ * password of the user is signed along with them, without being written to the token, so changing
+ * the password invalidates every token issued before. The signing key is generated on first use and
+ * kept apart from the token, in {@code .tiedy} in the home directory of the user, so copying the
+ * data of the application does not copy the key along. The key file and its directory are created
+ * readable by the owner only where the file system supports POSIX permissions. The signature stops
+ * the token from being edited into a token of another user, but anyone able to read the key file
+ * can sign tokens of their own, which is why remembering a user is opt-in.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class SessionTokenStore {
+
+  private static final String TOKEN_DIRECTORY = "data/session";
+  private static final String KEY_DIRECTORY = ".tiedy";
+  private static final String ALGORITHM = "HmacSHA256";
+  private static final int KEY_LENGTH = 32;
+  private static final Duration LIFETIME = Duration.ofDays(30);
+  private static final Set<PosixFilePermission> OWNER_ONLY_FILE =
+      PosixFilePermissions.fromString("rw-------");
+  private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY =
+      PosixFilePermissions.fromString("rwx------");
+
+  private static final Logger LOGGER = Logger.getLogger(SessionTokenStore.class.getName());
+
+  private final Path tokenFile;
+  private final Path keyFile;
+  private final Clock clock;
+
+  /**
+   * Creates a store keeping the token with the data of the application and the key in the home
+   * directory of the user.
+   */
+  public SessionTokenStore() {
+    this(
+        Path.of(TOKEN_DIRECTORY),
+        Path.of(System.getProperty("user.home"), KEY_DIRECTORY),
+        Clock.systemUTC());
+  }
+
+  SessionTokenStore(Path tokenDirectory, Path keyDirectory, Clock clock) {
+    this.tokenFile = tokenDirectory.resolve("session.token");
+    this.keyFile = keyDirectory.resolve("session.key");
+    this.clock = clock;
+  }
+
+  /**
+   * Remembers the given user until the token expires, the password of the user changes or the token
+   * is {@linkplain #delete() deleted}. If the token cannot be written, the user is simply not
+   * remembered.
+   *
+   * @param user the user to remember
+   */
+  public void save(User user) {
+    String payload = user.getId() + ":" + clock.instant().plus(LIFETIME).getEpochSecond();
+    try {
+      byte[] key = loadOrCreateKey();
+      Files.createDirectories(tokenFile.getParent());
+      Files.writeString(tokenFile, payload + ":" + sign(key, payload, user));
+    } catch (IOException | GeneralSecurityException e) {
+      LOGGER.warning(() -> "Cannot save session token: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Retrieves the remembered user, provided the token is intact, has not expired and the password
+   * of the user has not changed since it was issued. A token that is not is deleted.
+   *
+   * @param userLookup finds the current state of the user with the given id
+   * @return the remembered user, or an empty {@code Optional} if there is none
+   */
+  public Optional<User> load(Function<UUID, Optional<User>> userLookup) {
+    if (!Files.exists(tokenFile) || !Files.exists(keyFile)) {
+      return Optional.empty();
+    }
+    try {
+      String[] parts = Files.readString(tokenFile).strip().split(":");
+      if (parts.length == 3) {
+        String payload = parts[0] + ":" + parts[1];
+        Optional<User> user = userLookup.apply(UUID.fromString(parts[0]));
+        boolean isExpired =
+            clock.instant().isAfter(Instant.ofEpochSecond(Long.parseLong(parts[1])));
+        if (user.isPresent() && !isExpired) {
+          byte[] expected =
+              sign(Files.readAllBytes(keyFile), payload, user.get())
+                  .getBytes(StandardCharsets.UTF_8);
+          if (MessageDigest.isEqual(expected, parts[2].getBytes(StandardCharsets.UTF_8))) {
+            return user;
+          }
+        }
+      }
+    } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+      LOGGER.warning(() -> "Cannot read session token: " + e.getMessage());
+    }
+    delete();
+    return Optional.empty();
+  }
+
+  /** Forgets the remembered user, e.g. when logging out. */
+  public void delete() {
+    try {
+      Files.deleteIfExists(tokenFile);
+    } catch (IOException e) {
+      LOGGER.warning(() -> "Cannot delete session token: " + e.getMessage());
+    }
+  }
+
+  private byte[] loadOrCreateKey() throws IOException {
+    if (Files.exists(keyFile)) {
+      return Files.readAllBytes(keyFile);
+    }
+    byte[] key = new byte[KEY_LENGTH];
+    new SecureRandom().nextBytes(key);
+    // the key is never readable by others, not even between being created and being restricted
+    if (keyFile.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+      Files.createDirectories(
+          keyFile.getParent(), PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+      Files.createFile(keyFile, PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE));
+    } else {
+      Files.createDirectories(keyFile.getParent());
+      Files.createFile(keyFile);
+      keyFile.toFile().setReadable(false, false);
+      keyFile.toFile().setReadable(true, true);
+    }
+    Files.write(keyFile, key);
+    return key;
+  }
+
+  private static String sign(byte[] key, String payload, User user)
+      throws GeneralSecurityException {
+    Mac mac = Mac.getInstance(ALGORITHM);
+    mac.init(new SecretKeySpec(key, ALGORITHM));
+    mac.update(payload.getBytes(StandardCharsets.UTF_8));
+    // the users of a server have no hashed password on the client
+    mac.update(Objects.toString(user.getHashedPassword(), "").getBytes(StandardCharsets.UTF_8));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal());
+  }
+}
@@ -11,7 +11,7 @@ import java.util.UUID;
  * session and the associated user.
  *
  * @author Nick Heggø
- * @version 2025.04.09
+ * @version 2025.05.24
  */
 public class UserSession {
 
@@ -43,6 +43,15 @@ public class UserSession {
     instance.setCurrentUser(null);
   }
 
+  /**
+   * Checks whether a user is currently logged in.
+   *
+   * @return true if a session is active, false otherwise
+   */
+  public static boolean isActive() {
+    return instance.getCurrentUser().isPresent();
+  }
+
   /**
    * Retrieves the unique identifier (UUID) of the currently logged-in user.
    *
@@ -75,11 +84,27 @@ public class UserSession {
    * Completion of the task may also trigger level progression for the user, depending on their
    * current experience and level system settings.
    *
+   * <p>The progress is only kept in the session; save {@link #copyCurrentUser()} to keep it.
+   *
    * @return {@code true} if the task completion resulted in leveling up, {@code false} otherwise
    * @throws InvalidSessionException if no active session exists or no user is currently logged in
    */
   public static boolean completeTask() {
-    return instance.getCurrentUser().orElseThrow(InvalidSessionException::new).completeTask();
+    User user = copyCurrentUser();
+    boolean isLevelUp = user.completeTask();
+    instance.setCurrentUser(user);
+    return isLevelUp;
+  }
+
+  /**
+   * Returns a copy of the user associated with the active session, e.g. to save the progress made
+   * by {@link #completeTask()}.
+   *
+   * @return a copy of the currently logged-in user
+   * @throws InvalidSessionException if no active session exists or no user is logged in
+   */
+  public static User copyCurrentUser() {
+    return new User(instance.getCurrentUser().orElseThrow(InvalidSessionException::new));
   }
 
   /**
@@ -1,8 +1,13 @@
 package edu.ntnu.idi.bidata.tiedy.frontend.util;
 
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent;
 import edu.ntnu.idi.bidata.tiedy.frontend.controller.DataController;
-import java.util.ArrayList;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javafx.application.Platform;
 
 /**
  * A singleton class responsible for managing and notifying registered observers about data updates.
@@ -10,12 +15,24 @@ import java.util.List;
  * <p>This class implements the Observer design pattern, allowing registered observers (instances of
  * {@link DataController}) to be notified when a data update event occurs.
  *
+ * <p>Every notification carries a {@link DataChangeEvent}, so observers can ignore changes that do
+ * not concern them. Notifications are not delivered right away, but collected and delivered
+ * together on the next pass of the JavaFX application thread. Identical events raised in the same
+ * pass, e.g. by the facade and again by a controller, are therefore delivered once, and a reload
+ * supersedes every other event in the same pass.
+ *
+ * <p>Observers are only weakly referenced, so a controller whose scene has been replaced can be
+ * garbage collected even if it was never unregistered. The registry is safe to use from any thread,
+ * and {@link #getObserverCount()} reports how many observers are still alive.
+ *
  * @author Nick Heggø
- * @version 2025.04.12
+ * @version 2025.05.15
  */
 public class DataChangeNotifier {
   private static DataChangeNotifier instance;
-  private final List<DataController> observers = new ArrayList<>();
+  private final List<WeakReference<DataController>> observers = new CopyOnWriteArrayList<>();
+  private final Set<DataChangeEvent> pendingEvents = new LinkedHashSet<>();
+  private boolean isDeliveryScheduled;
 
   private DataChangeNotifier() {}
 
@@ -39,11 +56,14 @@ public class DataChangeNotifier {
    * Adds a {@link DataController} observer to the list of observers if it is not already present.
    * The system will notify observers registered with this method of data updates.
    *
+   * <p>The observer is weakly referenced, so registering it does not keep it alive.
+   *
    * @param observer the {@link DataController} instance to be added as an observer
    */
-  public void addObserver(DataController observer) {
-    if (!observers.contains(observer)) {
-      observers.add(observer);
+  public synchronized void addObserver(DataController observer) {
+    expungeStaleObservers();
+    if (observers.stream().noneMatch(reference -> reference.get() == observer)) {
+      observers.add(new WeakReference<>(observer));
     }
   }
 
@@ -54,24 +74,95 @@ public class DataChangeNotifier {
    *
    * @param observer the {@link DataController} instance to be removed as an observer
    */
-  public void removeObserver(DataController observer) {
-    observers.remove(observer);
+  public synchronized void removeObserver(DataController observer) {
+    for (WeakReference<DataController> reference : observers) {
+      if (reference.get() == observer) {
+        // cleared as well, so a delivery already iterating over it skips the observer
+        reference.clear();
+        observers.remove(reference);
+      }
+    }
+    expungeStaleObservers();
   }
 
   /**
-   * Notifies all registered observers about a data update event.
+   * Returns the number of registered observers that have not been garbage collected yet. A count
+   * that keeps growing while navigating between scenes points to controllers that are kept alive by
+   * something else.
    *
-   * <p>This method iterates over the list of registered {@link DataController} observers and
-   * invokes their {@code updateData} method. It ensures that each observer is informed of changes
-   * to the underlying data and can handle the update accordingly.
+   * @return the number of live observers
+   */
+  public synchronized int getObserverCount() {
+    expungeStaleObservers();
+    return observers.size();
+  }
+
+  private void expungeStaleObservers() {
+    observers.removeIf(reference -> reference.get() == null);
+  }
+
+  /**
+   * Notifies all registered observers that anything may have changed. Prefer {@link
+   * #notifyObservers(DataChangeEvent)} where the change is known, so observers can skip it.
+   */
+  public void notifyObservers() {
+    notifyObservers(DataChangeEvent.reload());
+  }
+
+  /**
+   * Notifies all registered observers about a data update event.
    *
-   * <p>Observers must be instances of {@link DataController}, and they are expected to implement
-   * the {@code updateData} method to define specific behavior upon receiving the notification.
+   * <p>The event is queued, and every event queued until the JavaFX application thread gets to them
+   * is handed to each observer's {@code onDataChanged} method in a single call. Observers must be
+   * instances of {@link DataController}, which decides whether the events concern it and updates
+   * itself accordingly.
    *
    * <p>This functionality supports the Observer design pattern by decoupling the notification of
    * events (in this case, data updates) from the specific actions that observers take in response.
+   *
+   * @param event the change that occurred
    */
-  public void notifyObservers() {
-    observers.forEach(DataController::updateData);
+  public void notifyObservers(DataChangeEvent event) {
+    synchronized (pendingEvents) {
+      pendingEvents.add(event);
+      if (isDeliveryScheduled) {
+        return;
+      }
+      isDeliveryScheduled = true;
+    }
+    try {
+      Platform.runLater(this::deliverPendingEvents);
+    } catch (IllegalStateException e) {
+      // the JavaFX toolkit is not running, e.g. in tests, so there is no pass to wait for
+      deliverPendingEvents();
+    }
+  }
+
+  private void deliverPendingEvents() {
+    List<DataChangeEvent> events;
+    synchronized (pendingEvents) {
+      events = List.copyOf(pendingEvents);
+      pendingEvents.clear();
+      isDeliveryScheduled = false;
+    }
+    if (events.contains(DataChangeEvent.reload())) {
+      events = List.of(DataChangeEvent.reload());
+    }
+    // iterates over a snapshot, as observers may (un)register while being notified, e.g. when a
+    // scene is switched
+    boolean hasStaleObservers = false;
+    for (WeakReference<DataController> reference : observers) {
+      DataController observer = reference.get();
+      if (observer == null) {
+        hasStaleObservers = true;
+      } else {
+        observer.onDataChanged(events);
+      }
+    }
+    if (hasStaleObservers) {
+      synchronized (this) {
+        expungeStaleObservers();
+      }
+    }
   }
 }
@@ -0,0 +1,106 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.util;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+
+/**
+ * Hands the results of asynchronous requests back to the JavaFX application thread, where only the
+ * latest request counts.
+ *
+ * <p>A view keeps one instance per kind of request, e.g. loading the week on display. Submitting a
+ * new request cancels the one still pending, and a result arriving for a request that has been
+ * superseded in the meantime is dropped. Navigating quickly through the weeks therefore only ever
+ * renders the last week asked for, no matter in which order the loads finish.
+ *
+ * <p>Cancelling a request discards its result, but does not interrupt work already running. Only a
+ * dependent copy of the submitted future is cancelled, so futures shared with others, e.g. the
+ * weeks of a {@link WeekTaskCache}, still complete.
+ *
+ * <p>Instances must only be used from the JavaFX application thread.
+ *
+ * @param <T> the type of the result
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class FxRequest<T> {
+
+  private CompletableFuture<T> pending;
+
+  /**
+   * Submits a request, cancelling the previous one if it has not completed yet. The handlers are
+   * called on the JavaFX application thread, unless the request has been superseded by then.
+   *
+   * @param request the asynchronous request
+   * @param onSuccess called with the result if the request succeeds
+   * @param onFailure called with the cause if the request fails
+   */
+  public void submit(
+      CompletableFuture<T> request, Consumer<? super T> onSuccess, Consumer<Throwable> onFailure) {
+    Objects.requireNonNull(request);
+    Objects.requireNonNull(onSuccess);
+    Objects.requireNonNull(onFailure);
+    cancel();
+    CompletableFuture<T> copy = request.copy();
+    pending = copy;
+    copy.whenComplete(
+        (result, error) ->
+            Platform.runLater(
+                () -> {
+                  if (pending != copy) {
+                    return;
+                  }
+                  pending = null;
+                  deliver(result, error, onSuccess, onFailure);
+                }));
+  }
+
+  /** Cancels the pending request, if any, so its result is never delivered. */
+  public void cancel() {
+    if (pending != null) {
+      pending.cancel(false);
+      pending = null;
+    }
+  }
+
+  /**
+   * Checks whether a submitted request has not been delivered or cancelled yet.
+   *
+   * @return true if a request is pending, false otherwise
+   */
+  public boolean isPending() {
+    return pending != null;
+  }
+
+  /**
+   * Calls the handlers with the outcome of a single request on the JavaFX application thread, for
+   * requests that cannot become stale, e.g. saving a task.
+   *
+   * @param request the asynchronous request
+   * @param onSuccess called with the result if the request succeeds
+   * @param onFailure called with the cause if the request fails
+   * @param <T> the type of the result
+   */
+  public static <T> void whenDone(
+      CompletableFuture<T> request, Consumer<? super T> onSuccess, Consumer<Throwable> onFailure) {
+    Objects.requireNonNull(onSuccess);
+    Objects.requireNonNull(onFailure);
+    request.whenComplete(
+        (result, error) -> Platform.runLater(() -> deliver(result, error, onSuccess, onFailure)));
+  }
+
+  private static <T> void deliver(
+      T result, Throwable error, Consumer<? super T> onSuccess, Consumer<Throwable> onFailure) {
+    if (error == null) {
+      onSuccess.accept(result);
+      return;
+    }
+    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+    if (!(cause instanceof CancellationException)) {
+      onFailure.accept(cause);
+    }
+  }
+}
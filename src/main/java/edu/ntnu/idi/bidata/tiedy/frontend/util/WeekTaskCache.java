@@ -0,0 +1,110 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.util;
+
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * Caches the tasks of a user per week, so navigating between weeks does not have to query the
+ * repositories on the JavaFX application thread.
+ *
+ * <p>Weeks are loaded in the background on virtual threads. Whenever a week is retrieved, the weeks
+ * around it are loaded as well. Weeks further away than that, or belonging to another user, are
+ * dropped, so the cache never holds more than {@code 2 * range + 1} weeks. The cache does not know
+ * when tasks change, so its owner must {@link #invalidate()} it on every relevant {@link
+ * DataChangeEvent}.
+ *
+ * <p>The futures handed out are dependent copies of the cached ones, so a caller cancelling its
+ * future does not leave a cancelled week behind in the cache.
+ *
+ * @author Nick Heggø
+ * @version 2025.05.24
+ */
+public class WeekTaskCache {
+
+  private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final BiFunction<UUID, LocalDate, Map<LocalDate, List<Task>>> loader;
+  private final int range;
+  private final ConcurrentMap<Key, CompletableFuture<Map<LocalDate, List<Task>>>> weeks =
+      new ConcurrentHashMap<>();
+
+  private record Key(UUID userId, LocalDate startOfWeek) {}
+
+  /**
+   * Creates an empty cache.
+   *
+   * @param loader loads the tasks of the given user in the week starting at the given date, grouped
+   *     by day; must be safe to call from any thread
+   * @param range the number of weeks to load in the background before and after a retrieved week
+   * @throws IllegalArgumentException if the range is negative
+   */
+  public WeekTaskCache(BiFunction<UUID, LocalDate, Map<LocalDate, List<Task>>> loader, int range) {
+    if (range < 0) {
+      throw new IllegalArgumentException("Range cannot be negative!");
+    }
+    this.loader = Objects.requireNonNull(loader);
+    this.range = range;
+  }
+
+  /**
+   * Gets the tasks of the given user in the week starting at the given date. A week that is not
+   * cached is loaded in the background, just like the weeks around it.
+   *
+   * @param userId the unique identifier of the user
+   * @param startOfWeek the first day of the week
+   * @return a future completed with the tasks of the week grouped by day, which are shared with the
+   *     cache and not to be modified
+   */
+  public CompletableFuture<Map<LocalDate, List<Task>>> get(UUID userId, LocalDate startOfWeek) {
+    weeks
+        .keySet()
+        .removeIf(
+            k ->
+                !k.userId().equals(userId)
+                    || Math.abs(ChronoUnit.WEEKS.between(startOfWeek, k.startOfWeek())) > range);
+
+    CompletableFuture<Map<LocalDate, List<Task>>> week = load(userId, startOfWeek);
+    for (int i = 1; i <= range; i++) {
+      load(userId, startOfWeek.minusWeeks(i));
+      load(userId, startOfWeek.plusWeeks(i));
+    }
+    return week.copy();
+  }
+
+  /** Discards every cached week, e.g. after the tasks of the user changed. */
+  public void invalidate() {
+    weeks.clear();
+  }
+
+  private CompletableFuture<Map<LocalDate, List<Task>>> load(UUID userId, LocalDate startOfWeek) {
+    Key key = new Key(userId, startOfWeek);
+    CompletableFuture<Map<LocalDate, List<Task>>> week = new CompletableFuture<>();
+    CompletableFuture<Map<LocalDate, List<Task>>> cached = weeks.putIfAbsent(key, week);
+    if (cached != null) {
+      return cached;
+    }
+    EXECUTOR.execute(
+        () -> {
+          try {
+            week.complete(loader.apply(userId, startOfWeek));
+          } catch (RuntimeException e) {
+            // a failed load is retried the next time the week is needed
+            weeks.remove(key, week);
+            week.completeExceptionally(e);
+          }
+        });
+    return week;
+  }
+}
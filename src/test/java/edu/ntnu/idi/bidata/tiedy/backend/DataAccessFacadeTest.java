@@ -0,0 +1,68 @@
+package edu.ntnu.idi.bidata.tiedy.backend;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonGroupRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonTaskRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonUserRepository;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DataAccessFacadeTest {
+
+  @TempDir Path dataDirectory;
+
+  private DataAccessFacade facade;
+
+  @BeforeEach
+  void setUp() {
+    facade = createFacade();
+  }
+
+  @AfterEach
+  void tearDown() {
+    facade.close();
+  }
+
+  private DataAccessFacade createFacade() {
+    return new DataAccessFacade(
+        new JsonUserRepository(dataDirectory),
+        new JsonTaskRepository(dataDirectory),
+        new JsonGroupRepository(dataDirectory));
+  }
+
+  @Test
+  void testUpdatedExperienceSurvivesReload() {
+    User user = facade.registerUser(new User("JohnDoe", "securePassword123"));
+    user.completeTask();
+    assertNotNull(facade.updateUser(user));
+
+    facade.close();
+    facade = createFacade();
+
+    User reloaded = facade.getUserById(user.getId()).orElseThrow();
+    assertEquals(user.getCurrentExperience(), reloaded.getCurrentExperience());
+    assertEquals(1, reloaded.getCompletedTaskCount());
+  }
+
+  @Test
+  void testUpdatedUsernameIsNotServedFromCache() {
+    User user = facade.registerUser(new User("JohnDoe", "securePassword123"));
+    assertEquals(List.of("JohnDoe"), facade.getUserNamesByIds(List.of(user.getId())));
+
+    user.setUsername("JohnSmith");
+    facade.updateUser(user);
+
+    assertEquals(List.of("JohnSmith"), facade.getUserNamesByIds(List.of(user.getId())));
+  }
+
+  @Test
+  void testUpdateOfUnknownUserReturnsNull() {
+    assertNull(facade.updateUser(new User("JaneDoe", "securePassword456")));
+  }
+}
@@ -0,0 +1,45 @@
+package edu.ntnu.idi.bidata.tiedy.backend.event;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent.EntityType;
+import edu.ntnu.idi.bidata.tiedy.backend.event.DataChangeEvent.Kind;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class DataChangeEventTest {
+
+  @Test
+  void testEventOnlyAffectsListedUsersAndGroups() {
+    UUID user = UUID.randomUUID();
+    UUID group = UUID.randomUUID();
+    DataChangeEvent event =
+        new DataChangeEvent(
+            EntityType.TASK, UUID.randomUUID(), Kind.UPDATED, Set.of(user), Set.of(group));
+
+    assertTrue(event.affectsUser(user));
+    assertTrue(event.affectsGroup(group));
+    assertFalse(event.affectsUser(UUID.randomUUID()));
+    assertFalse(event.affectsGroup(user));
+  }
+
+  @Test
+  void testReloadAffectsEveryone() {
+    DataChangeEvent reload = DataChangeEvent.reload();
+
+    assertTrue(reload.isReload());
+    assertTrue(reload.affectsUser(UUID.randomUUID()));
+    assertTrue(reload.affectsGroup(UUID.randomUUID()));
+  }
+
+  @Test
+  void testIdenticalEventsAreEqual() {
+    UUID task = UUID.randomUUID();
+    UUID user = UUID.randomUUID();
+
+    assertEquals(
+        new DataChangeEvent(EntityType.TASK, task, Kind.UPDATED, Set.of(user), Set.of()),
+        new DataChangeEvent(EntityType.TASK, task, Kind.UPDATED, Set.of(user), Set.of()));
+  }
+}
@@ -0,0 +1,59 @@
+package edu.ntnu.idi.bidata.tiedy.backend.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileFingerprintTest {
+
+  @TempDir Path directory;
+
+  private Path file;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    file = directory.resolve("FileFingerprintTest.json");
+    Files.writeString(file, "[]");
+  }
+
+  @Test
+  void testUnchangedFileMatches() {
+    FileFingerprint fingerprint = FileFingerprint.ofMetadata(file);
+    assertTrue(fingerprint.matches(file));
+  }
+
+  @Test
+  void testResizedFileDoesNotMatch() throws IOException {
+    FileFingerprint fingerprint = FileFingerprint.of(file);
+    Files.writeString(file, "[{}]");
+    assertFalse(fingerprint.matches(file));
+  }
+
+  @Test
+  void testTouchedFileMatchesByChecksum() throws IOException {
+    FileFingerprint fingerprint = FileFingerprint.of(file);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(fingerprint.lastModified() + 5000));
+    assertTrue(fingerprint.matches(file));
+  }
+
+  @Test
+  void testTouchedFileWithoutChecksumDoesNotMatch() throws IOException {
+    FileFingerprint fingerprint = FileFingerprint.ofMetadata(file);
+    Files.setLastModifiedTime(file, FileTime.fromMillis(fingerprint.lastModified() + 5000));
+    assertFalse(fingerprint.matches(file));
+  }
+
+  @Test
+  void testMissingFile() throws IOException {
+    Files.delete(file);
+    FileFingerprint fingerprint = FileFingerprint.of(file);
+    assertEquals(-1, fingerprint.size());
+    assertTrue(fingerprint.matches(file));
+  }
+}
@@ -0,0 +1,56 @@
+package edu.ntnu.idi.bidata.tiedy.backend.io.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class GroupCommitTest {
+
+  @Test
+  void testRequestsWithinWindowShareOneSync()
+      throws ExecutionException, InterruptedException, TimeoutException {
+    AtomicInteger syncs = new AtomicInteger();
+    GroupCommit groupCommit = new GroupCommit(syncs::incrementAndGet, Duration.ofMillis(50));
+
+    CompletableFuture<Void> first = groupCommit.request();
+    CompletableFuture<Void> second = groupCommit.request();
+    assertSame(first, second);
+
+    first.get(5, TimeUnit.SECONDS);
+    assertEquals(1, syncs.get());
+  }
+
+  @Test
+  void testCommitNowCompletesPendingRequest() {
+    AtomicInteger syncs = new AtomicInteger();
+    GroupCommit groupCommit = new GroupCommit(syncs::incrementAndGet, Duration.ofMinutes(1));
+
+    CompletableFuture<Void> pending = groupCommit.request();
+    groupCommit.commitNow();
+
+    assertTrue(pending.isDone());
+    assertEquals(1, syncs.get());
+  }
+
+  @Test
+  void testFailedSyncCompletesExceptionally() {
+    GroupCommit groupCommit =
+        new GroupCommit(
+            () -> {
+              throw new IOException("disk full");
+            },
+            Duration.ofMinutes(1));
+
+    CompletableFuture<Void> pending = groupCommit.request();
+
+    assertThrows(JsonException.class, groupCommit::commitNow);
+    assertTrue(pending.isCompletedExceptionally());
+  }
+}
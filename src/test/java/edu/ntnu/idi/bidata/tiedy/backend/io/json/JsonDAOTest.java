@@ -3,28 +3,23 @@ package edu.ntnu.idi.bidata.tiedy.backend.io.json;
 import static org.junit.jupiter.api.Assertions.*;
 
 import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
-import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
 import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
-import java.util.HashSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
-import org.junit.jupiter.api.BeforeEach;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class JsonDAOTest {
 
-  @BeforeEach
-  void cleanUpTestFiles() {
-    var userJsonFile = FileUtil.generateFilePath(User.class, "json", true).toFile();
-    var taskJsonFile = FileUtil.generateFilePath(Task.class, "json", true).toFile();
-    FileUtil.ensureFileAndDirectoryExists(userJsonFile);
-    FileUtil.ensureFileAndDirectoryExists(taskJsonFile);
-    new JsonWriter<>(User.class, true).writeJsonFile(new HashSet<>()); // Clear user data.
-    new JsonWriter<>(Task.class, true).writeJsonFile(new HashSet<>()); // Clear task data.
-  }
+  @TempDir Path dataDirectory;
 
   @Test
   void testLoadJsonFromEmptySource() {
-    var testUserService = new JsonDAO<>(User.class, true);
+    var testUserService = new JsonDAO<>(User.class, dataDirectory, false);
     assertTrue(
         testUserService.loadJsonAsStream().toList().isEmpty(),
         "Stream should be empty for no JSON data");
@@ -32,16 +27,51 @@ class JsonDAOTest {
 
   @Test
   void testLoadJsonWithSpecificData() {
-    var testUserService = new JsonDAO<>(User.class, true);
+    var testUserService = new JsonDAO<>(User.class, dataDirectory, false);
 
     var user1 = new User("JohnDoe", "securePassword123");
     var user2 = new User("JaneDoe", "securePassword456");
     Set<User> users = Set.of(user1, user2);
-    new JsonWriter<>(User.class, true).writeJsonFile(users);
+    new JsonWriter<>(User.class, dataDirectory, false).writeJsonFile(users);
 
     var loadedUsers = testUserService.loadJsonAsStream().toList();
 
     assertTrue(loadedUsers.contains(user1), "Loaded data should contain JohnDoe");
     assertTrue(loadedUsers.contains(user2), "Loaded data should contain JaneDoe");
   }
+
+  @Test
+  void testLoadJsonThatIsNotAnArray() throws IOException {
+    var testUserService = new JsonDAO<>(User.class, dataDirectory, false);
+    Path userJsonFile = FileUtil.generateFilePath(User.class, "json", dataDirectory);
+    Files.createDirectories(userJsonFile.getParent());
+    Files.writeString(userJsonFile, "{}");
+
+    assertThrows(JsonException.class, testUserService::loadJsonAsStream);
+  }
+
+  @Test
+  void testSnapshotChangedWhileReadingIsModifiedExternally() throws IOException {
+    var testUserService = new JsonDAO<>(User.class, dataDirectory, false);
+    testUserService.writeCollection(List.of(new User("Alice", "password123")));
+
+    try (Stream<User> users = testUserService.loadJsonAsStream()) {
+      Files.writeString(FileUtil.generateFilePath(User.class, "json", dataDirectory), "[]");
+      users.forEach(user -> {});
+    }
+
+    assertTrue(testUserService.isModifiedExternally());
+  }
+
+  @Test
+  void testCompactSnapshotRoundTrip() throws IOException {
+    var compactUserService = new JsonDAO<>(User.class, dataDirectory, true);
+
+    var user = new User("JohnDoe", "securePassword123");
+    compactUserService.writeCollection(List.of(user));
+
+    String json = Files.readString(FileUtil.generateFilePath(User.class, "json", dataDirectory));
+    assertFalse(json.contains("\n"), "Compact JSON should not contain line breaks");
+    assertEquals(List.of(user), compactUserService.loadJsonAsStream().toList());
+  }
 }
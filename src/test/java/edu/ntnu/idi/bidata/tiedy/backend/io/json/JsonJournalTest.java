@@ -0,0 +1,73 @@
+package edu.ntnu.idi.bidata.tiedy.backend.io.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.backend.io.FileUtil;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.TaskBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonJournalTest {
+
+  @TempDir Path dataDirectory;
+
+  private JsonJournal<Task> journal;
+
+  @BeforeEach
+  void setUp() {
+    journal = new JsonJournal<>(Task.class, dataDirectory);
+  }
+
+  @Test
+  void testReplayAppliesRecordsInOrder() {
+    Task kept = new TaskBuilder().title("Vacuum").deadline(LocalDate.now()).build();
+    Task removed = new TaskBuilder().title("Dishes").deadline(LocalDate.now()).build();
+
+    journal.appendPut(kept.getId(), kept);
+    journal.appendPut(removed.getId(), removed);
+    kept.setTitle("Vacuum living room");
+    journal.appendPut(kept.getId(), kept);
+    journal.appendRemove(removed.getId());
+
+    Map<UUID, Task> entities = new HashMap<>();
+    assertEquals(4, journal.replay(entities));
+    assertEquals(1, entities.size());
+    assertEquals("Vacuum living room", entities.get(kept.getId()).getTitle());
+  }
+
+  @Test
+  void testReplaySkipsTornRecord() throws IOException {
+    Task task = new TaskBuilder().title("Laundry").deadline(LocalDate.now()).build();
+    journal.appendPut(task.getId(), task);
+
+    Path journalPath =
+        FileUtil.generateFilePath(Task.class, "json", dataDirectory).resolveSibling("Task.journal");
+    Files.writeString(journalPath, "{\"op\":\"PUT\",\"id\":\"", StandardOpenOption.APPEND);
+
+    Map<UUID, Task> entities = new HashMap<>();
+    assertEquals(1, journal.replay(entities));
+    assertTrue(entities.containsKey(task.getId()));
+  }
+
+  @Test
+  void testTruncateDiscardsRecords() {
+    Task task = new TaskBuilder().title("Groceries").deadline(LocalDate.now()).build();
+    journal.appendPut(task.getId(), task);
+    assertFalse(journal.isEmpty());
+
+    journal.truncate();
+
+    assertTrue(journal.isEmpty());
+    assertEquals(0, journal.replay(new HashMap<>()));
+  }
+}
@@ -0,0 +1,78 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class GroupCrdtTest {
+
+  private final UUID adminId = UUID.randomUUID();
+  private final Group base = new Group("Family", "The family", adminId);
+
+  @Test
+  void testPromotingRemovedMemberDoesNotReaddThem() {
+    UUID memberId = UUID.randomUUID();
+    base.addMember(memberId, false);
+    GroupCrdt first = new GroupCrdt(base, new Replica());
+    GroupCrdt second = new GroupCrdt(base, new Replica());
+
+    Group removed = first.toGroup(base);
+    removed.removeMember(memberId);
+    first.update(removed);
+    Group promoted = second.toGroup(base);
+    promoted.updateMemberPermission(memberId, true);
+    second.update(promoted);
+    first.merge(second);
+    second.merge(first);
+
+    assertFalse(first.toGroup(base).getMembers().containsKey(memberId));
+    assertEquals(first.toGroup(base).getMembers(), second.toGroup(base).getMembers());
+  }
+
+  @Test
+  void testRandomConcurrentEditsConverge() {
+    Random random = new Random(42);
+    List<UUID> users = IntStream.range(0, 6).mapToObj(unused -> UUID.randomUUID()).toList();
+    GroupCrdt first = new GroupCrdt(base, new Replica());
+    GroupCrdt second = new GroupCrdt(base, new Replica());
+
+    for (int round = 0; round < 200; round++) {
+      editRandomly(first, random, users);
+      editRandomly(second, random, users);
+      if (random.nextInt(5) == 0) {
+        // both replicas merge the state the other had before the exchange
+        GroupCrdt sent = new GroupCrdt(first, new Replica());
+        first.merge(second);
+        second.merge(sent);
+        assertSameGroup(first.toGroup(base), second.toGroup(base));
+      }
+    }
+    first.merge(second);
+    second.merge(first);
+    assertSameGroup(first.toGroup(base), second.toGroup(base));
+  }
+
+  private void editRandomly(GroupCrdt state, Random random, List<UUID> users) {
+    Group group = state.toGroup(base);
+    UUID userId = users.get(random.nextInt(users.size()));
+    switch (random.nextInt(5)) {
+      case 0 -> group.setName("Name " + random.nextInt(100));
+      case 1 -> group.setDescription("Description " + random.nextInt(100));
+      case 2 -> group.addMember(userId, random.nextBoolean());
+      case 3 -> group.updateMemberPermission(userId, random.nextBoolean());
+      default -> group.removeMember(userId);
+    }
+    state.update(group);
+  }
+
+  private static void assertSameGroup(Group expected, Group actual) {
+    assertEquals(expected.getName(), actual.getName());
+    assertEquals(expected.getDescription(), actual.getDescription());
+    assertEquals(expected.getMembers(), actual.getMembers());
+  }
+}
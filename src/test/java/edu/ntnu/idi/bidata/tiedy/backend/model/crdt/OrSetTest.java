@@ -0,0 +1,56 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class OrSetTest {
+
+  private final Replica first = new Replica();
+  private final Replica second = new Replica();
+
+  @Test
+  void testConcurrentAddWinsOverRemove() {
+    OrSet<String> set = new OrSet<>();
+    set.add("dishes", first.tick());
+    OrSet<String> other = new OrSet<>(set);
+
+    set.remove("dishes");
+    other.add("dishes", second.tick());
+    set.merge(other);
+    other.merge(set);
+
+    assertTrue(set.contains("dishes"));
+    assertEquals(set.elements(), other.elements());
+  }
+
+  @Test
+  void testObservedRemoveIsNotUndoneByMerge() {
+    OrSet<String> set = new OrSet<>();
+    set.add("dishes", first.tick());
+    set.add("laundry", first.tick());
+    OrSet<String> other = new OrSet<>(set);
+
+    other.remove("dishes");
+    set.merge(other);
+    other.merge(set);
+
+    assertEquals(Set.of("laundry"), set.elements());
+    assertEquals(Set.of("laundry"), other.elements());
+  }
+
+  @Test
+  void testMergeIsIdempotent() {
+    OrSet<String> set = new OrSet<>();
+    set.add("dishes", first.tick());
+    OrSet<String> other = new OrSet<>();
+    other.add("laundry", second.tick());
+
+    set.merge(other);
+    set.merge(other);
+    set.merge(set);
+
+    assertEquals(Set.of("dishes", "laundry"), set.elements());
+  }
+}
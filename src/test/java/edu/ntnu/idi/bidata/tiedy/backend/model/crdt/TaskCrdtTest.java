@@ -0,0 +1,117 @@
+package edu.ntnu.idi.bidata.tiedy.backend.model.crdt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.TaskBuilder;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TaskCrdtTest {
+
+  private final Task base =
+      new TaskBuilder().title("Dishes").deadline(LocalDate.of(2025, 5, 24)).build();
+
+  @Test
+  void testLaterWriteWinsAfterMerge() {
+    TaskCrdt first = new TaskCrdt(base, new Replica());
+    TaskCrdt second = new TaskCrdt(base, new Replica());
+    Task edited = first.toTask(base);
+    edited.setTitle("Laundry");
+    first.update(edited);
+
+    second.merge(first);
+    edited = second.toTask(base);
+    edited.setTitle("Ironing");
+    second.update(edited);
+    first.merge(second);
+
+    assertEquals("Ironing", first.toTask(base).getTitle());
+  }
+
+  @Test
+  void testConcurrentAssignWinsOverUnassign() {
+    UUID userId = UUID.randomUUID();
+    base.assignUser(userId);
+    TaskCrdt first = new TaskCrdt(base, new Replica());
+    TaskCrdt second = new TaskCrdt(base, new Replica());
+
+    Task unassigned = first.toTask(base);
+    unassigned.unassignUser(userId);
+    first.update(unassigned);
+    Task reassigned = second.toTask(base);
+    reassigned.unassignUser(userId);
+    second.update(reassigned);
+    reassigned.assignUser(userId);
+    second.update(reassigned);
+    first.merge(second);
+
+    assertTrue(first.toTask(base).getAssignedUsers().contains(userId));
+  }
+
+  @Test
+  void testOtherTaskIsRejected() {
+    TaskCrdt state = new TaskCrdt(base, new Replica());
+    Task other = new TaskBuilder().title("Laundry").build();
+
+    assertThrows(IllegalArgumentException.class, () -> state.update(other));
+    assertThrows(
+        IllegalArgumentException.class, () -> state.merge(new TaskCrdt(other, new Replica())));
+  }
+
+  @Test
+  void testRandomConcurrentEditsConverge() {
+    Random random = new Random(42);
+    List<UUID> users = IntStream.range(0, 6).mapToObj(unused -> UUID.randomUUID()).toList();
+    TaskCrdt first = new TaskCrdt(base, new Replica());
+    TaskCrdt second = new TaskCrdt(base, new Replica());
+
+    for (int round = 0; round < 200; round++) {
+      editRandomly(first, random, users);
+      editRandomly(second, random, users);
+      if (random.nextInt(5) == 0) {
+        // both replicas merge the state the other had before the exchange
+        TaskCrdt sent = new TaskCrdt(first, new Replica());
+        first.merge(second);
+        second.merge(sent);
+        assertSameTask(first.toTask(base), second.toTask(base));
+      }
+    }
+    first.merge(second);
+    second.merge(first);
+    assertSameTask(first.toTask(base), second.toTask(base));
+  }
+
+  private void editRandomly(TaskCrdt state, Random random, List<UUID> users) {
+    Task task = state.toTask(base);
+    switch (random.nextInt(6)) {
+      case 0 -> task.setTitle("Title " + random.nextInt(100));
+      case 1 -> task.setDescription("Description " + random.nextInt(100));
+      case 2 -> task.setDeadline(base.getDeadline().plusDays(random.nextInt(14)));
+      case 3 -> task.setStatus(Status.values()[random.nextInt(Status.values().length)]);
+      case 4 -> task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+      default -> {
+        UUID userId = users.get(random.nextInt(users.size()));
+        if (!task.assignUser(userId)) {
+          task.unassignUser(userId);
+        }
+      }
+    }
+    state.update(task);
+  }
+
+  private static void assertSameTask(Task expected, Task actual) {
+    assertEquals(expected.getTitle(), actual.getTitle());
+    assertEquals(expected.getDescription(), actual.getDescription());
+    assertEquals(expected.getDeadline(), actual.getDeadline());
+    assertEquals(expected.getStatus(), actual.getStatus());
+    assertEquals(expected.getPriority(), actual.getPriority());
+    assertEquals(expected.getAssignedUsers(), actual.getAssignedUsers());
+  }
+}
@@ -33,6 +33,22 @@ class TaskTest {
         .isEqualTo(copyTask);
   }
 
+  @Test
+  void testCopySharesAssignedUsersUntilModified() {
+    Task originalTask = new Task();
+    originalTask.assignUser(UUID.randomUUID());
+
+    Task copyTask = new Task(originalTask);
+    UUID newUser = UUID.randomUUID();
+    copyTask.assignUser(newUser);
+
+    assertFalse(originalTask.getAssignedUsers().contains(newUser));
+    assertEquals(1, originalTask.getAssignedUsers().size());
+    assertEquals(2, copyTask.getAssignedUsers().size());
+    assertThrows(
+        UnsupportedOperationException.class, () -> copyTask.getAssignedUsers().add(newUser));
+  }
+
   @Test
   void testAddAssignedUser() {
     Task task = new Task();
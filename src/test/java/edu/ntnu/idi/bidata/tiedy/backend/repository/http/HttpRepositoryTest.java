@@ -0,0 +1,200 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.http;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.JsonElement;
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.TaskBuilder;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonGroupRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonTaskRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonUserRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.server.TiedyServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HttpRepositoryTest {
+
+  @TempDir Path dataDirectory;
+
+  private TiedyServer server;
+  private ServerConnection firstConnection;
+  private ServerConnection secondConnection;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server =
+        new TiedyServer(
+            new JsonUserRepository(dataDirectory),
+            new JsonTaskRepository(dataDirectory),
+            new JsonGroupRepository(dataDirectory));
+    server.start(new InetSocketAddress("localhost", 0));
+    URI address = URI.create("http://localhost:" + server.getPort());
+    firstConnection = new ServerConnection(address);
+    secondConnection = new ServerConnection(address);
+  }
+
+  @AfterEach
+  void tearDown() {
+    firstConnection.close();
+    secondConnection.close();
+    server.stop();
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + 5_000_000_000L;
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, "Timed out waiting for the change");
+      Thread.sleep(10);
+    }
+  }
+
+  @Test
+  void testUnreachableServerFailsToConnect() {
+    int port = server.getPort();
+    server.stop();
+    try (ServerConnection connection =
+        new ServerConnection(URI.create("http://localhost:" + port))) {
+      assertThrows(HttpRepositoryException.class, connection::connect);
+    }
+  }
+
+  @Test
+  void testChangesReachOtherClients() throws InterruptedException {
+    HttpTaskRepository first = new HttpTaskRepository(firstConnection);
+    HttpTaskRepository second = new HttpTaskRepository(secondConnection);
+    firstConnection.connect();
+    secondConnection.connect();
+    User user = new User("JohnDoe", "securePassword123");
+    Task task = new TaskBuilder().title("Dishes").deadline(LocalDate.of(2025, 5, 22)).build();
+    task.assignUser(user.getId());
+
+    first.add(task);
+    assertTrue(first.getById(task.getId()).isPresent());
+    awaitTrue(() -> second.getById(task.getId()).isPresent());
+    assertTrue(second.reconcile());
+    assertFalse(second.reconcile());
+
+    Task closed = new Task(task);
+    closed.setStatus(Status.CLOSED);
+    first.update(closed);
+    awaitTrue(() -> second.getActiveTasksByUserId(user.getId()).findAny().isEmpty());
+    assertEquals(1, second.getTasksByUserId(user.getId()).count());
+
+    assertTrue(first.remove(task.getId()));
+    assertFalse(first.remove(task.getId()));
+    awaitTrue(() -> second.getById(task.getId()).isEmpty());
+  }
+
+  @Test
+  void testChangeListenerRunsAfterRemoteChanges() throws InterruptedException {
+    HttpTaskRepository first = new HttpTaskRepository(firstConnection);
+    HttpTaskRepository second = new HttpTaskRepository(secondConnection);
+    AtomicInteger batches = new AtomicInteger();
+    secondConnection.setChangeListener(batches::incrementAndGet);
+    firstConnection.connect();
+    secondConnection.connect();
+    assertEquals(1, batches.get());
+
+    Task task = first.add(new TaskBuilder().title("Dishes").build());
+
+    awaitTrue(() -> batches.get() > 1);
+    assertTrue(second.getById(task.getId()).isPresent());
+  }
+
+  @Test
+  void testLateClientLoadsExistingData() {
+    HttpGroupRepository first = new HttpGroupRepository(firstConnection);
+    firstConnection.connect();
+    User user = new User("JaneDoe", "securePassword456");
+    Group group = new Group("Household", "Chores", user.getId());
+    first.add(group);
+
+    HttpGroupRepository second = new HttpGroupRepository(secondConnection);
+    secondConnection.connect();
+
+    assertEquals(List.of(group), second.getGroupsByUserId(user.getId()).toList());
+    assertNull(second.update(new Group("Other", "Not stored", user.getId())));
+  }
+
+  @Test
+  void testOutdatedChangesAreIgnored() {
+    HttpTaskRepository tasks = new HttpTaskRepository(firstConnection);
+    firstConnection.connect();
+    Task task = tasks.add(new TaskBuilder().title("Dishes").build());
+    Task outdated = new Task(task);
+    outdated.setTitle("Laundry");
+    outdated.setVersion(task.getVersion() - 1);
+
+    tasks.applyChange(HttpRepository.GSON.toJsonTree(outdated));
+    assertEquals("Dishes", tasks.getById(task.getId()).orElseThrow().getTitle());
+
+    tasks.applyRemoval(task.getId(), task.getVersion() + 1);
+    tasks.applyChange(HttpRepository.GSON.toJsonTree(task));
+    assertTrue(tasks.getById(task.getId()).isEmpty());
+  }
+
+  @Test
+  void testRemovalBeforeOlderWriteAnswerIsKept() throws InterruptedException {
+    Task task = new TaskBuilder().title("Dishes").build();
+    task.setVersion(1);
+    Task answer = new Task(task);
+    answer.setVersion(2);
+    CountDownLatch isSent = new CountDownLatch(1);
+    CountDownLatch isAnswered = new CountDownLatch(1);
+    ServerConnection connection =
+        new ServerConnection(URI.create("http://localhost:" + server.getPort())) {
+          @Override
+          Optional<JsonElement> send(String method, String path, JsonElement body) {
+            isSent.countDown();
+            try {
+              isAnswered.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return Optional.of(HttpRepository.GSON.toJsonTree(answer));
+          }
+        };
+    HttpTaskRepository tasks = new HttpTaskRepository(connection);
+    tasks.applyChange(HttpRepository.GSON.toJsonTree(task));
+
+    Thread writer = Thread.ofVirtual().start(() -> tasks.update(task));
+    assertTrue(isSent.await(5, TimeUnit.SECONDS));
+    tasks.applyRemoval(task.getId(), 3);
+    tasks.forgetRemovalsUpTo(3);
+    isAnswered.countDown();
+    writer.join();
+
+    assertTrue(tasks.getById(task.getId()).isEmpty());
+    connection.close();
+  }
+
+  @Test
+  void testUsersAreAuthenticatedByServer() {
+    HttpUserRepository users = new HttpUserRepository(firstConnection);
+    firstConnection.connect();
+    User user = users.add(new User("JohnDoe", "securePassword123"));
+
+    assertNull(user.getHashedPassword());
+    assertEquals(user, users.getUserByUsername("JohnDoe").orElseThrow());
+    assertEquals(user, users.authenticate("JohnDoe", "securePassword123").orElseThrow());
+    assertTrue(users.authenticate("JohnDoe", "wrongPassword123").isEmpty());
+    assertThrows(
+        HttpRepositoryException.class, () -> users.add(new User("JohnDoe", "otherPassword1")));
+  }
+}
@@ -0,0 +1,76 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.group.Group;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JsonGroupRepositoryTest extends JsonRepositoryTestBase<Group, JsonGroupRepository> {
+
+  private final UUID owner = UUID.randomUUID();
+  private final UUID member = UUID.randomUUID();
+  private Group group;
+
+  @Override
+  protected JsonGroupRepository createRepository(Path dataDirectory) {
+    return new JsonGroupRepository(dataDirectory);
+  }
+
+  @Override
+  protected Group createIndexedEntity() {
+    return new Group("Cabin", "Shared cabin", member);
+  }
+
+  @Override
+  protected void assertIndexed(Group cabin) {
+    assertEquals(List.of(cabin), repository.getGropsByUserIdWhereUserIsAdmin(member).toList());
+  }
+
+  @BeforeEach
+  void setUp() {
+    group = new Group("Flat", "Shared flat", owner);
+    repository.add(group);
+  }
+
+  @Test
+  void testGroupsByUserFollowMembership() {
+    assertTrue(repository.getGroupsByUserId(member).toList().isEmpty());
+
+    assertTrue(repository.addMemberToGroup(group.getId(), member, false));
+    assertEquals(List.of(group), repository.getGroupsByUserId(member).toList());
+    assertTrue(repository.getGropsByUserIdWhereUserIsAdmin(member).toList().isEmpty());
+
+    assertTrue(repository.removeMemberFromGroup(group.getId(), member));
+    assertTrue(repository.getGroupsByUserId(member).toList().isEmpty());
+  }
+
+  @Test
+  void testRemovingNonMemberLeavesGroupUnchanged() {
+    Group stored = repository.getById(group.getId()).orElseThrow();
+
+    assertFalse(repository.removeMemberFromGroup(group.getId(), member));
+    assertSame(stored, repository.getById(group.getId()).orElseThrow());
+  }
+
+  @Test
+  void testAdminGroupsFollowPermissionChanges() {
+    repository.addMemberToGroup(group.getId(), member, false);
+
+    assertTrue(repository.updateMemberAdminStatus(group.getId(), member, true));
+    assertEquals(List.of(group), repository.getGropsByUserIdWhereUserIsAdmin(member).toList());
+
+    assertTrue(repository.updateMemberAdminStatus(group.getId(), member, false));
+    assertTrue(repository.getGropsByUserIdWhereUserIsAdmin(member).toList().isEmpty());
+  }
+
+  @Test
+  void testRemovedGroupIsNotFound() {
+    repository.remove(group.getId());
+
+    assertTrue(repository.getGroupsByUserId(owner).toList().isEmpty());
+  }
+}
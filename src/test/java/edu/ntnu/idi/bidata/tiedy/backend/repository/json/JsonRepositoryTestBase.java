@@ -0,0 +1,64 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The fixture shared by the tests of the JSON repositories: each test starts from a new repository
+ * over an empty temporary directory, which is closed afterwards. Also checks that the index of the
+ * repository survives a refresh.
+ *
+ * @param <T> the type of entity held by the repository
+ * @param <R> the type of repository under test
+ */
+abstract class JsonRepositoryTestBase<T, R extends JsonRepository<T>> {
+
+  @TempDir protected Path dataDirectory;
+
+  protected R repository;
+
+  /**
+   * Creates the repository under test, backed by the data files below the given directory.
+   *
+   * @param dataDirectory the root directory of the data files
+   * @return a new repository
+   */
+  protected abstract R createRepository(Path dataDirectory);
+
+  /**
+   * Creates an entity that the index of the repository can find.
+   *
+   * @return a new entity
+   */
+  protected abstract T createIndexedEntity();
+
+  /**
+   * Asserts that the index of the repository finds the given entity.
+   *
+   * @param entity an entity created by {@link #createIndexedEntity()} and added to the repository
+   */
+  protected abstract void assertIndexed(T entity);
+
+  @BeforeEach
+  void setUpRepository() {
+    repository = createRepository(dataDirectory);
+  }
+
+  @AfterEach
+  void tearDownRepository() {
+    repository.close();
+  }
+
+  @Test
+  void testIndexIsRebuiltOnRefresh() {
+    T entity = createIndexedEntity();
+    repository.add(entity);
+
+    repository.refresh();
+
+    assertIndexed(entity);
+  }
+}
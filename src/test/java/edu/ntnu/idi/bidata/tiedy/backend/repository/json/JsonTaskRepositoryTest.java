@@ -0,0 +1,136 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Priority;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Status;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.TaskBuilder;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class JsonTaskRepositoryTest extends JsonRepositoryTestBase<Task, JsonTaskRepository> {
+
+  private final UUID alice = UUID.randomUUID();
+  private final UUID bob = UUID.randomUUID();
+
+  @Override
+  protected JsonTaskRepository createRepository(Path dataDirectory) {
+    return new JsonTaskRepository(dataDirectory);
+  }
+
+  @Override
+  protected Task createIndexedEntity() {
+    return createTask("Laundry", LocalDate.now(), alice);
+  }
+
+  @Override
+  protected void assertIndexed(Task task) {
+    assertEquals(List.of(task), repository.getTasksByUserId(alice).toList());
+  }
+
+  @Test
+  void testTasksByUserFollowAssignments() {
+    Task task = createTask("Vacuum");
+    repository.add(task);
+
+    assertTrue(repository.assignTaskToUser(task.getId(), alice));
+    assertEquals(List.of(task), repository.getTasksByUserId(alice).toList());
+
+    assertTrue(repository.assignTaskToUser(task.getId(), bob));
+    assertTrue(repository.unassignTaskFromUser(task.getId(), alice));
+    assertTrue(repository.getTasksByUserId(alice).toList().isEmpty());
+    assertEquals(List.of(task), repository.getTasksByUserId(bob).toList());
+  }
+
+  @Test
+  void testTasksByUserFollowUpdatesAndRemovals() {
+    Task task = createTask("Dishes");
+    task.assignUser(alice);
+    repository.add(task);
+
+    Task reassigned = new Task(task);
+    reassigned.unassignUser(alice);
+    reassigned.assignUser(bob);
+    repository.update(reassigned);
+
+    assertTrue(repository.getTasksByUserId(alice).toList().isEmpty());
+    assertEquals(List.of(task), repository.getTasksByUserId(bob).toList());
+
+    repository.remove(task.getId());
+    assertTrue(repository.getTasksByUserId(bob).toList().isEmpty());
+  }
+
+  @Test
+  void testTasksByUserAndDeadlineRange() {
+    LocalDate monday = LocalDate.of(2025, 5, 5);
+    Task inWeek = createTask("Vacuum", monday.plusDays(6), alice);
+    Task beforeWeek = createTask("Dishes", monday.minusDays(1), alice);
+    Task otherUser = createTask("Laundry", monday, bob);
+    repository.add(inWeek);
+    repository.add(beforeWeek);
+    repository.add(otherUser);
+
+    assertEquals(
+        List.of(inWeek),
+        repository.getTasksByUserIdAndDeadlineBetween(alice, monday, monday.plusDays(6)).toList());
+    assertEquals(
+        List.of(beforeWeek, otherUser), repository.getTasksBeforeDate(monday.plusDays(1)).toList());
+  }
+
+  @Test
+  void testDeadlineRangeFollowsRescheduling() {
+    LocalDate monday = LocalDate.of(2025, 5, 5);
+    Task task = createTask("Groceries", monday, alice);
+    repository.add(task);
+
+    Task rescheduled = new Task(task);
+    rescheduled.setDeadline(monday.plusWeeks(1));
+    repository.update(rescheduled);
+
+    assertTrue(
+        repository
+            .getTasksByUserIdAndDeadlineBetween(alice, monday, monday.plusDays(6))
+            .toList()
+            .isEmpty());
+    assertEquals(
+        List.of(task),
+        repository
+            .getTasksByUserIdAndDeadlineBetween(alice, monday.plusWeeks(1), monday.plusDays(13))
+            .toList());
+  }
+
+  @Test
+  void testActiveTaskCountsFollowMutations() {
+    Task task = createTask("Vacuum", LocalDate.now(), alice);
+    task.setPriority(Priority.HIGH);
+    repository.add(task);
+    assertEquals(1, repository.countActiveTasksByStatus(alice).get(Status.OPEN));
+    assertEquals(1, repository.countActiveTasksByPriority(alice).get(Priority.HIGH));
+
+    Task started = new Task(task);
+    started.setStatus(Status.IN_PROGRESS);
+    repository.update(started);
+    assertEquals(0, repository.countActiveTasksByStatus(alice).get(Status.OPEN));
+    assertEquals(1, repository.countActiveTasksByStatus(alice).get(Status.IN_PROGRESS));
+
+    Task closed = new Task(started);
+    closed.setStatus(Status.CLOSED);
+    repository.update(closed);
+    assertEquals(0, repository.countActiveTasksByStatus(alice).get(Status.CLOSED));
+    assertEquals(0, repository.countActiveTasksByPriority(alice).get(Priority.HIGH));
+  }
+
+  private static Task createTask(String title, LocalDate deadline, UUID userId) {
+    Task task = new TaskBuilder().title(title).deadline(deadline).build();
+    task.assignUser(userId);
+    return task;
+  }
+
+  private static Task createTask(String title) {
+    return new TaskBuilder().title(title).deadline(LocalDate.now()).build();
+  }
+}
@@ -0,0 +1,73 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class JsonUserRepositoryTest extends JsonRepositoryTestBase<User, JsonUserRepository> {
+
+  @Override
+  protected JsonUserRepository createRepository(Path dataDirectory) {
+    return new JsonUserRepository(dataDirectory);
+  }
+
+  @Override
+  protected User createIndexedEntity() {
+    return new User("JaneDoe", "securePassword456");
+  }
+
+  @Override
+  protected void assertIndexed(User user) {
+    assertTrue(repository.authenticate("JaneDoe", "securePassword456").isPresent());
+  }
+
+  @Test
+  void testGetUserByUsernameIsCaseSensitive() {
+    User user = new User("JohnDoe", "securePassword123");
+    repository.add(user);
+
+    assertEquals(Optional.of(user), repository.getUserByUsername("JohnDoe"));
+    assertTrue(repository.getUserByUsername("johndoe").isEmpty());
+    assertTrue(repository.getUserByUsername(null).isEmpty());
+  }
+
+  @Test
+  void testRenamedUserIsFoundByNewUsernameOnly() {
+    User user = new User("JohnDoe", "securePassword123");
+    repository.add(user);
+
+    User renamed = new User(user);
+    renamed.setUsername("JohnnyDoe");
+    repository.update(renamed);
+
+    assertTrue(repository.getUserByUsername("JohnDoe").isEmpty());
+    assertEquals(Optional.of(user), repository.getUserByUsername("JohnnyDoe"));
+  }
+
+  @Test
+  void testRemovedUserIsNotFound() {
+    User user = new User("JaneDoe", "securePassword456");
+    repository.add(user);
+
+    repository.remove(user.getId());
+
+    assertTrue(repository.getUserByUsername("JaneDoe").isEmpty());
+  }
+
+  @Test
+  void testGetByIdsSkipsUnknownIds() {
+    User john = new User("JohnDoe", "securePassword123");
+    User jane = new User("JaneDoe", "securePassword456");
+    repository.add(john);
+    repository.add(jane);
+
+    var found = repository.getByIds(List.of(jane.getId(), UUID.randomUUID(), john.getId()));
+
+    assertEquals(List.of(jane, john), List.copyOf(found.values()));
+  }
+}
@@ -0,0 +1,103 @@
+package edu.ntnu.idi.bidata.tiedy.backend.repository.json;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class WriteBehindTest {
+
+  @Test
+  void testRepeatedUpdatesAreCoalesced() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    List<Set<UUID>> batches = new CopyOnWriteArrayList<>();
+    WriteBehind writeBehind =
+        new WriteBehind(
+            "test-write-behind",
+            batch -> {
+              awaitQuietly(release);
+              batches.add(batch);
+            },
+            10);
+
+    UUID blocking = UUID.randomUUID();
+    UUID coalesced = UUID.randomUUID();
+    writeBehind.markDirty(blocking);
+    Thread.sleep(50);
+    for (int i = 0; i < 100; i++) {
+      writeBehind.markDirty(coalesced);
+    }
+    release.countDown();
+    writeBehind.flush();
+
+    assertEquals(List.of(Set.of(blocking), Set.of(coalesced)), batches);
+  }
+
+  @Test
+  void testMarkDirtyBlocksWhenFull() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    WriteBehind writeBehind =
+        new WriteBehind("test-write-behind", batch -> awaitQuietly(release), 1);
+
+    writeBehind.markDirty(UUID.randomUUID());
+    Thread.sleep(50);
+    writeBehind.markDirty(UUID.randomUUID());
+
+    CountDownLatch marked = new CountDownLatch(1);
+    Thread.ofPlatform()
+        .start(
+            () -> {
+              writeBehind.markDirty(UUID.randomUUID());
+              marked.countDown();
+            });
+    assertFalse(marked.await(100, TimeUnit.MILLISECONDS));
+
+    release.countDown();
+    assertTrue(marked.await(5, TimeUnit.SECONDS));
+    writeBehind.flush();
+  }
+
+  @Test
+  void testFlushReportsFailure() {
+    WriteBehind writeBehind =
+        new WriteBehind(
+            "test-write-behind",
+            batch -> {
+              throw new IllegalStateException("disk full");
+            },
+            10);
+
+    writeBehind.markDirty(UUID.randomUUID());
+
+    assertThrows(IllegalStateException.class, writeBehind::flush);
+  }
+
+  @Test
+  void testCloseWritesDirtyIdsAndStopsWriter() {
+    List<Set<UUID>> batches = new CopyOnWriteArrayList<>();
+    WriteBehind writeBehind = new WriteBehind("test-write-behind-close", batches::add, 10);
+    UUID id = UUID.randomUUID();
+
+    writeBehind.markDirty(id);
+    writeBehind.close();
+
+    assertEquals(List.of(Set.of(id)), batches);
+    assertTrue(
+        Thread.getAllStackTraces().keySet().stream()
+            .noneMatch(thread -> thread.getName().equals("test-write-behind-close")));
+    assertThrows(IllegalStateException.class, () -> writeBehind.markDirty(id));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
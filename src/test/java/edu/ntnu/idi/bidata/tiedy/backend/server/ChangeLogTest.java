@@ -0,0 +1,60 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ChangeLogTest {
+
+  private final ChangeLog changeLog = new ChangeLog(41);
+
+  private long change(UUID id, boolean isRemoved) {
+    long version = changeLog.nextVersion();
+    changeLog.record("task", id, version, isRemoved);
+    return version;
+  }
+
+  @Test
+  void testVersionsContinueAfterLatestStoredVersion() {
+    assertEquals(42, changeLog.nextVersion());
+    assertEquals(43, changeLog.nextVersion());
+  }
+
+  @Test
+  void testDeltaHoldsLatestChangeOfEveryEntity() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    change(first, false);
+    ChangeLog.Delta initial = changeLog.since(null, 0);
+    change(second, false);
+    long updated = change(first, false);
+    long removed = change(second, true);
+
+    ChangeLog.Delta delta = changeLog.since(initial.epoch(), initial.sequence());
+
+    assertFalse(delta.isFull());
+    assertEquals(removed, delta.sequence());
+    assertEquals(
+        List.of(
+            new ChangeLog.Change("task", first, updated, false),
+            new ChangeLog.Change("task", second, removed, true)),
+        delta.changes());
+  }
+
+  @Test
+  void testUnknownEpochOrForgottenChangesRequireFullDelta() {
+    ChangeLog.Delta initial = changeLog.since(null, 0);
+    assertTrue(initial.isFull());
+    assertTrue(changeLog.since(UUID.randomUUID(), initial.sequence()).isFull());
+    assertTrue(changeLog.since(initial.epoch(), initial.sequence() + 1).isFull());
+    assertFalse(changeLog.since(initial.epoch(), initial.sequence()).isFull());
+
+    for (int i = 0; i <= 10_000; i++) {
+      change(UUID.randomUUID(), true);
+    }
+
+    assertTrue(changeLog.since(initial.epoch(), initial.sequence()).isFull());
+  }
+}
@@ -0,0 +1,226 @@
+package edu.ntnu.idi.bidata.tiedy.backend.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import edu.ntnu.idi.bidata.tiedy.backend.io.json.CustomGson;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.Task;
+import edu.ntnu.idi.bidata.tiedy.backend.model.task.TaskBuilder;
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonGroupRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonTaskRepository;
+import edu.ntnu.idi.bidata.tiedy.backend.repository.json.JsonUserRepository;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TiedyServerTest {
+
+  @TempDir Path dataDirectory;
+
+  private static final Gson GSON = CustomGson.getCompactInstance();
+
+  private final HttpClient client = HttpClient.newHttpClient();
+  private TiedyServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server =
+        new TiedyServer(
+            new JsonUserRepository(dataDirectory),
+            new JsonTaskRepository(dataDirectory),
+            new JsonGroupRepository(dataDirectory));
+    server.start(new InetSocketAddress("localhost", 0));
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop();
+    client.close();
+  }
+
+  private HttpResponse<String> send(String method, String path, Object body) throws Exception {
+    HttpRequest.BodyPublisher publisher =
+        body == null
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofString(
+                body instanceof String json ? json : GSON.toJson(body));
+    HttpRequest request =
+        HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+            .method(method, publisher)
+            .build();
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  @Test
+  void testRegisteredUserAuthenticatesWithoutExposingHash() throws Exception {
+    User user = new User("JohnDoe", "securePassword123");
+    assertEquals(201, send("POST", "/api/users", user).statusCode());
+    assertEquals(409, send("POST", "/api/users", new User("JohnDoe", "other123")).statusCode());
+
+    JsonObject credentials = new JsonObject();
+    credentials.addProperty("username", "JohnDoe");
+    credentials.addProperty("password", "securePassword123");
+    HttpResponse<String> response = send("POST", "/api/authenticate", credentials);
+    assertEquals(200, response.statusCode());
+    JsonObject json = GSON.fromJson(response.body(), JsonObject.class);
+    assertEquals(user.getId().toString(), json.get("id").getAsString());
+    assertFalse(json.has("hashedPassword"));
+
+    credentials.addProperty("password", "wrongPassword123");
+    assertEquals(401, send("POST", "/api/authenticate", credentials).statusCode());
+  }
+
+  @Test
+  void testUserReplacedWithHashKeepsPassword() throws Exception {
+    User user = new User("JaneDoe", "securePassword456");
+    send("POST", "/api/users", user);
+
+    JsonObject takeover =
+        GSON.fromJson(send("GET", "/api/users/" + user.getId(), null).body(), JsonObject.class);
+    takeover.addProperty(
+        "hashedPassword", new User("Intruder", "intruderPassword1").getHashedPassword());
+    assertEquals(200, send("PUT", "/api/users/" + user.getId(), takeover).statusCode());
+
+    JsonObject credentials = new JsonObject();
+    credentials.addProperty("username", "JaneDoe");
+    credentials.addProperty("password", "intruderPassword1");
+    assertEquals(401, send("POST", "/api/authenticate", credentials).statusCode());
+    credentials.addProperty("password", "securePassword456");
+    assertEquals(200, send("POST", "/api/authenticate", credentials).statusCode());
+  }
+
+  @Test
+  void testPasswordChangeRequiresOldPassword() throws Exception {
+    User user = new User("JaneDoe", "securePassword456");
+    send("POST", "/api/users", user);
+
+    JsonObject change = new JsonObject();
+    change.addProperty("username", "JaneDoe");
+    change.addProperty("oldPassword", "wrongPassword123");
+    change.addProperty("newPassword", "newPassword789");
+    assertEquals(401, send("POST", "/api/password", change).statusCode());
+    change.addProperty("oldPassword", "securePassword456");
+    change.addProperty("newPassword", "short");
+    assertEquals(400, send("POST", "/api/password", change).statusCode());
+    change.addProperty("newPassword", "newPassword789");
+    HttpResponse<String> response = send("POST", "/api/password", change);
+    assertEquals(200, response.statusCode());
+    assertFalse(response.body().contains("hashedPassword"));
+
+    JsonObject credentials = new JsonObject();
+    credentials.addProperty("username", "JaneDoe");
+    credentials.addProperty("password", "securePassword456");
+    assertEquals(401, send("POST", "/api/authenticate", credentials).statusCode());
+    credentials.addProperty("password", "newPassword789");
+    assertEquals(200, send("POST", "/api/authenticate", credentials).statusCode());
+  }
+
+  @Test
+  void testUserReplacedWithoutHashKeepsPassword() throws Exception {
+    User user = new User("JaneDoe", "securePassword456");
+    send("POST", "/api/users", user);
+
+    JsonObject renamed =
+        GSON.fromJson(send("GET", "/api/users/" + user.getId(), null).body(), JsonObject.class);
+    renamed.addProperty("username", "JaneRoe");
+    assertEquals(200, send("PUT", "/api/users/" + user.getId(), renamed).statusCode());
+
+    JsonObject credentials = new JsonObject();
+    credentials.addProperty("username", "JaneRoe");
+    credentials.addProperty("password", "securePassword456");
+    assertEquals(200, send("POST", "/api/authenticate", credentials).statusCode());
+  }
+
+  @Test
+  void testTaskLifecycle() throws Exception {
+    User user = new User("JohnDoe", "securePassword123");
+    Task task = new TaskBuilder().title("Dishes").deadline(LocalDate.of(2025, 5, 21)).build();
+    task.assignUser(user.getId());
+    assertEquals(201, send("POST", "/api/tasks", task).statusCode());
+
+    HttpResponse<String> week =
+        send("GET", "/api/tasks?userId=" + user.getId() + "&from=2025-05-19&to=2025-05-25", null);
+    assertEquals(1, GSON.fromJson(week.body(), JsonArray.class).size());
+
+    task.setTitle("Laundry");
+    assertEquals(200, send("PUT", "/api/tasks/" + task.getId(), task).statusCode());
+    Task stored = GSON.fromJson(send("GET", "/api/tasks/" + task.getId(), null).body(), Task.class);
+    assertEquals("Laundry", stored.getTitle());
+
+    assertEquals(200, send("DELETE", "/api/tasks/" + task.getId(), null).statusCode());
+    assertEquals(404, send("GET", "/api/tasks/" + task.getId(), null).statusCode());
+    assertEquals(400, send("GET", "/api/tasks/not-an-id", null).statusCode());
+  }
+
+  @Test
+  void testInvalidOrDuplicateEntitiesAreRejected() throws Exception {
+    Task task = new TaskBuilder().title("Dishes").build();
+    assertEquals(201, send("POST", "/api/tasks", task).statusCode());
+    task.setTitle("Laundry");
+    assertEquals(409, send("POST", "/api/tasks", task).statusCode());
+
+    JsonObject invalid = GSON.toJsonTree(task).getAsJsonObject();
+    invalid.add("status", JsonNull.INSTANCE);
+    // sent as is, since Gson would leave out the null
+    assertEquals(400, send("PUT", "/api/tasks/" + task.getId(), invalid.toString()).statusCode());
+    invalid.addProperty("status", "UNKNOWN");
+    assertEquals(400, send("PUT", "/api/tasks/" + task.getId(), invalid).statusCode());
+    invalid = GSON.toJsonTree(task).getAsJsonObject();
+    invalid.addProperty("title", " ");
+    assertEquals(400, send("PUT", "/api/tasks/" + task.getId(), invalid).statusCode());
+    invalid = GSON.toJsonTree(new TaskBuilder().title("Ironing").build()).getAsJsonObject();
+    invalid.remove("createdAt");
+    assertEquals(400, send("POST", "/api/tasks", invalid).statusCode());
+
+    JsonObject stored =
+        GSON.fromJson(send("GET", "/api/tasks/" + task.getId(), null).body(), JsonObject.class);
+    assertEquals("Dishes", stored.get("title").getAsString());
+    assertEquals("OPEN", stored.get("status").getAsString());
+  }
+
+  @Test
+  void testSyncSendsOnlyChangesSinceSequence() throws Exception {
+    Task kept = new TaskBuilder().title("Dishes").build();
+    Task changed = new TaskBuilder().title("Laundry").build();
+    Task removed = new TaskBuilder().title("Vacuuming").build();
+    send("POST", "/api/tasks", kept);
+    send("POST", "/api/tasks", changed);
+    send("POST", "/api/tasks", removed);
+
+    JsonObject full = GSON.fromJson(send("GET", "/api/sync", null).body(), JsonObject.class);
+    assertTrue(full.get("full").getAsBoolean());
+    assertEquals(3, full.getAsJsonArray("changes").size());
+
+    changed.setTitle("Ironing");
+    send("PUT", "/api/tasks/" + changed.getId(), changed);
+    send("DELETE", "/api/tasks/" + removed.getId(), null);
+    String query =
+        "?epoch=" + full.get("epoch").getAsString() + "&sequence=" + full.get("sequence");
+    JsonObject delta =
+        GSON.fromJson(send("GET", "/api/sync" + query, null).body(), JsonObject.class);
+
+    assertFalse(delta.get("full").getAsBoolean());
+    JsonArray changes = delta.getAsJsonArray("changes");
+    assertEquals(2, changes.size());
+    JsonObject update = changes.get(0).getAsJsonObject();
+    assertEquals(changed.getId().toString(), update.get("id").getAsString());
+    assertEquals("Ironing", update.getAsJsonObject("entity").get("title").getAsString());
+    JsonObject tombstone = changes.get(1).getAsJsonObject();
+    assertEquals(removed.getId().toString(), tombstone.get("id").getAsString());
+    assertTrue(tombstone.get("removed").getAsBoolean());
+    assertEquals(delta.get("sequence").getAsLong(), tombstone.get("version").getAsLong());
+  }
+}
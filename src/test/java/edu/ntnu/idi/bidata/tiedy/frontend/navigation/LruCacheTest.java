@@ -0,0 +1,26 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.navigation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LruCacheTest {
+
+  @Test
+  void testLeastRecentlyAccessedEntryIsEvicted() {
+    LruCache<SceneName, String> cache = new LruCache<>(2);
+    cache.put(SceneName.MAIN, "main");
+    cache.put(SceneName.GROUP, "group");
+    cache.get(SceneName.MAIN);
+
+    cache.put(SceneName.PROFILE, "profile");
+
+    assertEquals(List.of(SceneName.MAIN, SceneName.PROFILE), List.copyOf(cache.keySet()));
+  }
+
+  @Test
+  void testCapacityMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new LruCache<>(0));
+  }
+}
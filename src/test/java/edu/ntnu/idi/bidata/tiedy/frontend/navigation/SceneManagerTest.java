@@ -0,0 +1,14 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.navigation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class SceneManagerTest {
+
+  @Test
+  void testCapacityMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new SceneManager(0));
+    assertDoesNotThrow(() -> new SceneManager(1).clearCache());
+  }
+}
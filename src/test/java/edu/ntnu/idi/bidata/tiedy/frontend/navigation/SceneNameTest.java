@@ -0,0 +1,26 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.navigation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.junit.jupiter.api.Test;
+
+class SceneNameTest {
+
+  @Test
+  void testEverySceneIsFoundOnTheClasspath() throws IOException {
+    for (SceneName sceneName : SceneName.values()) {
+      try (InputStream in = sceneName.getSceneURL().openStream()) {
+        assertTrue(in.read() >= 0, sceneName.name());
+      }
+    }
+  }
+
+  @Test
+  void testOnlyScenesAfterLoginAreCacheable() {
+    assertFalse(SceneName.LOGIN.isCacheable());
+    assertFalse(SceneName.REGISTER.isCacheable());
+    assertTrue(SceneName.MAIN.isCacheable());
+  }
+}
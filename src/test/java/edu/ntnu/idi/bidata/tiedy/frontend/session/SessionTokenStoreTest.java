@@ -0,0 +1,105 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.session;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import edu.ntnu.idi.bidata.tiedy.backend.model.user.User;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SessionTokenStoreTest {
+
+  private static final Instant NOW = Instant.parse("2025-05-20T12:00:00Z");
+
+  @TempDir Path directory;
+
+  private Path tokenDirectory;
+  private Path keyDirectory;
+
+  private final User user = new User("JohnDoe", "securePassword123");
+
+  @BeforeEach
+  void setUp() {
+    tokenDirectory = directory.resolve("session");
+    keyDirectory = directory.resolve("keys");
+  }
+
+  private Optional<User> findUser(UUID id) {
+    return user.getId().equals(id) ? Optional.of(user) : Optional.empty();
+  }
+
+  private SessionTokenStore storeAt(Instant instant) {
+    return new SessionTokenStore(
+        tokenDirectory, keyDirectory, Clock.fixed(instant, ZoneOffset.UTC));
+  }
+
+  @Test
+  void testSavedUserIsLoaded() {
+    storeAt(NOW).save(user);
+
+    assertEquals(Optional.of(user), storeAt(NOW.plus(Duration.ofDays(1))).load(this::findUser));
+  }
+
+  @Test
+  void testTamperedTokenIsRejected() throws IOException {
+    SessionTokenStore store = storeAt(NOW);
+    store.save(user);
+    Path tokenFile = tokenDirectory.resolve("session.token");
+    String token = Files.readString(tokenFile);
+    Files.writeString(
+        tokenFile, token.replace(user.getId().toString(), UUID.randomUUID().toString()));
+
+    assertTrue(store.load(this::findUser).isEmpty());
+    assertFalse(Files.exists(tokenFile));
+  }
+
+  @Test
+  void testKeyIsOnlyReadableByOwner() throws IOException {
+    assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+    storeAt(NOW).save(user);
+
+    Path keyFile = keyDirectory.resolve("session.key");
+    assertFalse(Files.exists(tokenDirectory.resolve("session.key")));
+    assertEquals(
+        PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(keyFile));
+    assertEquals(
+        PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(keyDirectory));
+  }
+
+  @Test
+  void testExpiredTokenIsRejected() {
+    storeAt(NOW).save(user);
+
+    assertTrue(storeAt(NOW.plus(Duration.ofDays(31))).load(this::findUser).isEmpty());
+  }
+
+  @Test
+  void testTokenIsRejectedAfterPasswordChange() {
+    SessionTokenStore store = storeAt(NOW);
+    store.save(user);
+    user.setHashedPassword("newPassword789");
+
+    assertTrue(store.load(this::findUser).isEmpty());
+    assertFalse(Files.exists(tokenDirectory.resolve("session.token")));
+  }
+
+  @Test
+  void testDeletedTokenIsNotLoaded() {
+    SessionTokenStore store = storeAt(NOW);
+    store.save(user);
+    store.delete();
+
+    assertTrue(store.load(this::findUser).isEmpty());
+  }
+}
@@ -0,0 +1,46 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.bidata.tiedy.frontend.controller.DataController;
+import org.junit.jupiter.api.Test;
+
+class DataChangeNotifierTest {
+
+  private final DataChangeNotifier notifier = DataChangeNotifier.getInstance();
+
+  /** Counts its updates, as the JavaFX controllers cannot be loaded in a test. */
+  private static class CountingController implements DataController {
+    private int updateCount;
+
+    @Override
+    public void updateData() {
+      updateCount++;
+    }
+  }
+
+  @Test
+  void testObserverIsNotifiedUntilUnregistered() {
+    CountingController controller = new CountingController();
+    controller.register();
+    controller.register();
+
+    notifier.notifyObservers();
+    assertEquals(1, controller.updateCount);
+
+    controller.unregister();
+    notifier.notifyObservers();
+    assertEquals(1, controller.updateCount);
+  }
+
+  @Test
+  void testUnregisteredObserverIsRemoved() {
+    int initialCount = notifier.getObserverCount();
+    CountingController controller = new CountingController();
+    controller.register();
+    assertEquals(initialCount + 1, notifier.getObserverCount());
+
+    controller.unregister();
+    assertEquals(initialCount, notifier.getObserverCount());
+  }
+}
@@ -0,0 +1,60 @@
+package edu.ntnu.idi.bidata.tiedy.frontend.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class WeekTaskCacheTest {
+
+  private static final LocalDate MONDAY = LocalDate.of(2025, 5, 5);
+
+  private final UUID userId = UUID.randomUUID();
+  private final ConcurrentMap<LocalDate, AtomicInteger> loadCounts = new ConcurrentHashMap<>();
+  private final WeekTaskCache cache =
+      new WeekTaskCache(
+          (user, startOfWeek) -> {
+            loadCounts.computeIfAbsent(startOfWeek, k -> new AtomicInteger()).incrementAndGet();
+            return Map.of();
+          },
+          1);
+
+  @Test
+  void testAdjacentWeeksArePrefetched() {
+    cache.get(userId, MONDAY).join();
+    cache.get(userId, MONDAY.plusWeeks(1)).join();
+    cache.get(userId, MONDAY).join();
+
+    assertEquals(1, loadCounts.get(MONDAY).get());
+    assertEquals(1, loadCounts.get(MONDAY.plusWeeks(1)).get());
+  }
+
+  @Test
+  void testInvalidateReloadsWeek() {
+    cache.get(userId, MONDAY).join();
+
+    cache.invalidate();
+    cache.get(userId, MONDAY).join();
+
+    assertEquals(2, loadCounts.get(MONDAY).get());
+  }
+
+  @Test
+  void testCancelledRequestDoesNotCancelCachedWeek() {
+    cache.get(userId, MONDAY).cancel(false);
+
+    assertFalse(cache.get(userId, MONDAY).isCancelled());
+    assertNotNull(cache.get(userId, MONDAY).join());
+    assertEquals(1, loadCounts.get(MONDAY).get());
+  }
+
+  @Test
+  void testNegativeRangeIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new WeekTaskCache((u, d) -> Map.of(), -1));
+  }
+}